@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+/**
+ * Extends the current phase as long as one of its routes has more waiting vehicles than the
+ * queue threshold, up to the maximal green time. Otherwise, the controller switches to the
+ * next phase in order with such a demand, or keeps the current phase if there is none. Once the
+ * maximal green time is reached, any waiting vehicle demands green, so that short queues are served as well.
+ */
+public class ActuatedSignalController implements SignalController {
+
+    private SignalPlan plan;
+    private long minGreenTime;
+    private long maxGreenTime;
+    private int queueThreshold;
+
+    @Override
+    public void initialize(SignalPlan plan, CSignalController config) {
+        this.plan = plan;
+        this.minGreenTime = config.minGreenTime;
+        this.maxGreenTime = config.maxGreenTime;
+        this.queueThreshold = config.queueThreshold;
+    }
+
+    @Override
+    public int nextPhase(int phase, long greenTime, int[] queues) {
+        if (greenTime < minGreenTime) {
+            return phase;
+        }
+        if (greenTime >= maxGreenTime) {
+            return nextDemandedPhase(phase, queues, 0);
+        }
+        if (plan.getMaxQueue(phase, queues) > queueThreshold) {
+            return phase;
+        }
+        return nextDemandedPhase(phase, queues, queueThreshold);
+    }
+
+    private int nextDemandedPhase(int phase, int[] queues, int threshold) {
+        final int phaseCount = plan.getPhaseCount();
+        for (int i = 1; i < phaseCount; i++) {
+            final int candidate = (phase + i) % phaseCount;
+            if (plan.getMaxQueue(candidate, queues) > threshold) {
+                return candidate;
+            }
+        }
+        return phase;
+    }
+
+    @Override
+    public long getDecisionTime(int phase, long greenTime) {
+        if (greenTime < minGreenTime) {
+            return minGreenTime;
+        }
+        return greenTime < maxGreenTime ? maxGreenTime : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isDecisionRequired(int phase, long greenTime, int route, int previousQueue, int queue) {
+        if (greenTime >= maxGreenTime) {
+            // any vehicle waiting on a red route may end the current phase now
+            return (previousQueue > 0) != (queue > 0);
+        }
+        return (previousQueue <= queueThreshold) != (queue <= queueThreshold);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+/**
+ * Decides when a vehicle sends its next beacon, following the CAM triggering conditions of ETSI EN 302 637-2.
+ * A beacon is sent if the heading, position or speed changed by more than the configured thresholds since
+ * the last beacon, but not more often than the minimum interval and at least once per maximum interval.
+ * Beacons are sent as full {@link CAM} (key frame) if the lane, route or direction of the vehicle changed
+ * or the last key frame is older than the maximum interval, otherwise as {@link CAMDelta}.
+ */
+public class BeaconTrigger {
+
+    public enum Beacon {
+        NONE, DELTA, FULL
+    }
+
+    private final long minInterval;
+    private final long maxInterval;
+    private final double positionChange;
+    private final double headingChange;
+    private final double speedChange;
+
+    private CAM lastSent;
+    private double lastHeading;
+    private long lastSentTime;
+
+    private CAM keyframe;
+    private long keyframeTime;
+
+    /**
+     * @param minInterval    minimum time between two beacons [ns]
+     * @param maxInterval    maximum time between two beacons, also the maximum age of a key frame [ns]
+     * @param positionChange position change which triggers a beacon [m]
+     * @param headingChange  heading change which triggers a beacon [degree]
+     * @param speedChange    speed change which triggers a beacon [m/s]
+     */
+    public BeaconTrigger(long minInterval, long maxInterval, double positionChange, double headingChange, double speedChange) {
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.positionChange = positionChange;
+        this.headingChange = headingChange;
+        this.speedChange = speedChange;
+    }
+
+    /**
+     * Decides if a beacon is to be sent for the given state of the vehicle. If so, the state is remembered as
+     * sent, and in case of {@link Beacon#FULL} the given {@link CAM} becomes the new key frame.
+     *
+     * @param time    the current simulation time [ns]
+     * @param current the current state of the vehicle
+     * @param heading the current heading of the vehicle [degree]
+     * @return the kind of beacon to send
+     */
+    public Beacon next(long time, CAM current, double heading) {
+        if (lastSent != null) {
+            final long elapsed = time - lastSentTime;
+            if (elapsed < minInterval) {
+                return Beacon.NONE;
+            }
+            if (elapsed < maxInterval && !isTriggered(current, heading)) {
+                return Beacon.NONE;
+            }
+        }
+        final Beacon beacon = requiresKeyframe(time, current) ? Beacon.FULL : Beacon.DELTA;
+        if (beacon == Beacon.FULL) {
+            keyframe = current;
+            keyframeTime = time;
+        }
+        lastSent = current;
+        lastHeading = heading;
+        lastSentTime = time;
+        return beacon;
+    }
+
+    /**
+     * Returns the latest {@link CAM} sent as key frame, which {@link CAMDelta}s refer to.
+     */
+    public CAM getKeyframe() {
+        return keyframe;
+    }
+
+    private boolean isTriggered(CAM current, double heading) {
+        return current.position.distanceTo(lastSent.position) > positionChange
+                || headingDifference(heading, lastHeading) > headingChange
+                || Math.abs(current.speed - lastSent.speed) > speedChange;
+    }
+
+    private boolean requiresKeyframe(long time, CAM current) {
+        return keyframe == null
+                || time - keyframeTime >= maxInterval
+                || current.lane != keyframe.lane
+                || current.direction != keyframe.direction
+                || current.isMovingTowards != keyframe.isMovingTowards
+                || !current.route.equals(keyframe.route);
+    }
+
+    private static double headingDifference(double a, double b) {
+        final double difference = Math.abs(a - b) % 360;
+        return difference > 180 ? 360 - difference : difference;
+    }
+}
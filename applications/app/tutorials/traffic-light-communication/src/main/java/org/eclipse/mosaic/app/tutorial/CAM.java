@@ -26,6 +26,7 @@ public class CAM implements Serializable {
     private static final long serialVersionUID = 1L;
     private static final int hash = 744012600;
     public int TTL = 6;
+    public int sequence; // beacon sequence number, referenced by CAMDelta
     public String id; // vehicle id
     public double speed; // m/s
     public DriveDirection direction; // 0 = forward, 1 = backward
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import java.io.Serializable;
+
+/**
+ * The changing part of a {@link CAM}, encoded relative to the latest full {@link CAM} (the key frame)
+ * of the same vehicle. Lane, route and direction are taken from the key frame, the position is sent as
+ * offset to the position of the key frame. Receivers which missed the key frame ignore the delta.
+ */
+public class CAMDelta implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Resolution of the position offsets [degree].
+     */
+    public static final double OFFSET_RESOLUTION = 1e-7;
+
+    public String id; // vehicle id
+    public int keyframe; // sequence number of the CAM this delta refers to
+    public double speed; // m/s
+    public double acceleration; // m/s^2
+    public int latitude_offset; // offset to the latitude of the key frame, in OFFSET_RESOLUTION
+    public int longitude_offset; // offset to the longitude of the key frame, in OFFSET_RESOLUTION
+
+    /**
+     * Creates the delta of the current state of a vehicle to its latest sent {@link CAM}.
+     */
+    public static CAMDelta of(CAM keyframe, CAM current) {
+        CAMDelta delta = new CAMDelta();
+        delta.id = keyframe.id;
+        delta.keyframe = keyframe.sequence;
+        delta.speed = current.speed;
+        delta.acceleration = current.acceleration;
+        delta.latitude_offset = (int) Math.round((current.position.getLatitude() - keyframe.position.getLatitude()) / OFFSET_RESOLUTION);
+        delta.longitude_offset = (int) Math.round((current.position.getLongitude() - keyframe.position.getLongitude()) / OFFSET_RESOLUTION);
+        return delta;
+    }
+
+    /**
+     * Returns a new {@link CAM} describing the state of the vehicle after applying this delta to the given key frame.
+     */
+    public CAM applyTo(CAM keyframe) {
+        CAM cam = new CAM(keyframe.id, speed, keyframe.direction, keyframe.isMovingTowards, acceleration, keyframe.lane, keyframe.route,
+                GeoPoint.latLon(
+                        keyframe.position.getLatitude() + latitude_offset * OFFSET_RESOLUTION,
+                        keyframe.position.getLongitude() + longitude_offset * OFFSET_RESOLUTION
+                )
+        );
+        cam.sequence = keyframe.sequence;
+        return cam;
+    }
+
+    public String toString() {
+        return "CAMDelta{" +
+                "id='" + id + '\'' +
+                ", keyframe=" + keyframe +
+                ", speed=" + speed +
+                ", acceleration=" + acceleration +
+                ", latitude_offset=" + latitude_offset +
+                ", longitude_offset=" + longitude_offset +
+                '}';
+    }
+}
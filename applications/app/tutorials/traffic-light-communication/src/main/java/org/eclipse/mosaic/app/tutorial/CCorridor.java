@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.gson.annotations.JsonAdapter;
+
+/**
+ * Configuration of the coordination of a virtual traffic light with its neighbours along a corridor.
+ * The coordinated phase of all traffic lights is started with an offset to the upstream traffic light,
+ * which is the travel time between both at the progression speed (green wave).
+ */
+public class CCorridor {
+
+    /**
+     * The id of the upstream road side unit whose coordinated phase is followed,
+     * or {@code null} if this is the first traffic light of the corridor.
+     */
+    public String upstream = null;
+
+    /**
+     * The phase of the signal plan which serves the corridor.
+     */
+    public int coordinatedPhase = 0;
+
+    /**
+     * The cycle time shared by all traffic lights of the corridor. Unit: [ns].
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long cycleTime = 60 * TIME.SECOND;
+
+    /**
+     * The time the coordinated phase is held at least after its start, so that the platoon can pass. Unit: [ns].
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long holdTime = 15 * TIME.SECOND;
+
+    /**
+     * The speed of the vehicles travelling along the corridor. Unit: [m/s].
+     */
+    public double progressionSpeed = 13.9;
+}
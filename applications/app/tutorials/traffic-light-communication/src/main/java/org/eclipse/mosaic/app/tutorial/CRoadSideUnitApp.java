@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+/**
+ * Configuration of the {@link RoadSideUnitApp}, read from {@code RoadSideUnitApp.json}
+ * (or {@code RoadSideUnitApp_<rsu id>.json}) within the application directory of the scenario.
+ */
+public class CRoadSideUnitApp {
+
+    /**
+     * The signal controller and the signal plan of the managed intersection.
+     */
+    public CSignalController signalController = new CSignalController();
+
+    /**
+     * The coordination with the neighbouring traffic lights of a corridor, or {@code null}
+     * if the intersection is controlled on its own.
+     */
+    public CCorridor corridor = null;
+}
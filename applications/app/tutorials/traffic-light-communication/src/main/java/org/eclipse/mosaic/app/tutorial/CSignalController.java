@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.gson.annotations.JsonAdapter;
+
+/**
+ * Configuration of the {@link SignalController} of a virtual traffic light. The default values
+ * describe the intersection of the tutorial scenario.
+ */
+public class CSignalController {
+
+    /**
+     * The signal controller to use. Either one of {@code fixed-time}, {@code actuated}, {@code max-pressure},
+     * or the full class name of a custom {@link SignalController} implementation.
+     */
+    public String controller = "fixed-time";
+
+    /**
+     * Pairs of routes which must never be green at the same time.
+     */
+    public int[][] conflicts = {
+            {3, 4}, {3, 5}, {3, 6},
+            {1, 4}, {1, 5},
+            {2, 4}, {2, 5}
+    };
+
+    /**
+     * The phases of the signal plan, each listing the routes which are green during the phase.
+     * The first phase is shown on startup.
+     */
+    public int[][] phases = {
+            {4, 5, 6},
+            {1, 2, 3},
+            {1, 2, 6}
+    };
+
+    /**
+     * Green time of each phase for the {@code fixed-time} controller. Unit: [ns].
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long greenTime = 10 * TIME.SECOND;
+
+    /**
+     * Minimal green time of a phase for the {@code actuated} and {@code max-pressure} controllers. Unit: [ns].
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long minGreenTime = 5 * TIME.SECOND;
+
+    /**
+     * Maximal green time of a phase for the {@code actuated} and {@code max-pressure} controllers,
+     * after which another phase is preferred if any vehicle is waiting for it. Unit: [ns].
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long maxGreenTime = 30 * TIME.SECOND;
+
+    /**
+     * Number of waiting vehicles on a route above which the {@code actuated} controller demands green for it
+     * before the maximal green time is reached. Whenever the queue of a route crosses this threshold, the next
+     * phase is computed immediately.
+     */
+    public int queueThreshold = 5;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+/**
+ * The stop line of one lane of an approach to the virtual traffic light.
+ */
+public class CStopLine {
+
+    /**
+     * The id of the road side unit managing the traffic light of this stop line.
+     */
+    public String rsu = "rsu_0";
+
+    /**
+     * The routes approaching the traffic light over this lane.
+     */
+    public int[] routes;
+
+    /**
+     * The index of the lane.
+     */
+    public int lane;
+
+    /**
+     * The position of the stop line on the lane.
+     */
+    public GeoPoint position;
+
+    public CStopLine() {
+        // for deserialization
+    }
+
+    public CStopLine(int[] routes, int lane, GeoPoint position) {
+        this.routes = routes;
+        this.lane = lane;
+        this.position = position;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuration of the {@link VehicleToTrafficLightApp}, read from {@code VehicleToTrafficLightApp.json}
+ * within the application directory of the scenario.
+ */
+public class CVehicleToTrafficLightApp {
+
+    /**
+     * The road side unit to report to, until the nearest one is discovered from the announcements of the road side units.
+     */
+    public String defaultRsu = "rsu_0";
+
+    /**
+     * The position of the default road side unit.
+     */
+    public GeoPoint defaultRsuPosition = GeoPoint.latLon(40.743457, -73.988281);
+
+    /**
+     * The stop lines of all approaches to the virtual traffic lights. The default values
+     * describe the intersection of the tutorial scenario.
+     */
+    public List<CStopLine> stopLines = new ArrayList<>(Arrays.asList(
+            new CStopLine(new int[]{1, 2, 3}, 0, GeoPoint.latLon(40.743499, -73.988424)),
+            new CStopLine(new int[]{1, 2, 3}, 1, GeoPoint.latLon(40.743524, -73.988404)),
+            new CStopLine(new int[]{4, 5, 6}, 0, GeoPoint.latLon(40.743530, -73.988275)),
+            new CStopLine(new int[]{4, 5, 6}, 1, GeoPoint.latLon(40.743535, -73.988240)),
+            new CStopLine(new int[]{4, 5, 6}, 2, GeoPoint.latLon(40.743521, -73.988210)),
+            new CStopLine(new int[]{4, 5, 6}, 3, GeoPoint.latLon(40.743507, -73.988176))
+    ));
+}
@@ -38,6 +38,7 @@ public class Control implements Serializable {
 
     private static final long serialVersionUID = 1L;
     public int TTL = 6;
+    public long message_id; // unique id of the control message, 0 if unknown
     public String to_who;
     public GeoPoint general_location;
     public Rule rule;
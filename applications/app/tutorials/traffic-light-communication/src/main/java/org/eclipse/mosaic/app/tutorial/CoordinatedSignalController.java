@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+/**
+ * Applies the coordination of a {@link GreenWave} on top of another signal controller. When the coordinated
+ * phase is due, it is requested by {@link #requestCoordinatedPhase}. If another phase is shown, the coordinated
+ * phase forces it off as soon as its minimal green time has passed. The coordinated phase is then held for the
+ * hold time of the corridor, before the decisions are left to the wrapped controller again.
+ */
+public class CoordinatedSignalController implements SignalController {
+
+    private final SignalController controller;
+    private final int coordinatedPhase;
+    private final long holdTime;
+    private long minGreenTime;
+
+    /**
+     * Whether the coordinated phase has been requested, but not yet started.
+     */
+    private boolean forceOff = false;
+    /**
+     * The green time of the coordinated phase until which it is held, or -1 if it is not held.
+     */
+    private long holdUntil = -1;
+
+    public CoordinatedSignalController(SignalController controller, GreenWave greenWave) {
+        this.controller = controller;
+        this.coordinatedPhase = greenWave.getCoordinatedPhase();
+        this.holdTime = greenWave.getHoldTime();
+    }
+
+    @Override
+    public void initialize(SignalPlan plan, CSignalController config) {
+        controller.initialize(plan, config);
+        this.minGreenTime = config.minGreenTime;
+    }
+
+    /**
+     * Requests the coordinated phase, as its start within the cycle of the corridor is due.
+     *
+     * @param phase     the current phase
+     * @param greenTime the time since the current phase has been switched to green [ns]
+     */
+    public void requestCoordinatedPhase(int phase, long greenTime) {
+        if (phase == coordinatedPhase) {
+            forceOff = false;
+            holdUntil = greenTime + holdTime;
+        } else {
+            forceOff = true;
+        }
+    }
+
+    @Override
+    public int nextPhase(int phase, long greenTime, int[] queues) {
+        if (phase == coordinatedPhase && greenTime < holdUntil) {
+            return phase;
+        }
+        if (forceOff) {
+            if (greenTime < minGreenTime) {
+                return phase;
+            }
+            forceOff = false;
+            holdUntil = holdTime;
+            return coordinatedPhase;
+        }
+        final int next = controller.nextPhase(phase, greenTime, queues);
+        if (next != phase) {
+            holdUntil = -1;
+        }
+        return next;
+    }
+
+    @Override
+    public long getDecisionTime(int phase, long greenTime) {
+        if (phase == coordinatedPhase && greenTime < holdUntil) {
+            return holdUntil;
+        }
+        if (forceOff) {
+            return minGreenTime;
+        }
+        return controller.getDecisionTime(phase, greenTime);
+    }
+
+    @Override
+    public boolean isDecisionRequired(int phase, long greenTime, int route, int previousQueue, int queue) {
+        if (forceOff || phase == coordinatedPhase && greenTime < holdUntil) {
+            // the next decision is already scheduled and does not depend on the queues
+            return false;
+        }
+        return controller.isDecisionRequired(phase, greenTime, route, previousQueue, queue);
+    }
+}
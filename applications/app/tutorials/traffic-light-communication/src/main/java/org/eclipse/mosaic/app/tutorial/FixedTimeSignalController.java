@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+/**
+ * Shows all phases one after another, each for the configured green time.
+ */
+public class FixedTimeSignalController implements SignalController {
+
+    private int phaseCount;
+    private long greenTime;
+
+    @Override
+    public void initialize(SignalPlan plan, CSignalController config) {
+        this.phaseCount = plan.getPhaseCount();
+        this.greenTime = config.greenTime;
+    }
+
+    @Override
+    public int nextPhase(int phase, long greenTime, int[] queues) {
+        return greenTime < this.greenTime ? phase : (phase + 1) % phaseCount;
+    }
+
+    @Override
+    public long getDecisionTime(int phase, long greenTime) {
+        return this.greenTime;
+    }
+
+    @Override
+    public boolean isDecisionRequired(int phase, long greenTime, int route, int previousQueue, int queue) {
+        return false;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.rti.TIME;
+
+/**
+ * Computes the start times of the coordinated phase of a traffic light within a corridor. Vehicles leaving
+ * the upstream traffic light at the start of its coordinated phase arrive after the travel time at the
+ * progression speed, hence starting the coordinated phase with this offset lets platoons pass all traffic
+ * lights of the corridor without stopping, which maximizes the throughput in the direction of the corridor.
+ */
+public class GreenWave {
+
+    private final int coordinatedPhase;
+    private final long cycleTime;
+    private final long holdTime;
+    private final double progressionSpeed;
+
+    /**
+     * @throws IllegalArgumentException if the configuration is invalid for the given signal plan
+     */
+    public GreenWave(CCorridor config, SignalPlan plan) {
+        if (config.coordinatedPhase < 0 || config.coordinatedPhase >= plan.getPhaseCount()) {
+            throw new IllegalArgumentException("Unknown coordinated phase " + config.coordinatedPhase);
+        }
+        if (config.cycleTime <= 0 || config.progressionSpeed <= 0) {
+            throw new IllegalArgumentException("Cycle time and progression speed of a corridor must be positive");
+        }
+        if (config.holdTime < 0 || config.holdTime > config.cycleTime) {
+            throw new IllegalArgumentException("Hold time of a corridor must be within its cycle time");
+        }
+        this.coordinatedPhase = config.coordinatedPhase;
+        this.cycleTime = config.cycleTime;
+        this.holdTime = config.holdTime;
+        this.progressionSpeed = config.progressionSpeed;
+    }
+
+    public int getCoordinatedPhase() {
+        return coordinatedPhase;
+    }
+
+    public long getCycleTime() {
+        return cycleTime;
+    }
+
+    public long getHoldTime() {
+        return holdTime;
+    }
+
+    /**
+     * Returns the offset of the coordinated phase to the one of a traffic light in the given distance,
+     * which is the travel time at progression speed within one cycle.
+     *
+     * @param distance the distance to the upstream traffic light [m]
+     * @return the offset [ns]
+     */
+    public long getOffset(double distance) {
+        return Math.round(distance / progressionSpeed * TIME.SECOND) % cycleTime;
+    }
+
+    /**
+     * Returns the next start time of the coordinated phase, not before the given time.
+     *
+     * @param upstreamStart a start time of the coordinated phase of the upstream traffic light [ns]
+     * @param distance      the distance to the upstream traffic light [m]
+     * @param time          the current simulation time [ns]
+     * @return the next start time of the coordinated phase [ns]
+     */
+    public long nextStart(long upstreamStart, double distance, long time) {
+        long start = upstreamStart + getOffset(distance);
+        if (start < time) {
+            start += (time - start + cycleTime - 1) / cycleTime * cycleTime;
+        }
+        return start;
+    }
+}
@@ -25,6 +25,7 @@ public class InDetectionZone implements Serializable{
     private static final long serialVersionUID = 1L;
     public String message = "It's Britney Bitch!";
     public int TTL = 6;
+    public long message_id; // unique id of the detection, 0 if unknown
     public String id;
     public int route;
     public int lane;
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The vehicles waiting at the virtual traffic light, per route and lane. The queues of all
+ * routes and lanes known by the {@link TrafficLight} are created once and held in a dense array.
+ */
+public class LaneQueues {
+
+    @SuppressWarnings("unchecked")
+    private final Set<String>[] queues = new Set[TrafficLight.ROUTES * TrafficLight.LANES];
+    private final int[] routeSizes = new int[TrafficLight.ROUTES + 1];
+
+    public LaneQueues() {
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new HashSet<>();
+        }
+    }
+
+    private static int index(int route, int lane) {
+        return (route - 1) * TrafficLight.LANES + lane;
+    }
+
+    /**
+     * Adds the vehicle to the queue of the given route and lane.
+     *
+     * @return {@code false}, if the route or lane is unknown
+     */
+    public boolean add(int route, int lane, String vehicleId) {
+        if (!TrafficLight.isValid(route, lane)) {
+            return false;
+        }
+        if (queues[index(route, lane)].add(vehicleId)) {
+            routeSizes[route]++;
+        }
+        return true;
+    }
+
+    public boolean remove(int route, int lane, String vehicleId) {
+        if (TrafficLight.isValid(route, lane) && queues[index(route, lane)].remove(vehicleId)) {
+            routeSizes[route]--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of vehicles waiting on all lanes of the given route.
+     */
+    public int size(int route) {
+        return TrafficLight.isValid(route, 0) ? routeSizes[route] : 0;
+    }
+
+    /**
+     * Copies the number of waiting vehicles of all routes into the given array, indexed by route.
+     */
+    public int[] sizes(int[] target) {
+        System.arraycopy(routeSizes, 0, target, 0, routeSizes.length);
+        return target;
+    }
+
+    public int size(int route, int lane) {
+        return TrafficLight.isValid(route, lane) ? queues[index(route, lane)].size() : 0;
+    }
+
+    /**
+     * Returns the vehicles waiting on the given route and lane. The returned set
+     * is the queue itself and must not be modified.
+     */
+    public Set<String> get(int route, int lane) {
+        return TrafficLight.isValid(route, lane) ? queues[index(route, lane)] : Collections.emptySet();
+    }
+}
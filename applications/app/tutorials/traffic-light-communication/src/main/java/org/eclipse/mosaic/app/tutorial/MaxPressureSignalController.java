@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+/**
+ * Switches to the phase serving the most waiting vehicles once the minimal green time has passed.
+ * The current phase is kept on ties, and is only considered until the maximal green time is reached.
+ * As the pressure of each phase depends on all queues, every change of a queue leads to a new decision.
+ */
+public class MaxPressureSignalController implements SignalController {
+
+    private SignalPlan plan;
+    private long minGreenTime;
+    private long maxGreenTime;
+
+    @Override
+    public void initialize(SignalPlan plan, CSignalController config) {
+        this.plan = plan;
+        this.minGreenTime = config.minGreenTime;
+        this.maxGreenTime = config.maxGreenTime;
+    }
+
+    @Override
+    public int nextPhase(int phase, long greenTime, int[] queues) {
+        if (greenTime < minGreenTime) {
+            return phase;
+        }
+        final boolean keepCurrent = greenTime < maxGreenTime;
+        int best = phase;
+        int bestPressure = keepCurrent ? plan.getPressure(phase, queues) : 0;
+        for (int candidate = 0; candidate < plan.getPhaseCount(); candidate++) {
+            if (candidate == phase) {
+                continue;
+            }
+            final int pressure = plan.getPressure(candidate, queues);
+            if (pressure > bestPressure) {
+                best = candidate;
+                bestPressure = pressure;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public long getDecisionTime(int phase, long greenTime) {
+        if (greenTime < minGreenTime) {
+            return minGreenTime;
+        }
+        return greenTime < maxGreenTime ? maxGreenTime : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.math.Vector3d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The neighbours known from their latest {@link CAM}, used to select relays for multi-hop messages.
+ * Neighbours are ordered by their distance to an anchor (e.g. the nearest traffic light), which is computed
+ * once per received {@link CAM}. Additionally, the neighbours of each route and lane are kept in their own heap,
+ * and all neighbours are sorted along the x axis of the projected coordinates to find the neighbour nearest to
+ * any position. Neighbours not heard of within the expiry time are removed on {@link #expire}.
+ *
+ * <p>The entry of a neighbour is reused for all of its {@link CAM}s, and the indexes are updated in place,
+ * hence an update of a known neighbour does not allocate.</p>
+ */
+public class NeighbourTable {
+
+    private static final int ALL = 0;
+    private static final int LANE = 1;
+
+    private static final class Entry {
+        private CAM cam;
+        private CAM keyframe;
+        private long lastSeen;
+        private final Vector3d position = new Vector3d();
+        private double anchorDistance;
+        private AnchorHeap laneHeap;
+        /**
+         * The index of this entry in the heap of all neighbours and in the heap of its lane.
+         */
+        private final int[] heapIndex = new int[2];
+        private int sortedIndex;
+        private Entry older;
+        private Entry newer;
+    }
+
+    private final static Comparator<Entry> BY_ANCHOR_DISTANCE = (a, b) -> {
+        final int result = Double.compare(a.anchorDistance, b.anchorDistance);
+        return result != 0 ? result : a.cam.id.compareTo(b.cam.id);
+    };
+
+    private GeoPoint anchor;
+    private final Vector3d anchorPosition = new Vector3d();
+    private final Vector3d query = new Vector3d();
+    private final long expiry;
+
+    private final Map<String, Entry> byId = new HashMap<>();
+    private final AnchorHeap byAnchorDistance = new AnchorHeap(ALL);
+    /**
+     * The neighbours ordered by their distance to the anchor, per route and indexed by lane.
+     */
+    private final Map<String, List<AnchorHeap>> byLaneAnchorDistance = new HashMap<>();
+    /**
+     * All neighbours, sorted by the x coordinate of their projected position.
+     */
+    private Entry[] sorted = new Entry[16];
+    private int size;
+
+    /**
+     * The least and most recently seen neighbours, linked in order of their last update.
+     */
+    private Entry oldest;
+    private Entry newest;
+
+    /**
+     * @param anchor the position to order the neighbours by
+     * @param expiry time after which a neighbour is removed if no new {@link CAM} was received [ns]
+     */
+    public NeighbourTable(GeoPoint anchor, long expiry) {
+        this.anchor = anchor;
+        this.anchor.toVector3d(anchorPosition);
+        this.expiry = expiry;
+    }
+
+    /**
+     * Adds the sender of the given {@link CAM} or updates its known state.
+     *
+     * @param cam  the received {@link CAM}
+     * @param time the current simulation time [ns]
+     */
+    public void update(CAM cam, long time) {
+        Entry entry = byId.get(cam.id);
+        if (entry == null) {
+            entry = new Entry();
+            byId.put(cam.id, entry);
+        }
+        entry.keyframe = cam;
+        refresh(entry, cam, time);
+    }
+
+    /**
+     * Applies the given {@link CAMDelta} to the known state of its sender. Deltas of unknown
+     * neighbours or referring to another key frame than the latest received one are ignored.
+     *
+     * @param delta the received {@link CAMDelta}
+     * @param time  the current simulation time [ns]
+     * @return the updated state of the neighbour, or {@code null} if the delta could not be applied
+     */
+    public CAM apply(CAMDelta delta, long time) {
+        final Entry entry = byId.get(delta.id);
+        if (entry == null || entry.keyframe.sequence != delta.keyframe) {
+            return null;
+        }
+        final CAM cam = delta.applyTo(entry.keyframe);
+        refresh(entry, cam, time);
+        return cam;
+    }
+
+    /**
+     * Changes the position the neighbours are ordered by, e.g. if another traffic light became the nearest one.
+     */
+    public void setAnchor(GeoPoint anchor) {
+        if (anchor.equals(this.anchor)) {
+            return;
+        }
+        this.anchor = anchor;
+        anchor.toVector3d(anchorPosition);
+        for (int i = 0; i < size; i++) {
+            sorted[i].anchorDistance = sorted[i].position.distanceTo(anchorPosition);
+        }
+        byAnchorDistance.heapify();
+        for (List<AnchorHeap> laneHeaps : byLaneAnchorDistance.values()) {
+            for (int lane = 0; lane < laneHeaps.size(); lane++) {
+                laneHeaps.get(lane).heapify();
+            }
+        }
+    }
+
+    /**
+     * Removes the given neighbour.
+     *
+     * @return its latest {@link CAM}, or {@code null} if it was not known
+     */
+    public CAM remove(String id) {
+        final Entry entry = byId.remove(id);
+        if (entry == null) {
+            return null;
+        }
+        removeEntry(entry);
+        return entry.cam;
+    }
+
+    /**
+     * Removes all neighbours whose latest {@link CAM} is older than the expiry time.
+     *
+     * @param time the current simulation time [ns]
+     */
+    public void expire(long time) {
+        while (oldest != null && time - oldest.lastSeen > expiry) {
+            byId.remove(oldest.cam.id);
+            removeEntry(oldest);
+        }
+    }
+
+    public CAM get(String id) {
+        final Entry entry = byId.get(id);
+        return entry != null ? entry.cam : null;
+    }
+
+    public boolean contains(String id) {
+        return byId.containsKey(id);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the neighbour closest to the anchor in O(1), or {@code null} if there is none.
+     */
+    public CAM getNearestToAnchor() {
+        return byAnchorDistance.isEmpty() ? null : byAnchorDistance.first().cam;
+    }
+
+    /**
+     * Returns the neighbour closest to the anchor driving on the given route and lane in O(1), or the neighbour
+     * closest to the anchor if there is none. Returns {@code null} if there are no neighbours at all.
+     */
+    public CAM getNearestToAnchor(String route, int lane) {
+        final List<AnchorHeap> laneHeaps = byLaneAnchorDistance.get(route);
+        if (laneHeaps != null && lane >= 0 && lane < laneHeaps.size() && !laneHeaps.get(lane).isEmpty()) {
+            return laneHeaps.get(lane).first().cam;
+        }
+        return getNearestToAnchor();
+    }
+
+    /**
+     * Returns the neighbour closest to the given position, or {@code null} if there is none. Starting at the
+     * x coordinate of the position, the neighbours are visited in both directions along the x axis, until their
+     * distance along this axis alone exceeds the distance of the nearest neighbour found so far. This takes
+     * O(log n) plus the number of neighbours within this distance along the x axis.
+     */
+    public CAM getNearestTo(GeoPoint position) {
+        if (size == 0) {
+            return null;
+        }
+        position.toVector3d(query);
+        int right = lowerBound(query.x);
+        int left = right - 1;
+        Entry nearest = null;
+        double nearestDistanceSqr = Double.MAX_VALUE;
+        while (left >= 0 || right < size) {
+            final double leftGap = left >= 0 ? query.x - sorted[left].position.x : Double.MAX_VALUE;
+            final double rightGap = right < size ? sorted[right].position.x - query.x : Double.MAX_VALUE;
+            final double gap = Math.min(leftGap, rightGap);
+            if (gap * gap >= nearestDistanceSqr) {
+                break;
+            }
+            final Entry entry = leftGap < rightGap ? sorted[left--] : sorted[right++];
+            final double distanceSqr = entry.position.distanceSqrTo(query);
+            if (distanceSqr < nearestDistanceSqr) {
+                nearest = entry;
+                nearestDistanceSqr = distanceSqr;
+            }
+        }
+        return nearest != null ? nearest.cam : null;
+    }
+
+    private void refresh(Entry entry, CAM cam, long time) {
+        final boolean known = entry.cam != null;
+        if (known) {
+            unlink(entry);
+        }
+        entry.cam = cam;
+        entry.lastSeen = time;
+        cam.position.toVector3d(entry.position);
+        entry.anchorDistance = entry.position.distanceTo(anchorPosition);
+
+        final AnchorHeap laneHeap = getLaneHeap(cam.route, cam.lane);
+        if (known) {
+            byAnchorDistance.update(entry);
+            if (entry.laneHeap == laneHeap) {
+                if (laneHeap != null) {
+                    laneHeap.update(entry);
+                }
+            } else {
+                if (entry.laneHeap != null) {
+                    entry.laneHeap.remove(entry);
+                }
+                if (laneHeap != null) {
+                    laneHeap.add(entry);
+                }
+            }
+            resort(entry);
+        } else {
+            byAnchorDistance.add(entry);
+            if (laneHeap != null) {
+                laneHeap.add(entry);
+            }
+            insertSorted(entry);
+        }
+        entry.laneHeap = laneHeap;
+        linkNewest(entry);
+    }
+
+    private AnchorHeap getLaneHeap(String route, int lane) {
+        if (route == null || lane < 0) {
+            return null;
+        }
+        List<AnchorHeap> laneHeaps = byLaneAnchorDistance.get(route);
+        if (laneHeaps == null) {
+            laneHeaps = new ArrayList<>();
+            byLaneAnchorDistance.put(route, laneHeaps);
+        }
+        while (laneHeaps.size() <= lane) {
+            laneHeaps.add(new AnchorHeap(LANE));
+        }
+        return laneHeaps.get(lane);
+    }
+
+    private void removeEntry(Entry entry) {
+        byAnchorDistance.remove(entry);
+        if (entry.laneHeap != null) {
+            entry.laneHeap.remove(entry);
+            entry.laneHeap = null;
+        }
+        unlink(entry);
+        final int index = entry.sortedIndex;
+        System.arraycopy(sorted, index + 1, sorted, index, size - index - 1);
+        sorted[--size] = null;
+        for (int i = index; i < size; i++) {
+            sorted[i].sortedIndex = i;
+        }
+    }
+
+    /**
+     * Returns the index of the first neighbour whose x coordinate is not less than the given one.
+     */
+    private int lowerBound(double x) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sorted[middle].position.x < x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void insertSorted(Entry entry) {
+        if (size == sorted.length) {
+            sorted = Arrays.copyOf(sorted, size * 2);
+        }
+        entry.sortedIndex = size;
+        sorted[size++] = entry;
+        resort(entry);
+    }
+
+    /**
+     * Moves the given entry to its position along the x axis. As vehicles move only a few meters between
+     * two {@link CAM}s, the entry usually stays in place or is swapped with one of its direct neighbours.
+     */
+    private void resort(Entry entry) {
+        int index = entry.sortedIndex;
+        while (index > 0 && sorted[index - 1].position.x > entry.position.x) {
+            moveSorted(index - 1, index);
+            index--;
+        }
+        while (index < size - 1 && sorted[index + 1].position.x < entry.position.x) {
+            moveSorted(index + 1, index);
+            index++;
+        }
+        sorted[index] = entry;
+        entry.sortedIndex = index;
+    }
+
+    private void moveSorted(int from, int to) {
+        sorted[to] = sorted[from];
+        sorted[to].sortedIndex = to;
+    }
+
+    private void linkNewest(Entry entry) {
+        entry.older = newest;
+        entry.newer = null;
+        if (newest != null) {
+            newest.newer = entry;
+        } else {
+            oldest = entry;
+        }
+        newest = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.older != null) {
+            entry.older.newer = entry.newer;
+        } else {
+            oldest = entry.newer;
+        }
+        if (entry.newer != null) {
+            entry.newer.older = entry.older;
+        } else {
+            newest = entry.older;
+        }
+        entry.older = null;
+        entry.newer = null;
+    }
+
+    /**
+     * A binary min-heap of entries ordered by their distance to the anchor. Each entry stores its index
+     * within the heap, so that it can be updated or removed in O(log n) without searching it.
+     */
+    private static final class AnchorHeap {
+
+        private final int slot;
+        private Entry[] heap = new Entry[8];
+        private int size;
+
+        private AnchorHeap(int slot) {
+            this.slot = slot;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private Entry first() {
+            return heap[0];
+        }
+
+        private void add(Entry entry) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            set(size++, entry);
+            siftUp(entry.heapIndex[slot]);
+        }
+
+        private void remove(Entry entry) {
+            final int index = entry.heapIndex[slot];
+            final Entry last = heap[--size];
+            heap[size] = null;
+            if (last != entry) {
+                set(index, last);
+                siftDown(index);
+                siftUp(last.heapIndex[slot]);
+            }
+        }
+
+        private void update(Entry entry) {
+            siftDown(entry.heapIndex[slot]);
+            siftUp(entry.heapIndex[slot]);
+        }
+
+        private void heapify() {
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        private void siftUp(int index) {
+            final Entry entry = heap[index];
+            while (index > 0) {
+                final int parent = (index - 1) >>> 1;
+                if (BY_ANCHOR_DISTANCE.compare(entry, heap[parent]) >= 0) {
+                    break;
+                }
+                set(index, heap[parent]);
+                index = parent;
+            }
+            set(index, entry);
+        }
+
+        private void siftDown(int index) {
+            final Entry entry = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && BY_ANCHOR_DISTANCE.compare(heap[child + 1], heap[child]) < 0) {
+                    child++;
+                }
+                if (BY_ANCHOR_DISTANCE.compare(heap[child], entry) >= 0) {
+                    break;
+                }
+                set(index, heap[child]);
+                index = child;
+            }
+            set(index, entry);
+        }
+
+        private void set(int index, Entry entry) {
+            heap[index] = entry;
+            entry.heapIndex[slot] = index;
+        }
+    }
+}
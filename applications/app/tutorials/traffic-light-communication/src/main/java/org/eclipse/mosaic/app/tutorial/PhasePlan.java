@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import java.io.Serializable;
+
+/**
+ * Announcement of a road side unit, broadcast periodically and whenever the coordinated phase starts.
+ * Neighbouring road side units of a corridor align their coordinated phase to it, vehicles use it
+ * to discover the nearest road side unit.
+ */
+public class PhasePlan implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public String id; // id of the road side unit
+    public GeoPoint position; // position of the road side unit
+    public int phase; // current phase of the signal plan
+    public long phase_start; // simulation time the current phase started [ns]
+    public long coordinated_start = -1; // simulation time the coordinated phase started last, -1 if not coordinated [ns]
+    public long cycle_time; // cycle time of the corridor, 0 if not coordinated [ns]
+
+    public String toString() {
+        return "PhasePlan{" +
+                "id='" + id + '\'' +
+                ", position=" + position +
+                ", phase=" + phase +
+                ", phase_start=" + phase_start +
+                ", coordinated_start=" + coordinated_start +
+                ", cycle_time=" + cycle_time +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.app.tutorial.message.GreenWaveMsg;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Bounded store-and-forward queue for messages which could not be relayed yet. Messages are ordered
+ * by their deadline, after which they are dropped. A message replaces a queued message with the same
+ * key (e.g. another detection of the same vehicle), so that only the latest one is relayed. If the
+ * queue is full, the message with the earliest deadline is dropped.
+ */
+public class RelayQueue {
+
+    private static final class Entry {
+        private final String key;
+        private final GreenWaveMsg message;
+        private final long deadline;
+        private final long sequence;
+
+        private Entry(String key, GreenWaveMsg message, long deadline, long sequence) {
+            this.key = key;
+            this.message = message;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Relays a drained message.
+     */
+    public interface Relay {
+        void relay(GreenWaveMsg message, long deadline);
+    }
+
+    private final static Comparator<Entry> BY_DEADLINE = (a, b) -> {
+        final int result = Long.compare(a.deadline, b.deadline);
+        return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+    };
+
+    private final int capacity;
+    private final Map<String, Entry> byKey = new HashMap<>();
+    private final TreeSet<Entry> byDeadline = new TreeSet<>(BY_DEADLINE);
+    private final List<Entry> drained = new ArrayList<>();
+
+    private long sequence;
+    private long dropped;
+
+    /**
+     * @param capacity the maximum number of queued messages
+     */
+    public RelayQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queues the given message, replacing any queued message with the same key.
+     *
+     * @param key      the key of the message, e.g. its payload type and destination
+     * @param message  the message to queue
+     * @param deadline the time after which the message is dropped [ns]
+     * @return {@code false}, if the queue is full and the message would expire before all queued messages
+     */
+    public boolean offer(String key, GreenWaveMsg message, long deadline) {
+        final Entry previous = byKey.remove(key);
+        if (previous != null) {
+            byDeadline.remove(previous);
+        } else if (byKey.size() >= capacity) {
+            if (deadline <= byDeadline.first().deadline) {
+                dropped++;
+                return false;
+            }
+            byKey.remove(byDeadline.pollFirst().key);
+            dropped++;
+        }
+        final Entry entry = new Entry(key, message, deadline, sequence++);
+        byKey.put(key, entry);
+        byDeadline.add(entry);
+        return true;
+    }
+
+    /**
+     * Drops all messages whose deadline has passed.
+     *
+     * @param time the current simulation time [ns]
+     */
+    public void expire(long time) {
+        while (!byDeadline.isEmpty() && byDeadline.first().deadline <= time) {
+            byKey.remove(byDeadline.pollFirst().key);
+            dropped++;
+        }
+    }
+
+    /**
+     * Removes all valid messages from this queue and passes them to the given relay, most urgent first.
+     * The relay may queue messages again, keeping their deadline.
+     *
+     * @param time  the current simulation time [ns]
+     * @param relay the relay to forward the messages
+     * @return the number of drained messages
+     */
+    public int drain(long time, Relay relay) {
+        expire(time);
+        for (Entry entry = byDeadline.pollFirst(); entry != null; entry = byDeadline.pollFirst()) {
+            drained.add(entry);
+        }
+        byKey.clear();
+        final int count = drained.size();
+        try {
+            for (int i = 0; i < count; i++) {
+                final Entry entry = drained.get(i);
+                relay.relay(entry.message, entry.deadline);
+            }
+        } finally {
+            drained.clear();
+        }
+        return count;
+    }
+
+    public int size() {
+        return byKey.size();
+    }
+
+    public boolean isEmpty() {
+        return byKey.isEmpty();
+    }
+
+    /**
+     * Returns the number of messages dropped so far, either expired or due to the capacity.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+}
@@ -17,8 +17,6 @@
 
  import java.util.Map;
  import java.util.HashMap;
- import java.util.Set;
- import java.util.HashSet;
  
  import org.eclipse.mosaic.app.tutorial.Control.Rule;
  import org.eclipse.mosaic.app.tutorial.message.GreenWaveMsg;
@@ -27,7 +25,7 @@
  import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.CamBuilder;
  import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.ReceivedAcknowledgement;
  import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.ReceivedV2xMessage;
- import org.eclipse.mosaic.fed.application.app.AbstractApplication;
+ import org.eclipse.mosaic.fed.application.app.ConfigurableApplication;
  import org.eclipse.mosaic.fed.application.app.api.CommunicationApplication;
  import org.eclipse.mosaic.fed.application.app.api.os.RoadSideUnitOperatingSystem;
  import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
@@ -41,30 +39,76 @@
   * Sends inter-application messages via broadcast in order to show
   * how to differentiate between intra vehicle and inter vehicle application messages.
   */
- public class RoadSideUnitApp extends AbstractApplication<RoadSideUnitOperatingSystem> implements CommunicationApplication {
-     /**
-      * Interval at which messages are sent (every 0.5 seconds).
-      */
-     private final static long TIME_INTERVAL = TIME.SECOND / 10;
-     private final static String RSU_ID = "rsu_0";
+ public class RoadSideUnitApp extends ConfigurableApplication<CRoadSideUnitApp, RoadSideUnitOperatingSystem> implements CommunicationApplication {
      private final static Integer MAX_DISTANCE_RANGE = 30;
-     public final static long TRAFFIC_TIMER = 10 * TIME.SECOND;
-     public final static int LANE_THRESHOLD = 5;
+     // vehicles and neighbouring traffic lights learn about this traffic light from its announcements
+     private final static long ANNOUNCE_INTERVAL = TIME.SECOND;
+     // vehicles beacon at least once per second, see BeaconTrigger
+     private final static long NEIGHBOUR_EXPIRY = 2 * TIME.SECOND;
+     private final static long SEEN_MESSAGE_TIME = 10 * TIME.SECOND;
+     private final static int SEEN_CACHE_BITS = 8192;
+     private final static String[] ROUTE_IDS = new String[TrafficLight.ROUTES + 1];
+
+     static {
+         for (int route = 0; route <= TrafficLight.ROUTES; route++) {
+             ROUTE_IDS[route] = String.valueOf(route);
+         }
+     }
  
  
-     public Map<String,CAM> car_table = new HashMap<String,CAM>();
+     public NeighbourTable car_table;
      public Map<String,InDetectionZone> car_information = new HashMap<String,InDetectionZone>();
      public boolean is_off = false;
-     public Map<String,Map<String,Set<String>>> lane_queue = new HashMap<String,Map<String,Set<String>>>();
+     public LaneQueues lane_queue = new LaneQueues();
      public TrafficLight traffic_light = new TrafficLight();
      public long last_state_change = 0;
+     public int current_phase = 0;
+     private SignalPlan signal_plan;
+     private SignalController signal_controller;
+     private final int[] route_queues = new int[TrafficLight.ROUTES + 1];
+     private final SeenCache seen_messages = new SeenCache(SEEN_CACHE_BITS, SEEN_MESSAGE_TIME);
+     private int message_sequence = 0;
+     /**
+      * The event at the next decision deadline of the signal controller. Events
+      * scheduled before and superseded by this one are ignored when processed.
+      */
+     private Event phase_event;
+     /**
+      * Coordination with the neighbouring traffic lights of a corridor, {@code null} if not configured.
+      */
+     private GreenWave green_wave;
+     private CoordinatedSignalController coordinated_controller;
+     private String upstream_rsu;
+     private long coordinated_start = -1;
+     private Event coordination_event;
+     private Event announce_event;
  
-     public void sample() {
-         getOs().getEventManager().addEvent(
-                 getOs().getSimulationTime() + TIME_INTERVAL, this
-         );
-         manage_traffic();
-         //sendState();
+     public RoadSideUnitApp() {
+         super(CRoadSideUnitApp.class);
+     }
+
+     private void schedulePhaseDecision(long time) {
+         if (phase_event != null && phase_event.getTime() == time) {
+             return;
+         }
+         phase_event = new Event(time, this);
+         getOs().getEventManager().addEvent(phase_event);
+     }
+
+     private void scheduleCoordination(long time) {
+         if (coordination_event != null && coordination_event.getTime() == time) {
+             return;
+         }
+         coordination_event = new Event(time, this);
+         getOs().getEventManager().addEvent(coordination_event);
+     }
+
+     private void onQueueChanged(int route, int previous_size) {
+         // Re-evaluate the phase early only if the controller may come to another decision
+         long green_time = getOs().getSimulationTime() - last_state_change;
+         if (signal_controller.isDecisionRequired(current_phase, green_time, route, previous_size, lane_queue.size(route))) {
+             manage_traffic();
+         }
      }
  
      public TL buildState(){
@@ -79,14 +123,60 @@
          MessageRouting routing = getOperatingSystem().getAdHocModule().createMessageRouting().topoBroadCast();
          TL state = buildState();
  
-         getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(state, "veh_x")));
+         getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(state, "veh_x"), true));
          getLog().infoSimTime(this, "Sent broadcast State message to all vehicles");
      }
  
-     public Control build_control(String route, String lane, String destination) {
+     public PhasePlan buildPhasePlan() {
+         PhasePlan plan = new PhasePlan();
+         plan.id = getOs().getId();
+         plan.position = getOs().getPosition();
+         plan.phase = current_phase;
+         plan.phase_start = last_state_change;
+         if (green_wave != null) {
+             plan.coordinated_start = coordinated_start;
+             plan.cycle_time = green_wave.getCycleTime();
+         }
+         return plan;
+     }
+
+     public void sendPhasePlan() {
+         MessageRouting routing = getOperatingSystem().getAdHocModule().createMessageRouting().topoBroadCast();
+         getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing, new RawPayload(buildPhasePlan(), "veh_x"), true));
+         getLog().infoSimTime(this, "Sent broadcast PhasePlan message");
+     }
+
+     /**
+      * Aligns the coordinated phase to the announced one of the upstream traffic light.
+      */
+     private void onUpstreamPlan(PhasePlan plan) {
+         if (plan.coordinated_start < 0) {
+             return;
+         }
+         var time_now = getOs().getSimulationTime();
+         var start = green_wave.nextStart(plan.coordinated_start, plan.position.distanceTo(getOs().getPosition()), time_now);
+         scheduleCoordination(start);
+     }
+
+     /**
+      * Requests the coordinated phase of the corridor from the signal controller and schedules its next start.
+      */
+     private void coordinate() {
+         var time_now = getOs().getSimulationTime();
+         getLog().infoSimTime(this, "Requesting coordinated phase {}", green_wave.getCoordinatedPhase());
+         coordinated_controller.requestCoordinatedPhase(current_phase, time_now - last_state_change);
+         // Let the downstream traffic lights align to this start of the cycle
+         coordinated_start = time_now;
+         sendPhasePlan();
+         // keep the cycle, until aligned anew by the next announcement of the upstream traffic light
+         scheduleCoordination(time_now + green_wave.getCycleTime());
+         manage_traffic();
+     }
+
+     public Control build_control(int route, int lane, String destination) {
          Control control = new Control();
 
-         if (car_table.containsKey(destination)){
+         if (car_table.contains(destination)){
              control.general_location = car_table.get(destination).position;
          }
          else if (car_information.containsKey(destination)){
@@ -94,17 +184,18 @@
          }
          
          control.to_who = destination;
+         control.message_id = SeenCache.messageId(getOs().getId(), ++message_sequence);
          Rule rule = Rule.GO;
-         switch (traffic_light.trafficLightStatus.get(route).get(lane).toString()) {
-             case "RED":
+         switch (traffic_light.get_state(route, lane)) {
+             case RED:
                  rule = Rule.STOP;
                  break;
  
-             case "GREEN":
+             case GREEN:
                  rule = Rule.GO;
                  break;
  
-             case "YELLOW":
+             case YELLOW:
                  rule = Rule.SLOW_DOWN;
                  break;
          
@@ -116,28 +207,22 @@
          return control;
      }
  
-     public MessageRouting routingTo_car(String car_id, String route, String lane) {
+     public MessageRouting routingTo_car(String car_id, int route, int lane) {
          if (car_table.isEmpty())
              return null;
          else{
-             if (car_table.containsKey(car_id)){
+             if (car_table.contains(car_id)){
                  return getOperatingSystem().getAdHocModule().createMessageRouting().topoCast(car_id, 1);
              } else {
-                 String best_car = car_table.keySet().iterator().next();
-                 for (Map.Entry<String, CAM> car : car_table.entrySet()) {
-                     if (car.getValue().route.equals(route) && car.getValue().lane == Integer.parseInt(lane)){
-                         if (car.getValue().position.distanceTo(getOs().getPosition()) < car_table.get(best_car).position.distanceTo(getOs().getPosition())) {
-                             best_car = car.getKey();
-                         }
-                     }
-                 }
-                 return getOperatingSystem().getAdHocModule().createMessageRouting().topoCast(best_car, 1);
+                 CAM best_car = car_table.getNearestToAnchor(ROUTE_IDS[route], lane);
+                 return getOperatingSystem().getAdHocModule().createMessageRouting().topoCast(best_car.id, 1);
              }
          }
      }
  
-     public void send_control(String route, String lane) {
-         var car_lane_queue = lane_queue.get(route).get(lane);
+     public void send_control(int route, int lane) {
+         car_table.expire(getOs().getSimulationTime());
+         var car_lane_queue = lane_queue.get(route, lane);
          for (String car : car_lane_queue) {
              // Check if the car is in the range of the RSU
              // If it is not in the range, send a message to the nearest Vehicle
@@ -145,7 +230,7 @@
              if (routing != null){
                  var control = build_control(route, lane, car);
                  getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing, new RawPayload(control, car)));
-                 getLog().infoSimTime(this, "Sent control message to " + car);
+                 getLog().infoSimTime(this, "Sent control message to {}", car);
              }
              else{
                  getLog().infoSimTime(this, "No car found to send control message");
@@ -153,98 +238,40 @@
          }      
      }
  
-     private boolean isRouteGreen(String route) {
-         // Check all lanes of the route if they are green
-         for (Map.Entry<String, TL.Status> lane : traffic_light.trafficLightStatus.get(route).entrySet()) {
-             if (lane.getValue() != TL.Status.GREEN) {
-                 return false;
-             }
-         }
-         return true;
-     }
-     
-     private void setRouteState(String route, String state) {
-         // Change the state of all lanes of the route
-         for (Map.Entry<String, TL.Status> lane : traffic_light.trafficLightStatus.get(route).entrySet()) {
-             traffic_light.change_state(route, lane.getKey(), TL.Status.valueOf(state));
-         }
-     }
-     
-     private boolean laneQueueIsHeavy(String route, String lane) {
-         // Check if the lane queue is above the threshold
-         return lane_queue.get(route).get(lane).size() > LANE_THRESHOLD;
-     }
- 
-    public void manage_traffic() {
-        var time_now = getOs().getSimulationTime();
-        if (time_now - last_state_change > TRAFFIC_TIMER) {
-            getLog().infoSimTime(this, "Changing traffic light state");
-    
-            Set<String> activeRoutes = new HashSet<>();
-            // Check and update traffic lights based on the given rules
-    
-            // Rule: If route 3 is green then route 4,5,6 are red and vice versa
-            if (isRouteGreen("3")) {
-                setRouteState("4", "RED");
-                setRouteState("5", "RED");
-                setRouteState("6", "RED");
-            } else if (isRouteGreen("4") || isRouteGreen("5") || isRouteGreen("6")) {
-                setRouteState("3", "RED");
-            }
-    
-            // Rule: If route 1,2 are green then route 4,5 are red and vice versa
-            if (isRouteGreen("1") && isRouteGreen("2")) {
-                setRouteState("4", "RED");
-                setRouteState("5", "RED");
-            } else if (isRouteGreen("4") || isRouteGreen("5")) {
-                setRouteState("1", "RED");
-                setRouteState("2", "RED");
-            }
-    
-            // Rule: If route 1,2 are green then route 6 can be green
-            if (isRouteGreen("1") && isRouteGreen("2")) {
-                setRouteState("6", "GREEN");
-            }
-    
-            // Rule: Route 1,2,3 can be green at the same time
-            if (isRouteGreen("1") && isRouteGreen("2") && isRouteGreen("3")) {
-                setRouteState("1", "GREEN");
-                setRouteState("2", "GREEN");
-                setRouteState("3", "GREEN");
-            }
-    
-            // Rule: Route 4,5,6 can be green at the same time
-            if (isRouteGreen("4") && isRouteGreen("5") && isRouteGreen("6")) {
-                setRouteState("4", "GREEN");
-                setRouteState("5", "GREEN");
-                setRouteState("6", "GREEN");
-            }
-    
-            // Rule: If route 6 is green then route 3 is red and vice versa
-            if (isRouteGreen("6")) {
-                setRouteState("3", "RED");
-            } else if (isRouteGreen("3")) {
-                setRouteState("6", "RED");
-            }
+    private void applyPhase(int phase) {
+        for (int route = 1; route <= TrafficLight.ROUTES; route++) {
+            traffic_light.setRouteState(route, signal_plan.isGreen(phase, route) ? TL.Status.GREEN : TL.Status.RED);
+        }
+    }
 
-            // Adjust states based on lane queues (simplified logic, adapt as needed)
-            for (Map.Entry<String, Map<String, Set<String>>> route : lane_queue.entrySet()) {
-                for (Map.Entry<String, Set<String>> lane : route.getValue().entrySet()) {
-                    if (laneQueueIsHeavy(route.getKey(), lane.getKey())) {
-                        traffic_light.setGreen(route.getKey(), lane.getKey());
-                        activeRoutes.add(route.getKey());
-                    } else {
-                        traffic_light.setRed(route.getKey(), lane.getKey());
-                    }
-                }
-            }
-            // Ensure traffic lights are updated
-            for (String route : activeRoutes) {
-                for (int lane = 0; lane < 10; lane++){
-                    send_control(route, String.valueOf(lane));
+    private void switch_phase(int next_phase, long time_now) {
+        applyPhase(next_phase);
+        current_phase = next_phase;
+        last_state_change = time_now;
+
+        // Inform the vehicles waiting on the routes which are green now
+        final int[] green_routes = signal_plan.getRoutes(next_phase);
+        for (int i = 0; i < green_routes.length; i++) {
+            for (int lane = 0; lane < TrafficLight.LANES; lane++) {
+                if (lane_queue.size(green_routes[i], lane) > 0) {
+                    send_control(green_routes[i], lane);
                 }
             }
-            last_state_change = time_now;
+        }
+    }
+
+    public void manage_traffic() {
+        var time_now = getOs().getSimulationTime();
+        int next_phase = signal_controller.nextPhase(current_phase, time_now - last_state_change, lane_queue.sizes(route_queues));
+        if (next_phase != current_phase) {
+            getLog().infoSimTime(this, "Changing traffic light state from phase {} to phase {}", current_phase, next_phase);
+            switch_phase(next_phase, time_now);
+        }
+
+        // Wake up at the next deadline, unless the decision only depends on the queues
+        long decision_time = signal_controller.getDecisionTime(current_phase, time_now - last_state_change);
+        if (decision_time != Long.MAX_VALUE && last_state_change + decision_time > time_now) {
+            schedulePhaseDecision(last_state_change + decision_time);
         }
     }
  
@@ -258,21 +285,51 @@
                  .distance(300) // Dunno why
                  .create());
          getLog().infoSimTime(this, "Activated WLAN Module");
-         sample();
- 
+         car_table = new NeighbourTable(getOs().getPosition(), NEIGHBOUR_EXPIRY);
+
+         final CSignalController config = getConfiguration().signalController;
+         signal_plan = SignalPlan.of(config);
+         signal_controller = SignalController.create(signal_plan, config);
+         applyPhase(current_phase);
+         getLog().infoSimTime(this, "Using {} signal controller with {} phases", config.controller, signal_plan.getPhaseCount());
+
          last_state_change = getOs().getSimulationTime();
- 
-         for (int route = 1; route < 7; route++) {
-             lane_queue.put(String.valueOf(route), new HashMap<String, Set<String>>());
-             for (int lane = 0; lane < 10; lane++) {
-                 lane_queue.get(String.valueOf(route)).put(String.valueOf(lane), (Set<String>) new HashSet<String>());
-             }
+
+         final CCorridor corridor = getConfiguration().corridor;
+         if (corridor != null) {
+             green_wave = new GreenWave(corridor, signal_plan);
+             coordinated_controller = new CoordinatedSignalController(signal_controller, green_wave);
+             coordinated_controller.initialize(signal_plan, config);
+             signal_controller = coordinated_controller;
+             upstream_rsu = corridor.upstream;
+             getLog().infoSimTime(this, "Coordinating phase {} with upstream traffic light {}", corridor.coordinatedPhase, upstream_rsu);
+         }
+         if (green_wave != null && upstream_rsu == null) {
+             // the first traffic light of the corridor defines the cycle
+             coordinate();
+         } else {
+             manage_traffic();
          }
+         announce();
+     }
+
+     private void announce() {
+         sendPhasePlan();
+         announce_event = new Event(getOs().getSimulationTime() + ANNOUNCE_INTERVAL, this);
+         getOs().getEventManager().addEvent(announce_event);
      }
  
      @Override
      public void processEvent(Event event) throws Exception {
-         sample();
+         if (event == phase_event) {
+             phase_event = null;
+             manage_traffic();
+         } else if (event == coordination_event) {
+             coordination_event = null;
+             coordinate();
+         } else if (event == announce_event) {
+             announce();
+         }
      }
  
      @Override
@@ -285,23 +342,24 @@
          String send_to = receivedMessage.getMessage().destination;
  
          if (raw.payload instanceof InDetectionZone) {
-             if (send_to.equals(RSU_ID)) {
+             if (send_to.equals(getOs().getId())) {
                  InDetectionZone its_britney = (InDetectionZone) receivedMessage.getMessage().payload;
                  if (receivedV2xMessage.getMessage().getRouting().getSource().getSourcePosition()
                  .distanceTo(getOs().getPosition()) > MAX_DISTANCE_RANGE){
                      car_table.remove(its_britney.id);
                      return;
                  }
-                 getLog().infoSimTime(this, "Received InDetectionZone message from " + its_britney.id + " at route " + its_britney.route + " and lane " + its_britney.lane);
+                 if (its_britney.message_id != 0 && !seen_messages.markSeen(its_britney.message_id, getOs().getSimulationTime())) {
+                     // Another copy of this detection has been relayed via a different path
+                     return;
+                 }
+                 getLog().infoSimTime(this, "Received InDetectionZone message from {} at route {} and lane {}", its_britney.id, its_britney.route, its_britney.lane);
                  
-                 var route = String.valueOf(its_britney.route);
-                 var lane = String.valueOf(its_britney.lane);
-                 if (lane_queue.get(route).containsKey(lane)) {
-                     lane_queue.get(route).get(lane).add(its_britney.id);
- 
+                 int previous_size = lane_queue.size(its_britney.route);
+                 if (!lane_queue.add(its_britney.route, its_britney.lane, its_britney.id)) {
+                     getLog().infoSimTime(this, "Unknown route {} or lane {}", its_britney.route, its_britney.lane);
                  } else {
-                     lane_queue.get(route).put(lane, (Set<String>) new HashSet<String>());
-                     lane_queue.get(route).get(lane).add(its_britney.id);
+                     onQueueChanged(its_britney.route, previous_size);
                  }
              }
          }
@@ -311,19 +369,20 @@
                  car_table.remove(cam.id);
                  return;
              }
-             car_table.put(cam.id, cam);
-             getLog().infoSimTime(this, "Received CAM message from " + cam.id + " at route " + cam.route + " and lane " + cam.lane);
+             car_table.update(cam, getOs().getSimulationTime());
+             car_table.expire(getOs().getSimulationTime());
+             getLog().infoSimTime(this, "Received CAM message from {} at route {} and lane {}", cam.id, cam.route, cam.lane);
  
              // Check if the car is moving towards the RSU/TL or away from it
              if (!cam.isMovingTowards){
                  // If the car is moving away from the RSU/TL, remove it from the queues and the car_table
                  if (car_information.containsKey(cam.id)){
                      var car_request = car_information.get(cam.id);
-                     var route = String.valueOf(car_request.route);
-                     var lane = String.valueOf(car_request.lane);
-                     if (car_table.containsKey(route)){
-                         if (lane_queue.get(route).containsKey(lane)){
-                             lane_queue.get(route).get(lane).remove(cam.id);
+                     if (TrafficLight.isValid(car_request.route, car_request.lane)
+                             && car_table.contains(ROUTE_IDS[car_request.route])){
+                         int previous_size = lane_queue.size(car_request.route);
+                         if (lane_queue.remove(car_request.route, car_request.lane, cam.id)) {
+                             onQueueChanged(car_request.route, previous_size);
                          }
                      }
                  }
@@ -331,6 +390,22 @@
  
              
          }
+         if (raw.payload instanceof PhasePlan) {
+             var plan = (PhasePlan) raw.payload;
+             if (green_wave != null && plan.id.equals(upstream_rsu)) {
+                 onUpstreamPlan(plan);
+             }
+         }
+         if (raw.payload instanceof CAMDelta) {
+             var delta = (CAMDelta) raw.payload;
+             if (receivedV2xMessage.getMessage().getRouting().getSource().getSourcePosition().distanceTo(getOs().getPosition()) > MAX_DISTANCE_RANGE){
+                 car_table.remove(delta.id);
+                 return;
+             }
+             // lane, route and direction only change with full CAMs, hence only the known state is refreshed
+             car_table.apply(delta, getOs().getSimulationTime());
+             car_table.expire(getOs().getSimulationTime());
+         }
      }
  
      @Override
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The road side units known from their latest {@link PhasePlan}. Road side units not heard of
+ * within the expiry time are removed on {@link #expire}. As only few road side units are in range
+ * at once, they are held in a plain list.
+ */
+public class RoadSideUnitTable {
+
+    private static final class Entry {
+        private PhasePlan plan;
+        private long lastSeen;
+    }
+
+    private final long expiry;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * @param expiry time after which a road side unit is removed if no new {@link PhasePlan} was received [ns]
+     */
+    public RoadSideUnitTable(long expiry) {
+        this.expiry = expiry;
+    }
+
+    /**
+     * Adds the sender of the given {@link PhasePlan} or updates its known state.
+     */
+    public void update(PhasePlan plan, long time) {
+        Entry entry = null;
+        for (int i = 0; i < entries.size() && entry == null; i++) {
+            if (entries.get(i).plan.id.equals(plan.id)) {
+                entry = entries.get(i);
+            }
+        }
+        if (entry == null) {
+            entry = new Entry();
+            entries.add(entry);
+        }
+        entry.plan = plan;
+        entry.lastSeen = time;
+    }
+
+    /**
+     * Removes all road side units whose latest {@link PhasePlan} is older than the expiry time.
+     */
+    public void expire(long time) {
+        entries.removeIf(entry -> time - entry.lastSeen > expiry);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the latest {@link PhasePlan} of the road side unit closest to the given position,
+     * or {@code null} if no road side unit is known.
+     */
+    public PhasePlan getNearestTo(GeoPoint position) {
+        PhasePlan nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < entries.size(); i++) {
+            final PhasePlan plan = entries.get(i).plan;
+            final double distance = plan.position.distanceTo(position);
+            if (distance < nearestDistance) {
+                nearest = plan;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import java.util.Arrays;
+
+/**
+ * Time-bounded set of message ids already processed by a unit, used to suppress duplicate relays.
+ * The ids are held in two bloom filters of fixed size. All ids are added to the current filter,
+ * which becomes the previous filter after each window, replacing the oldest one. Therefore, an id
+ * is remembered for at least one and at most two windows. As for any bloom filter, a new id may be
+ * falsely reported as seen with a small probability, but a seen id is never reported as new.
+ */
+public class SeenCache {
+
+    private final static int HASHES = 3;
+
+    private final long window;
+    private final int mask;
+
+    private long[] current;
+    private long[] previous;
+    private long currentStart = Long.MIN_VALUE;
+
+    /**
+     * @param bits   number of bits of each filter, rounded up to a power of two
+     * @param window time after which the current filter is rotated [ns]
+     */
+    public SeenCache(int bits, long window) {
+        final int size = Math.max(Long.SIZE, Integer.highestOneBit(Math.max(1, bits - 1)) << 1);
+        this.mask = size - 1;
+        this.window = window;
+        this.current = new long[size / Long.SIZE];
+        this.previous = new long[size / Long.SIZE];
+    }
+
+    /**
+     * Creates the id of a message from the id of its origin and a sequence number of the origin.
+     */
+    public static long messageId(String origin, int sequence) {
+        return ((long) origin.hashCode() << 32) | (sequence & 0xffffffffL);
+    }
+
+    /**
+     * Marks the given message id as seen.
+     *
+     * @param messageId the id of the message
+     * @param time      the current simulation time [ns]
+     * @return {@code true}, if the id has not been seen before (and the message should be processed)
+     */
+    public boolean markSeen(long messageId, long time) {
+        rotate(time);
+        long hash = mix(messageId);
+        boolean inCurrent = true;
+        boolean inPrevious = true;
+        for (int i = 0; i < HASHES; i++) {
+            final int bit = (int) hash & mask;
+            final long flag = 1L << bit;
+            final int word = bit >>> 6;
+            inCurrent &= (current[word] & flag) != 0;
+            inPrevious &= (previous[word] & flag) != 0;
+            current[word] |= flag;
+            hash = Long.rotateRight(hash, 21);
+        }
+        return !inCurrent && !inPrevious;
+    }
+
+    private void rotate(long time) {
+        if (currentStart == Long.MIN_VALUE) {
+            currentStart = time;
+        } else if (time - currentStart >= 2 * window) {
+            Arrays.fill(current, 0);
+            Arrays.fill(previous, 0);
+            currentStart = time;
+        } else if (time - currentStart >= window) {
+            final long[] oldest = previous;
+            previous = current;
+            current = oldest;
+            Arrays.fill(current, 0);
+            currentStart += window;
+        }
+    }
+
+    /**
+     * Spreads the bits of the id (finalizer of MurmurHash3), as message ids of
+     * the same origin only differ in their lower bits.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+/**
+ * Decides which phase of a {@link SignalPlan} the virtual traffic light shows next. Implementations
+ * are created via {@link #create(SignalPlan, CSignalController)} and must provide a public default constructor.
+ */
+public interface SignalController {
+
+    /**
+     * Initializes this controller with the compiled signal plan and its configuration.
+     */
+    void initialize(SignalPlan plan, CSignalController config);
+
+    /**
+     * Computes the next phase.
+     *
+     * @param phase     the current phase
+     * @param greenTime the time since the current phase has been switched to green [ns]
+     * @param queues    the number of waiting vehicles, indexed by route
+     * @return the next phase, which equals {@code phase} if the current phase is kept
+     */
+    int nextPhase(int phase, long greenTime, int[] queues);
+
+    /**
+     * Returns the green time of the current phase at which {@link #nextPhase} has to be called
+     * again, as its result may change by then even if the queues stay the same. Changes of the
+     * queues are reported by calling {@link #nextPhase} early, if {@link #isDecisionRequired} accepts them.
+     *
+     * @param phase     the current phase
+     * @param greenTime the time since the current phase has been switched to green [ns]
+     * @return the green time of the next decision [ns], or {@link Long#MAX_VALUE}
+     *         if only a change of the queues can lead to another phase
+     */
+    long getDecisionTime(int phase, long greenTime);
+
+    /**
+     * Returns whether {@link #nextPhase} has to be called after the queue of a route has changed, as its
+     * result may differ from the one of the last call. By default, every change of a queue leads to a decision.
+     *
+     * @param phase         the current phase
+     * @param greenTime     the time since the current phase has been switched to green [ns]
+     * @param route         the route whose queue has changed
+     * @param previousQueue the number of waiting vehicles on the route before the change
+     * @param queue         the number of waiting vehicles on the route after the change
+     */
+    default boolean isDecisionRequired(int phase, long greenTime, int route, int previousQueue, int queue) {
+        return previousQueue != queue;
+    }
+
+    /**
+     * Creates the signal controller defined in the given configuration and initializes it with the given plan.
+     *
+     * @throws IllegalArgumentException if the controller is unknown
+     */
+    static SignalController create(SignalPlan plan, CSignalController config) {
+        final SignalController controller;
+        switch (config.controller) {
+            case "fixed-time":
+                controller = new FixedTimeSignalController();
+                break;
+            case "actuated":
+                controller = new ActuatedSignalController();
+                break;
+            case "max-pressure":
+                controller = new MaxPressureSignalController();
+                break;
+            default:
+                try {
+                    controller = Class.forName(config.controller)
+                            .asSubclass(SignalController.class)
+                            .getDeclaredConstructor()
+                            .newInstance();
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    throw new IllegalArgumentException("Unknown signal controller " + config.controller, e);
+                }
+        }
+        controller.initialize(plan, config);
+        return controller;
+    }
+}
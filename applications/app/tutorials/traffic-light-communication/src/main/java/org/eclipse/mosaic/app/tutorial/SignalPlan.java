@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import java.util.Arrays;
+
+/**
+ * The precompiled signal plan of a virtual traffic light, consisting of the conflict matrix of all
+ * routes and the phases, each given as the list of its green routes. Routes are numbered from 1 to
+ * {@link TrafficLight#ROUTES}, phases from 0 to {@link #getPhaseCount()} - 1.
+ */
+public class SignalPlan {
+
+    private final boolean[][] conflicts = new boolean[TrafficLight.ROUTES + 1][TrafficLight.ROUTES + 1];
+    private final int[][] phases;
+    private final boolean[][] green;
+
+    /**
+     * Compiles the signal plan.
+     *
+     * @param conflicts pairs of routes which must never be green at the same time
+     * @param phases    the routes which are green during each phase
+     * @throws IllegalArgumentException if a route is unknown, or a phase contains conflicting routes
+     */
+    public SignalPlan(int[][] conflicts, int[][] phases) {
+        if (phases == null || phases.length == 0) {
+            throw new IllegalArgumentException("The signal plan requires at least one phase.");
+        }
+        if (conflicts != null) {
+            for (int[] conflict : conflicts) {
+                if (conflict.length != 2 || !isRoute(conflict[0]) || !isRoute(conflict[1])) {
+                    throw new IllegalArgumentException("Invalid conflict " + Arrays.toString(conflict));
+                }
+                this.conflicts[conflict[0]][conflict[1]] = true;
+                this.conflicts[conflict[1]][conflict[0]] = true;
+            }
+        }
+        this.phases = new int[phases.length][];
+        this.green = new boolean[phases.length][TrafficLight.ROUTES + 1];
+        for (int phase = 0; phase < phases.length; phase++) {
+            final int[] routes = phases[phase];
+            for (int i = 0; i < routes.length; i++) {
+                if (!isRoute(routes[i])) {
+                    throw new IllegalArgumentException("Unknown route " + routes[i] + " in phase " + phase);
+                }
+                for (int j = 0; j < i; j++) {
+                    if (this.conflicts[routes[i]][routes[j]]) {
+                        throw new IllegalArgumentException(
+                                "Conflicting routes " + routes[j] + " and " + routes[i] + " in phase " + phase
+                        );
+                    }
+                }
+                green[phase][routes[i]] = true;
+            }
+            this.phases[phase] = routes.clone();
+        }
+    }
+
+    public static SignalPlan of(CSignalController config) {
+        return new SignalPlan(config.conflicts, config.phases);
+    }
+
+    private static boolean isRoute(int route) {
+        return TrafficLight.isValid(route, 0);
+    }
+
+    public int getPhaseCount() {
+        return phases.length;
+    }
+
+    /**
+     * Returns the green routes of the given phase. The returned array must not be modified.
+     */
+    public int[] getRoutes(int phase) {
+        return phases[phase];
+    }
+
+    public boolean isGreen(int phase, int route) {
+        return green[phase][route];
+    }
+
+    public boolean isConflicting(int route, int otherRoute) {
+        return conflicts[route][otherRoute];
+    }
+
+    /**
+     * Sums up the waiting vehicles on all green routes of the given phase.
+     *
+     * @param queues the number of waiting vehicles, indexed by route
+     */
+    public int getPressure(int phase, int[] queues) {
+        final int[] routes = phases[phase];
+        int pressure = 0;
+        for (int i = 0; i < routes.length; i++) {
+            pressure += queues[routes[i]];
+        }
+        return pressure;
+    }
+
+    /**
+     * Returns the highest number of waiting vehicles on any green route of the given phase.
+     *
+     * @param queues the number of waiting vehicles, indexed by route
+     */
+    public int getMaxQueue(int phase, int[] queues) {
+        final int[] routes = phases[phase];
+        int max = 0;
+        for (int i = 0; i < routes.length; i++) {
+            max = Math.max(max, queues[routes[i]]);
+        }
+        return max;
+    }
+}
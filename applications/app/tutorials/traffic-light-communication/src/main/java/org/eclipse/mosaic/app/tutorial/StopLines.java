@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The stop lines of the virtual traffic light, per route and lane. The positions of the stop lines are
+ * projected into the cartesian coordinate system of the simulation once, and held in dense arrays indexed
+ * the same way as the signals of the {@link TrafficLight}. Hence, the distance of a vehicle to its stop line
+ * is computed with a single array access and a planar distance.
+ */
+public class StopLines {
+
+    private final double[] x = new double[TrafficLight.ROUTES * TrafficLight.LANES];
+    private final double[] y = new double[TrafficLight.ROUTES * TrafficLight.LANES];
+
+    /**
+     * Projects the configured stop lines. Requires an initialized {@link org.eclipse.mosaic.lib.transform.GeoProjection}.
+     *
+     * @throws IllegalArgumentException if a stop line refers to an unknown route or lane
+     */
+    public static StopLines of(List<CStopLine> config) {
+        StopLines stopLines = new StopLines();
+        for (CStopLine stopLine : config) {
+            final CartesianPoint position = stopLine.position.toCartesian();
+            for (int route : stopLine.routes) {
+                stopLines.set(route, stopLine.lane, position.getX(), position.getY());
+            }
+        }
+        return stopLines;
+    }
+
+    /**
+     * Projects the configured stop lines, grouped by the road side unit managing them.
+     *
+     * @throws IllegalArgumentException if a stop line refers to an unknown route or lane
+     */
+    public static Map<String, StopLines> byRoadSideUnit(List<CStopLine> config) {
+        final Map<String, List<CStopLine>> grouped = new HashMap<>();
+        for (CStopLine stopLine : config) {
+            grouped.computeIfAbsent(stopLine.rsu, rsu -> new ArrayList<>()).add(stopLine);
+        }
+        final Map<String, StopLines> result = new HashMap<>();
+        grouped.forEach((rsu, stopLines) -> result.put(rsu, of(stopLines)));
+        return result;
+    }
+
+    public StopLines() {
+        Arrays.fill(x, Double.NaN);
+        Arrays.fill(y, Double.NaN);
+    }
+
+    private static int index(int route, int lane) {
+        return (route - 1) * TrafficLight.LANES + lane;
+    }
+
+    /**
+     * Sets the position of the stop line of the given route and lane.
+     *
+     * @throws IllegalArgumentException if the route or lane is unknown
+     */
+    public void set(int route, int lane, double x, double y) {
+        if (!TrafficLight.isValid(route, lane)) {
+            throw new IllegalArgumentException("Unknown route " + route + " or lane " + lane + " of stop line");
+        }
+        this.x[index(route, lane)] = x;
+        this.y[index(route, lane)] = y;
+    }
+
+    public boolean contains(int route, int lane) {
+        return TrafficLight.isValid(route, lane) && !Double.isNaN(x[index(route, lane)]);
+    }
+
+    /**
+     * Returns the planar distance of the given position to the stop line of the given route and lane,
+     * or {@link Double#NaN} if there is no such stop line.
+     */
+    public double distanceTo(int route, int lane, CartesianPoint position) {
+        if (!TrafficLight.isValid(route, lane)) {
+            return Double.NaN;
+        }
+        final int index = index(route, lane);
+        final double dx = x[index] - position.getX();
+        final double dy = y[index] - position.getY();
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Returns {@code true} if the stop line of the given route and lane lies ahead of a vehicle
+     * at the given position, driving with the given heading.
+     *
+     * @param heading the heading of the vehicle in degrees, clockwise from north
+     */
+    public boolean isAhead(int route, int lane, CartesianPoint position, double heading) {
+        if (!contains(route, lane)) {
+            return false;
+        }
+        final int index = index(route, lane);
+        return isAhead(position, heading, x[index], y[index]);
+    }
+
+    /**
+     * Returns {@code true} if the target at the given cartesian coordinates lies ahead of a vehicle
+     * at the given position, driving with the given heading.
+     *
+     * @param heading the heading of the vehicle in degrees, clockwise from north
+     */
+    public static boolean isAhead(CartesianPoint position, double heading, double targetX, double targetY) {
+        final double headingRad = Math.toRadians(heading);
+        // the x axis of the cartesian coordinate system points to east, the y axis to north
+        return Math.sin(headingRad) * (targetX - position.getX()) + Math.cos(headingRad) * (targetY - position.getY()) > 0;
+    }
+}
@@ -15,11 +15,18 @@
 package org.eclipse.mosaic.app.tutorial;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.Arrays;
 
 public class TL implements Serializable {
     private static final int hash = 671474557;
 
+    /**
+     * Number of bits used to encode the status of a single traffic light.
+     */
+    private static final int BITS_PER_STATUS = 2;
+    private static final int STATUSES_PER_WORD = Long.SIZE / BITS_PER_STATUS;
+    private static final long STATUS_MASK = (1L << BITS_PER_STATUS) - 1;
+
     public enum Status {
 
         GREEN, RED, YELLOW, BLINKING;
@@ -33,13 +40,15 @@ public class TL implements Serializable {
         }
     }
 
+    private static final Status[] STATUSES = Status.values();
+
     private static final long serialVersionUID = 1L;
     public int TTL = 6;
     public String id;
-    public HashMap<String,HashMap<String, Status>>state; // Route, Lane, Status
+    public long[] state; // Status of each route and lane, packed with 2 bits per status, see TrafficLight
     public boolean isOff;
 
-    public TL(String id, HashMap<String,HashMap<String, Status>> state, boolean isOff) {
+    public TL(String id, long[] state, boolean isOff) {
         this.id = id;
         this.state = state;
         this.isOff = isOff;
@@ -47,16 +56,42 @@ public class TL implements Serializable {
 
     public TL(String id, boolean isOff) {
         this.id = id;
-        this.state = new HashMap<>();
+        this.state = new long[0];
         this.isOff = isOff;
     }
 
     public TL() {
         this.id = "0";
-        this.state = new HashMap<>();
+        this.state = new long[0];
         this.isOff = false;
     }
 
+    /**
+     * Returns the status of the traffic light on the given route and lane,
+     * or {@code null} if this message does not contain a status for it.
+     */
+    public Status getStatus(int route, int lane) {
+        if (!TrafficLight.isValid(route, lane)) {
+            return null;
+        }
+        final int index = (route - 1) * TrafficLight.LANES + lane;
+        if (index / STATUSES_PER_WORD >= state.length) {
+            return null;
+        }
+        return STATUSES[(int) (state[index / STATUSES_PER_WORD] >>> (index % STATUSES_PER_WORD * BITS_PER_STATUS) & STATUS_MASK)];
+    }
+
+    /**
+     * Packs the given status ordinals into a bit set with 2 bits per status.
+     */
+    public static long[] encode(byte[] statuses) {
+        final long[] words = new long[(statuses.length + STATUSES_PER_WORD - 1) / STATUSES_PER_WORD];
+        for (int i = 0; i < statuses.length; i++) {
+            words[i / STATUSES_PER_WORD] |= (long) statuses[i] << (i % STATUSES_PER_WORD * BITS_PER_STATUS);
+        }
+        return words;
+    }
+
     @Override
     public int hashCode() {
         return hash;
@@ -65,7 +100,7 @@ public class TL implements Serializable {
     public String toString() {
         return "TL{" +
                 "id='" + id + '\'' +
-                ", state=" + state +
+                ", state=" + Arrays.toString(state) +
                 ", isOff=" + isOff +
                 '}';
     }
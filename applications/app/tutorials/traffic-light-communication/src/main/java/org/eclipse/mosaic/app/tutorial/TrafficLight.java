@@ -15,90 +15,104 @@
 
 package org.eclipse.mosaic.app.tutorial;
 
-import java.util.Map;
-import java.util.HashMap;
-
+/**
+ * Signal states of the virtual traffic light, one per route and lane. Routes are numbered
+ * from 1 to {@link #ROUTES}, lanes from 0 to {@link #LANES} - 1. The states are held in a dense
+ * array of {@link TL.Status} ordinals, and additionally in their packed representation which is
+ * sent within {@link TL} messages (see {@link TL#encode}).
+ */
 public class TrafficLight {
-    public Map<String, Map<String,TL.Status>> trafficLightStatus = new HashMap<>();
+    public final static int ROUTES = 6;
+    public final static int LANES = 10; // it has more lanes than the real road
+
+    private final static TL.Status[] STATUSES = TL.Status.values();
+
+    private final byte[] status = new byte[ROUTES * LANES];
+
+    /**
+     * The packed states, which are shared with sent {@link TL} messages and therefore
+     * replaced instead of modified on each change.
+     */
+    private long[] snapshot;
 
     public TrafficLight() {
-        for (int route = 1; route < 7 ; route++) {
-            trafficLightStatus.put(String.valueOf(route), new HashMap<>());
-            for (int lane = 0; lane < 10; lane++) { // it has more lanes than the real road
-                if (route > 3)
-                    trafficLightStatus.get(String.valueOf(route)).put(String.valueOf(lane), TL.Status.GREEN);
-                else
-                    trafficLightStatus.get(String.valueOf(route)).put(String.valueOf(lane), TL.Status.RED);
-            }
+        for (int route = 1; route <= ROUTES; route++) {
+            setRouteState(route, route > 3 ? TL.Status.GREEN : TL.Status.RED);
         }
     }
 
-    public boolean reverse_state(String route, String lane) {
+    public static boolean isValid(int route, int lane) {
+        return route >= 1 && route <= ROUTES && lane >= 0 && lane < LANES;
+    }
+
+    private static int index(int route, int lane) {
+        return (route - 1) * LANES + lane;
+    }
+
+    public boolean reverse_state(int route, int lane) {
         // Reverse the state of the traffic light on the given route and lane
-        if (trafficLightStatus.containsKey(route) && trafficLightStatus.get(route).containsKey(lane)) {
-            if (trafficLightStatus.get(route).get(lane) == TL.Status.RED) {
-                trafficLightStatus.get(route).put(lane, TL.Status.GREEN);
-            }
-            else {
-                trafficLightStatus.get(route).put(lane, TL.Status.RED);
-            }
-            return true;
-        }
-        else
+        if (!isValid(route, lane)) {
             return false;
+        }
+        return change_state(route, lane, get_state(route, lane) == TL.Status.RED ? TL.Status.GREEN : TL.Status.RED);
     }
 
-    public boolean change_state(String route, String lane, TL.Status status) {
+    public boolean change_state(int route, int lane, TL.Status state) {
         // Change the state of the traffic light on the given route and lane
-        if (trafficLightStatus.containsKey(route) && trafficLightStatus.get(route).containsKey(lane)) {
-            trafficLightStatus.get(route).put(lane, status);
-            return true;
-        }
-        else
+        if (!isValid(route, lane)) {
             return false;
+        }
+        final int index = index(route, lane);
+        if (status[index] != state.ordinal()) {
+            status[index] = (byte) state.ordinal();
+            snapshot = null;
+        }
+        return true;
     }
 
-    public TL.Status get_state(String route, String lane) {
+    public TL.Status get_state(int route, int lane) {
         // Return the state of the traffic light on the given route and lane
-        if (trafficLightStatus.containsKey(route) && trafficLightStatus.get(route).containsKey(lane)) {
-            return trafficLightStatus.get(route).get(lane);
-        }
-        else
+        if (!isValid(route, lane)) {
             return TL.Status.RED;
+        }
+        return STATUSES[status[index(route, lane)]];
     }
 
-    public HashMap<String,HashMap<String, TL.Status>> get_state() {
-        // Return the state of all traffic lights
-        HashMap<String, HashMap<String, TL.Status>> tl_state = new HashMap<>();
-        for (HashMap.Entry<String, Map<String, TL.Status>> entry : trafficLightStatus.entrySet()) {
-            for (HashMap.Entry<String, TL.Status> inner_entry : entry.getValue().entrySet()) {
-                if (!tl_state.containsKey(entry.getKey())) {
-                    tl_state.put(entry.getKey(), new HashMap<>());
-                }
-                tl_state.get(entry.getKey()).put(inner_entry.getKey(), inner_entry.getValue());
-            }
+    /**
+     * Returns the packed states of all traffic lights. The returned array is reused
+     * until the next change of a state and must not be modified.
+     */
+    public long[] get_state() {
+        if (snapshot == null) {
+            snapshot = TL.encode(status);
         }
-        return tl_state;
+        return snapshot;
     }
 
-    public void setState(String route, String state) {
+    public void setRouteState(int route, TL.Status state) {
         // Change the state of the traffic light on the given route for all lanes
-        if (trafficLightStatus.containsKey(route)) {
-            for (HashMap.Entry<String, TL.Status> entry : trafficLightStatus.get(route).entrySet()) {
-                trafficLightStatus.get(route).put(entry.getKey(), TL.Status.valueOf(state));
+        for (int lane = 0; lane < LANES; lane++) {
+            change_state(route, lane, state);
+        }
+    }
+
+    public boolean isRouteGreen(int route) {
+        // Check all lanes of the route if they are green
+        for (int lane = 0; lane < LANES; lane++) {
+            if (get_state(route, lane) != TL.Status.GREEN) {
+                return false;
             }
         }
+        return true;
     }
 
-    public void setGreen(String route, String lane) {
+    public void setGreen(int route, int lane) {
         // Change the state of the traffic light on the given route and lane to green
         change_state(route, lane, TL.Status.GREEN);
     }
 
-    public void setRed(String route, String lane) {
+    public void setRed(int route, int lane) {
         // Change the state of the traffic light on the given route and lane to red
         change_state(route, lane, TL.Status.RED);
     }
-
-    
 }
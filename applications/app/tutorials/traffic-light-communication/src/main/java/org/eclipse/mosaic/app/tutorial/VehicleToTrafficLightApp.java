@@ -15,25 +15,19 @@
 
 package org.eclipse.mosaic.app.tutorial;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
-
-import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.mosaic.app.tutorial.message.GreenWaveMsg;
 import org.eclipse.mosaic.app.tutorial.message.RawPayload;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.AdHocModuleConfiguration;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.CamBuilder;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.ReceivedAcknowledgement;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.ReceivedV2xMessage;
-import org.eclipse.mosaic.fed.application.app.AbstractApplication;
+import org.eclipse.mosaic.fed.application.app.ConfigurableApplication;
 import org.eclipse.mosaic.fed.application.app.api.CommunicationApplication;
 import org.eclipse.mosaic.fed.application.app.api.os.VehicleOperatingSystem;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.lib.enums.AdHocChannel;
 import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
 import org.eclipse.mosaic.lib.objects.addressing.AdHocMessageRoutingBuilder;
@@ -42,26 +36,29 @@ import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.rti.TIME;
 
-public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleOperatingSystem> implements CommunicationApplication {
+import java.util.Map;
+
+public final class VehicleToTrafficLightApp extends ConfigurableApplication<CVehicleToTrafficLightApp, VehicleOperatingSystem> implements CommunicationApplication {
     private final static long TIME_INTERVAL = TIME.SECOND / 10;
-    private final static String JUNCTION_ID = "42429874";
-    private final static String TL_ID = "rsu_0";
     private final static Integer MAX_DISTANCE_RANGE = 30;
     private final static Integer MAX_RSU_DISTANCE = 30;
     private final static long MAX_MESSAGE_WAIT = TIME.SECOND * 10;
+    private final static int MAX_QUEUED_MESSAGES = 32;
+    private final static int SEEN_CACHE_BITS = 4096;
     private final static long STOP_TIME = 5 * TIME.SECOND;
+    private final static double STOP_DISTANCE = 10.0;
+    // beacon triggering conditions according to ETSI EN 302 637-2
+    private final static long MIN_BEACON_INTERVAL = TIME.SECOND / 10;
+    private final static long MAX_BEACON_INTERVAL = TIME.SECOND;
+    private final static double BEACON_POSITION_CHANGE = 4; // m
+    private final static double BEACON_HEADING_CHANGE = 4; // degree
+    private final static double BEACON_SPEED_CHANGE = 0.5; // m/s
+    // neighbours are kept for two beacon intervals so that a single lost beacon does not drop them
+    private final static long NEIGHBOUR_EXPIRY = 2 * MAX_BEACON_INTERVAL;
+    // road side units announce themselves once per second
+    private final static long RSU_EXPIRY = 3 * TIME.SECOND;
 
-    
-    private final static GeoPoint RSU_GEO_POINT = new MutableGeoPoint(40.743457, -73.988281);
 
-    private final static GeoPoint ROUTE123_STOP_POINT_0 = new MutableGeoPoint(40.743499, -73.988424);
-    private final static GeoPoint ROUTE123_STOP_POINT_1 = new MutableGeoPoint(40.743524, -73.988404);
-    
-    private final static GeoPoint ROUTE456_STOP_POINT_0 = new MutableGeoPoint(40.743530, -73.988275);
-    private final static GeoPoint ROUTE456_STOP_POINT_1 = new MutableGeoPoint(40.743535, -73.988240);
-    private final static GeoPoint ROUTE456_STOP_POINT_2 = new MutableGeoPoint(40.743521, -73.988210);
-    private final static GeoPoint ROUTE456_STOP_POINT_3 = new MutableGeoPoint(40.743507, -73.988176);
-    
     private final static GeoPoint ROAD_1_GEO_POINT_S = new MutableGeoPoint(40.743480, -73.988414);
     private final static GeoPoint ROAD_1_GEO_POINT_E = new MutableGeoPoint(40.743710, -73.988811);
     private final static BrakingArea ROAD_1_AREA = new BrakingArea(ROAD_1_GEO_POINT_S, ROAD_1_GEO_POINT_E);
@@ -70,14 +67,34 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
     private final static GeoPoint ROAD_2_GEO_POINT_E = new MutableGeoPoint(40.743725, -73.987997);
     private final static BrakingArea ROAD_2_AREA = new BrakingArea(ROAD_2_GEO_POINT_S, ROAD_2_GEO_POINT_E);
 
-    public Map<String, CAM> vehicles = new HashMap<String, CAM>();
+    public NeighbourTable vehicles;
+    /**
+     * The nearest known road side unit, which detections are reported to.
+     */
+    public String rsu_id;
+    public GeoPoint rsu_position;
+    private CartesianPoint rsu_projected_position;
+    private final RoadSideUnitTable road_side_units = new RoadSideUnitTable(RSU_EXPIRY);
     public boolean run = false;
     public boolean recievedStop = false;
-    public Queue<Pair<GreenWaveMsg,Long>> message_queue = new LinkedList<Pair<GreenWaveMsg,Long>>();
+    public RelayQueue detection_queue = new RelayQueue(MAX_QUEUED_MESSAGES);
+    public RelayQueue control_queue = new RelayQueue(MAX_QUEUED_MESSAGES);
+    private final SeenCache seen_messages = new SeenCache(SEEN_CACHE_BITS, MAX_MESSAGE_WAIT);
+    private int message_sequence = 0;
+    private final BeaconTrigger beacon_trigger = new BeaconTrigger(
+            MIN_BEACON_INTERVAL, MAX_BEACON_INTERVAL, BEACON_POSITION_CHANGE, BEACON_HEADING_CHANGE, BEACON_SPEED_CHANGE
+    );
+    private int cam_sequence = 0;
+    private Map<String, StopLines> stop_lines;
+
+    public VehicleToTrafficLightApp() {
+        super(CVehicleToTrafficLightApp.class);
+    }
 
     public InDetectionZone buildDetection() {
         InDetectionZone britney = new InDetectionZone();
         britney.id = getOs().getId();
+        britney.message_id = SeenCache.messageId(britney.id, ++message_sequence);
         britney.position = getOs().getPosition();
         var NavModule = getOs().getNavigationModule();
         if (NavModule != null){
@@ -114,13 +131,9 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
                 cam.id = getOs().getId();
                 cam.speed = vehData.getSpeed();
                 cam.direction = vehData.getDriveDirection();
-                var junction = NavModule.getNode(JUNCTION_ID);
-                if (junction != null) {
-                    cam.isMovingTowards = junction.getId().equals(JUNCTION_ID);
-                }
-                else {
-                    // pass
-                }
+                var heading = vehData.getHeading() != null ? vehData.getHeading() : 0d;
+                cam.isMovingTowards = StopLines.isAhead(vehData.getProjectedPosition(), heading,
+                        rsu_projected_position.getX(), rsu_projected_position.getY());
                 cam.acceleration = vehData.getThrottle();
                 if (roadPos != null) {
                     cam.lane = roadPos.getLaneIndex();                   
@@ -145,34 +158,24 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
         .getAdHocModule()
         .createMessageRouting();
 
-        var distances = new ArrayList<Pair<CAM, Double>>();
-        var my_distance = getOs().getPosition().distanceTo(RSU_GEO_POINT);
+        var my_distance = getOs().getPosition().distanceTo(rsu_position);
         if (my_distance > MAX_DISTANCE_RANGE) {
             getLog().infoSimTime(this, "Vehicle is too far away from the traffic light.");
-            if (vehicles.isEmpty()) {
+            CAM closest_vehicle = vehicles.getNearestToAnchor();
+            if (closest_vehicle == null) {
                 getLog().infoSimTime(this, "No vehicles in range.");
                 return null;
             }
-            for (CAM vehicle : this.vehicles.values()){
-                Pair<CAM, Double> distance = Pair.of(vehicle, vehicle.position.distanceTo(RSU_GEO_POINT));
-                distances.add(distance);
-            }
-            Pair<CAM, Double> closest_vehicle = distances.get(0);
-            for (var pair_distance: distances) {
-                if (pair_distance.getValue() < closest_vehicle.getValue()) {
-                    closest_vehicle = pair_distance;
-                }
-            }
             // send message to vehicle closest to the TL
-            if (closest_vehicle.getValue() < my_distance){
-                return routing_builder.topoCast(closest_vehicle.getKey().id, 1);
+            if (closest_vehicle.position.distanceTo(rsu_position) < my_distance){
+                return routing_builder.topoCast(closest_vehicle.id, 1);
             }
             else
                 return null;
         }
         else {
             // send message to traffic light
-            return routing_builder.topoCast(TL_ID, 1);
+            return routing_builder.topoCast(rsu_id, 1);
         }
     }
 
@@ -187,47 +190,58 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
         }
 
         // Check if the destination exists in the vehicles map
-        if (vehicles.containsKey(destination_id)) {
+        if (vehicles.contains(destination_id)) {
             return routing_builder.topoCast(destination_id, 1);
         }
         else {
-            var best_car = vehicles.get(vehicles.keySet().toArray()[0]);
-            for (CAM vehicle : this.vehicles.values()){
-                if (vehicle.position.distanceTo(destination) < best_car.position.distanceTo(destination)){
-                    best_car = vehicle;
-                }
-            }
+            var best_car = vehicles.getNearestTo(destination);
             return routing_builder.topoCast(best_car.id, 1);
         }
     }
 
     private void processQueue(){
-        if (getOs().getPosition().distanceTo(RSU_GEO_POINT) > MAX_DISTANCE_RANGE && vehicles.isEmpty()){
+        var time_now = getOs().getSimulationTime();
+        detection_queue.expire(time_now);
+        control_queue.expire(time_now);
+        if (detection_queue.isEmpty() && control_queue.isEmpty()){
             return;
         }
-        int queue_size = message_queue.size();
         getLog().infoSimTime(this, "Atempting to process queue");
-        while (queue_size > 0){
-            Pair<GreenWaveMsg,Long> queue = message_queue.poll();
-            if (getOs().getSimulationTime() - queue.getRight() < MAX_MESSAGE_WAIT){
-                if (queue.getLeft().getMessage().payload instanceof InDetectionZone){
-                    forward_detection_queue(queue);
-                }
-                if (queue.getLeft().getMessage().payload instanceof Control){
-                    forward_control_queue(queue);
-                }
+        if (!detection_queue.isEmpty()){
+            var routing = buildRouting_toRSU();
+            if (routing != null){
+                // A route towards the RSU appeared, relay all pending detections at once
+                detection_queue.drain(time_now, (message, deadline) -> send_detection(message, routing));
             }
-            queue_size = queue_size - 1;
+        }
+        if (!vehicles.isEmpty()){
+            control_queue.drain(time_now, this::forward_control);
         }
     }
 
 
     private void sendCAM(){
-        MessageRouting routing = getOperatingSystem().getAdHocModule().createMessageRouting().topoBroadCast();
         CAM cam = buildCAM();
-
-        getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(cam, "veh_x")));
-        getLog().infoSimTime(this, "Sent broadcast CAM message to all vehicles");
+        var vehData = getOs().getVehicleData();
+        var heading = vehData != null && vehData.getHeading() != null ? vehData.getHeading() : 0d;
+
+        Object payload;
+        switch (beacon_trigger.next(getOs().getSimulationTime(), cam, heading)) {
+            case FULL:
+                cam.sequence = ++cam_sequence;
+                payload = cam;
+                break;
+            case DELTA:
+                payload = CAMDelta.of(beacon_trigger.getKeyframe(), cam);
+                break;
+            default:
+                // nothing changed noticeably since the last beacon
+                return;
+        }
+        MessageRouting routing = getOperatingSystem().getAdHocModule().createMessageRouting().topoBroadCast();
+        // the beacon is built for this message only, hence its encoding can be deferred
+        getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(payload, "veh_x"), true));
+        getLog().infoSimTime(this, "Sent broadcast {} message to all vehicles", payload instanceof CAM ? "CAM" : "CAM delta");
     }
 
     public void send_britney_info(){
@@ -240,8 +254,10 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
         }
 
         InDetectionZone message_data = buildDetection();
-        getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(message_data, TL_ID)));
-        getLog().infoSimTime(this, "Sent Detection message to " + IpResolver.getSingleton().reverseLookup(routing.getDestination().getAddress().address));
+        // Copies of the own detection relayed back by other vehicles are ignored
+        seen_messages.markSeen(message_data.message_id, getOs().getSimulationTime());
+        getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(message_data, rsu_id)));
+        getLog().infoSimTime(this, "Sent Detection message to {}", IpResolver.getSingleton().reverseLookup(routing.getDestination().getAddress().address));
     } 
 
     private void sendTopoMessage() {
@@ -255,72 +271,58 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
         }
     }
 
-    private void forward_detection_queue(Pair<GreenWaveMsg,Long> queue){
-        var routing = buildRouting_toRSU();
-        if (routing == null){
-            message_queue.offer(queue);
+    private void forward_detection(GreenWaveMsg receivedMessage, long deadline) {
+        InDetectionZone message_Bitch = (InDetectionZone) receivedMessage.getMessage().payload;
+        if (message_Bitch.TTL <= 0){
+            // This message is no longer usefull
             return;
         }
-        forward_detection(queue.getLeft());
-    }
-
-    private void forward_detection(GreenWaveMsg receivedMessage) {
         var routing = buildRouting_toRSU();
         if (routing == null){
             getLog().infoSimTime(this, "No vehicles in range. Nor the RSU.");
-            Pair<GreenWaveMsg,Long> queue = Pair.of(receivedMessage,getOs().getSimulationTime());
-            message_queue.offer(queue);
+            // Only the latest detection of each vehicle is worth relaying
+            detection_queue.offer(message_Bitch.id, receivedMessage, deadline);
             return;
         }
-        InDetectionZone message_Bitch = (InDetectionZone) receivedMessage.getMessage().payload;
-        if (message_Bitch.TTL <= 0){
-            // This message is no longer usefull
-            return;
-        } 
-        message_Bitch.TTL = message_Bitch.TTL-1;
-        getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(message_Bitch, TL_ID)));
-        getLog().infoSimTime(this, "Forwarded Detection message to " + IpResolver.getSingleton().reverseLookup(routing.getDestination().getAddress().address));
+        send_detection(receivedMessage, routing);
     }
 
-    private void forward_control_queue(Pair<GreenWaveMsg,Long> queue){
-        var destination_position = ((Control) queue.getLeft().getMessage().payload).general_location;
-        var destination_id =((Control) queue.getLeft().getMessage().payload).to_who;
-        var routing = buildRouting_toDestination(destination_id,destination_position);
-        if (routing == null){
-            message_queue.offer(queue);
-            return;
-        }
-        forward_control(queue.getLeft());
+    private void send_detection(GreenWaveMsg receivedMessage, MessageRouting routing) {
+        InDetectionZone message_Bitch = (InDetectionZone) receivedMessage.getMessage().payload;
+        message_Bitch.TTL = message_Bitch.TTL-1;
+        getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(message_Bitch, rsu_id)));
+        getLog().infoSimTime(this, "Forwarded Detection message to {}", IpResolver.getSingleton().reverseLookup(routing.getDestination().getAddress().address));
     }
 
-    private void forward_control(GreenWaveMsg receivedMessage){
+    private void forward_control(GreenWaveMsg receivedMessage, long deadline){
 
         // question: how do i get the position of the destination vehicle?
         // answer: 
         var destination_position = ((Control) receivedMessage.getMessage().payload).general_location;
         var destination_id =((Control) receivedMessage.getMessage().payload).to_who;
 
-        System.out.println("Destination ID: " + destination_id);
+        getLog().debugSimTime(this, "Destination ID: {}", destination_id);
+
+        Control control_message = (Control) receivedMessage.getMessage().payload;
+        if (control_message.TTL <= 0){
+            getLog().infoSimTime(this, "Dropped Control message to {}, TTL exceeded.", destination_id);
+            // Drop this message
+            return;
+        }
 
         var routing = buildRouting_toDestination(destination_id,destination_position);
         if (routing == null){
             getLog().infoSimTime(this, "No vehicles in range.");
-            Pair<GreenWaveMsg,Long> queue = Pair.of(receivedMessage,getOs().getSimulationTime());
-            message_queue.offer(queue);
-            System.out.println("--- Message Queued, No vehicles in range.");
+            // Only the latest control message for each vehicle is worth relaying
+            control_queue.offer(destination_id, receivedMessage, deadline);
+            getLog().debugSimTime(this, "Queued Control message to {}", destination_id);
             return;
         }
 
-        Control control_message = (Control) receivedMessage.getMessage().payload;
-        if (control_message.TTL <= 0){
-            System.out.println("--- Message Dropped, TTL exceeded.");
-            // Drop this message
-            return;
-        }
         control_message.TTL = control_message.TTL-1;
-        System.out.println("--- Message Sent, to " + destination_id);
+        getLog().debugSimTime(this, "Sending Control message to {}", destination_id);
         getOs().getAdHocModule().sendV2xMessage(new GreenWaveMsg(routing,new RawPayload(control_message, destination_id)));
-        getLog().infoSimTime(this, "Forwarded Control message to " + IpResolver.getSingleton().reverseLookup(routing.getDestination().getAddress().address));
+        getLog().infoSimTime(this, "Forwarded Control message to {}", IpResolver.getSingleton().reverseLookup(routing.getDestination().getAddress().address));
 
     }
 
@@ -329,52 +331,20 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
         if (navModule != null) {
             var currRoute = navModule.getCurrentRoute();
             var roadPos = navModule.getVehicleData().getRoadPosition();
-            var my_lane = String.valueOf(roadPos.getLaneIndex());
+            var my_lane = roadPos.getLaneIndex();
             var my_route = currRoute.getId();
             
             // Log current route and lane information
-            getLog().infoSimTime(this, "Current route: " + my_route + ", lane: " + my_lane);
-            getLog().infoSimTime(this, "Vehicle position: " + getOs().getPosition());
+            getLog().infoSimTime(this, "Current route: {}, lane: {}", my_route, my_lane);
+            getLog().infoSimTime(this, "Vehicle position: {}", getOs().getPosition());
             
-            // Log the stop point coordinates
-            GeoPoint stopPoint = null;
             switch (control.rule.toString()) {
                 case "STOP":
                 case "RED":
                     if (recievedStop){
                         return;
-                    } else {
-                        if (my_route.equals("1") || my_route.equals("2") || my_route.equals("3")) {
-                            if (my_lane.equals("0")) {
-                                stopPoint = ROUTE123_STOP_POINT_0;
-                            } else if (my_lane.equals("1")) {
-                                stopPoint = ROUTE123_STOP_POINT_1;
-                            }
-                        } else if (my_route.equals("4") || my_route.equals("5") || my_route.equals("6")) {
-                            switch (my_lane) {
-                                case "0": stopPoint = ROUTE456_STOP_POINT_0; break;
-                                case "1": stopPoint = ROUTE456_STOP_POINT_1; break;
-                                case "2": stopPoint = ROUTE456_STOP_POINT_2; break;
-                                case "3": stopPoint = ROUTE456_STOP_POINT_3; break;
-                            }
-                        }
-                        if (stopPoint != null) {
-                            var cam = buildCAM();
-                            var stoping_point = stopPoint.distanceTo(getOs().getPosition());
-                            stoping_point = stoping_point - 10.0;
-                            getLog().infoSimTime(this, "Attempting to stop in " + stoping_point + " meters.");
-                            if (stoping_point <= 0.0 && cam.isMovingTowards){
-                                getLog().infoSimTime(this, "Vehicle is stopping now.");
-                                getOs().stopNow(VehicleStopMode.STOP, STOP_TIME);
-                                recievedStop = true;
-                            }
-                            else {
-                                getLog().infoSimTime(this, "Vehicle is not moving towards the stop point or the stop point is too far away.");
-                            }
-                        } else {
-                            getLog().infoSimTime(this, "No valid stop point found for the current route and lane.");
-                        }
                     }
+                    stop_at_line(toRouteNumber(my_route), my_lane);
                     break;
                 case "SLOW_DOWN":
                 case "YELLOW":
@@ -402,57 +372,26 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
             if (navModule != null) {
                 var currRoute = navModule.getCurrentRoute();
                 var roadPos = navModule.getVehicleData().getRoadPosition();
-                var my_lane = String.valueOf(roadPos.getLaneIndex());
-                var my_route = currRoute.getId();
+                var my_lane = roadPos.getLaneIndex();
+                var my_route = toRouteNumber(currRoute.getId());
     
                 // Log current route, lane, and traffic light state
-                getLog().infoSimTime(this, "Current route: " + my_route + ", lane: " + my_lane);
-                getLog().infoSimTime(this, "Vehicle position: " + getOs().getPosition());
+                getLog().infoSimTime(this, "Current route: {}, lane: {}", my_route, my_lane);
+                getLog().infoSimTime(this, "Vehicle position: {}", getOs().getPosition());
     
-                // Log the stop point coordinates
-                GeoPoint stopPoint = null;
+                var route_status = traffic_light.getStatus(my_route, my_lane);
+                if (route_status != null) {
+                    getLog().infoSimTime(this, "Route status for lane: {}", route_status);
     
-                if (traffic_light.state.containsKey(my_route)) {
-                    var route_status = traffic_light.state.get(my_route).get(my_lane);
-                    getLog().infoSimTime(this, "Route status for lane: " + route_status);
-    
-                    switch (route_status.toString()) {
-                        case "RED":
+                    switch (route_status) {
+                        case RED:
                             if (recievedStop){
                                 return;
-                            } else {
-                                if (my_route.equals("1") || my_route.equals("2") || my_route.equals("3")) {
-                                    if (my_lane.equals("0")) {
-                                        stopPoint = ROUTE123_STOP_POINT_0;
-                                    } else if (my_lane.equals("1")) {
-                                        stopPoint = ROUTE123_STOP_POINT_1;
-                                    }
-                                } else if (my_route.equals("4") || my_route.equals("5") || my_route.equals("6")) {
-                                    switch (my_lane) {
-                                        case "0": stopPoint = ROUTE456_STOP_POINT_0; break;
-                                        case "1": stopPoint = ROUTE456_STOP_POINT_1; break;
-                                        case "2": stopPoint = ROUTE456_STOP_POINT_2; break;
-                                        case "3": stopPoint = ROUTE456_STOP_POINT_3; break;
-                                    }
-                                }
-        
-                                if (stopPoint != null) {
-                                    var cam = buildCAM();
-                                    var stoping_point = stopPoint.distanceTo(getOs().getPosition());
-                                    stoping_point = stoping_point - 10.0;
-                                    getLog().infoSimTime(this, "Attempting to stop in " + stoping_point + " meters.");
-                                    if (stoping_point <= 0.0 && cam.isMovingTowards){
-                                        getLog().infoSimTime(this, "Vehicle is stopping now.");
-                                        getOs().stopNow(VehicleStopMode.STOP, STOP_TIME);
-                                        recievedStop = true;
-                                    }
-                                } else {
-                                    getLog().infoSimTime(this, "No valid stop point found for the current route and lane.");
-                                }
-                            }                           
+                            }
+                            stop_at_line(my_route, my_lane);
                             break;
     
-                        case "GREEN":
+                        case GREEN:
                             if (!recievedStop){
                                 return;
                             } else {
@@ -463,7 +402,7 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
                             }
                             break;
     
-                        case "YELLOW":
+                        case YELLOW:
                             // Slow down
                             getOs().slowDown(1, STOP_TIME);
                             getLog().infoSimTime(this, "Attempting to slow down to 1 m/s.");
@@ -484,23 +423,92 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
     }
     
 
+    /**
+     * Reports to the nearest road side unit which announced itself recently.
+     */
+    private void selectRoadSideUnit() {
+        road_side_units.expire(getOs().getSimulationTime());
+        var nearest = road_side_units.getNearestTo(getOs().getPosition());
+        if (nearest != null && !nearest.id.equals(rsu_id)) {
+            getLog().infoSimTime(this, "Nearest road side unit is now {}", nearest.id);
+            setRoadSideUnit(nearest.id, nearest.position);
+        }
+    }
+
+    private void setRoadSideUnit(String id, GeoPoint position) {
+        rsu_id = id;
+        rsu_position = position;
+        rsu_projected_position = position.toCartesian();
+        vehicles.setAnchor(position);
+    }
+
+    /**
+     * Stops the vehicle if the stop line of its route and lane lies ahead within {@link #STOP_DISTANCE}.
+     */
+    private void stop_at_line(int route, int lane) {
+        var vehData = getOs().getVehicleData();
+        var rsu_stop_lines = stop_lines.get(rsu_id);
+        if (vehData == null || rsu_stop_lines == null || !rsu_stop_lines.contains(route, lane)) {
+            getLog().infoSimTime(this, "No valid stop point found for the current route and lane.");
+            return;
+        }
+        var position = vehData.getProjectedPosition();
+        var stoping_point = rsu_stop_lines.distanceTo(route, lane, position) - STOP_DISTANCE;
+        getLog().infoSimTime(this, "Attempting to stop in {} meters.", stoping_point);
+        var heading = vehData.getHeading() != null ? vehData.getHeading() : 0d;
+        if (stoping_point <= 0.0 && rsu_stop_lines.isAhead(route, lane, position, heading)){
+            getLog().infoSimTime(this, "Vehicle is stopping now.");
+            getOs().stopNow(VehicleStopMode.STOP, STOP_TIME);
+            recievedStop = true;
+        }
+        else {
+            getLog().infoSimTime(this, "Vehicle is not moving towards the stop point or the stop point is too far away.");
+        }
+    }
+
+    /**
+     * Returns {@code true} if a message with the given id has already been processed by this vehicle.
+     */
+    private boolean isDuplicate(long message_id) {
+        return message_id != 0 && !seen_messages.markSeen(message_id, getOs().getSimulationTime());
+    }
+
+    /**
+     * Returns the number of the given route as used by the traffic light, or -1 if it is not numeric.
+     */
+    private static int toRouteNumber(String route) {
+        try {
+            return Integer.parseInt(route);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     private void sample() {
         getOs().getEventManager().addEvent(
                 getOs().getSimulationTime() + TIME_INTERVAL, this
         );
+        // Forget neighbours which have not been heard of for a while
+        vehicles.expire(getOs().getSimulationTime());
+        selectRoadSideUnit();
+
         // Clean Queue
         processQueue();
 
         // Send Detection Message one every two iterations
         sendTopoMessage();
 
-        // Send CAM Message
+        // Send CAM Message, if the state of the vehicle changed noticeably
         sendCAM();
     }
 
     @Override
     public void onStartup() {
         getLog().infoSimTime(this, "Initialize application");
+        final CVehicleToTrafficLightApp config = getConfiguration();
+        stop_lines = StopLines.byRoadSideUnit(config.stopLines);
+        vehicles = new NeighbourTable(config.defaultRsuPosition, NEIGHBOUR_EXPIRY);
+        setRoadSideUnit(config.defaultRsu, config.defaultRsuPosition);
         AdHocModuleConfiguration configuration = new AdHocModuleConfiguration()
                 .addRadio()
                 .channel(AdHocChannel.CCH)
@@ -534,22 +542,35 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
         if (raw.payload instanceof CAM) {
             CAM cam = (CAM) raw.payload;
             if (cam.position.distanceTo(getOs().getPosition()) <= MAX_DISTANCE_RANGE) {
-                getLog().infoSimTime(this, "Received CAM message from " + cam.id);
-                vehicles.put(cam.id, cam);
+                getLog().infoSimTime(this, "Received CAM message from {}", cam.id);
+                vehicles.update(cam, getOs().getSimulationTime());
             }
             else {
                 vehicles.remove(cam.id);
             }
             
         }
+        if (raw.payload instanceof PhasePlan) {
+            // Road side units announce themselves periodically
+            road_side_units.update((PhasePlan) raw.payload, getOs().getSimulationTime());
+        }
+        if (raw.payload instanceof CAMDelta) {
+            CAM cam = vehicles.apply((CAMDelta) raw.payload, getOs().getSimulationTime());
+            if (cam != null && cam.position.distanceTo(getOs().getPosition()) > MAX_DISTANCE_RANGE) {
+                vehicles.remove(cam.id);
+            }
+        }
         if (raw.payload instanceof Control) {
             if (receivedV2xMessage.getMessage().getRouting().getSource().getSourcePosition()
             .distanceTo(getOs().getPosition()) > MAX_RSU_DISTANCE){
                 return;
             }
             Control control = (Control) raw.payload;
-            var destination = " to " + control.to_who;
-            getLog().infoSimTime(this, "Received Control message from " + IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getSource().getSourceAddress().address) + destination );
+            if (isDuplicate(control.message_id)) {
+                getLog().infoSimTime(this, "Ignored duplicate Control message to {}", control.to_who);
+                return;
+            }
+            getLog().infoSimTime(this, "Received Control message from {} to {}", IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getSource().getSourceAddress().address), control.to_who);
             // Check if the message is for this vehicle
                 // If yes OBEY
                 // If not send to another vehicle behind
@@ -559,7 +580,7 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
             }
             else {
                 // Send control message to the vehicle closest to the destination
-                forward_control(receivedMessage);
+                forward_control(receivedMessage, getOs().getSimulationTime() + MAX_MESSAGE_WAIT);
             }
         }
         if (raw.payload instanceof TL) {
@@ -567,7 +588,7 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
             .distanceTo(getOs().getPosition()) > MAX_RSU_DISTANCE){
                 return;
             }
-            getLog().infoSimTime(this, "Received TL_Status message from " + IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getSource().getSourceAddress().address) + " via Broadcast");
+            getLog().infoSimTime(this, "Received TL_Status message from {} via Broadcast", IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getSource().getSourceAddress().address));
             TL traffic_light = (TL) raw.payload;
             // Change state of vehicle based on the state of the traffic light
             managed_by_traffic_light(traffic_light);
@@ -579,9 +600,13 @@ public final class VehicleToTrafficLightApp extends AbstractApplication<VehicleO
             .distanceTo(getOs().getPosition()) > MAX_DISTANCE_RANGE){
                 return;
             }
-            getLog().infoSimTime(this, "Received Detection message from " + IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getSource().getSourceAddress().address) + " to " + IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getDestination().getAddress().address));
+            if (isDuplicate(((InDetectionZone) raw.payload).message_id)) {
+                getLog().infoSimTime(this, "Ignored duplicate Detection message of {}", ((InDetectionZone) raw.payload).id);
+                return;
+            }
+            getLog().infoSimTime(this, "Received Detection message from {} to {}", IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getSource().getSourceAddress().address), IpResolver.getSingleton().reverseLookup(receivedMessage.getRouting().getDestination().getAddress().address));
             // Forward to another next vehicle or TL
-            forward_detection(receivedMessage);
+            forward_detection(receivedMessage, getOs().getSimulationTime() + MAX_MESSAGE_WAIT);
         }
     }
 
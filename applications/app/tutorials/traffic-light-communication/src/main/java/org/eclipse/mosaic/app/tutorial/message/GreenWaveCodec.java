@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial.message;
+
+import org.eclipse.mosaic.app.tutorial.CAM;
+import org.eclipse.mosaic.app.tutorial.CAMDelta;
+import org.eclipse.mosaic.app.tutorial.Control;
+import org.eclipse.mosaic.app.tutorial.InDetectionZone;
+import org.eclipse.mosaic.app.tutorial.PhasePlan;
+import org.eclipse.mosaic.app.tutorial.TL;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.v2x.EncodedPayload;
+import org.eclipse.mosaic.lib.util.SerializationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Schema based binary encoding of {@link RawPayload}s, used instead of Java serialization.
+ *
+ * <p>Each encoded payload starts with the {@link PayloadType} tag, followed by the destination
+ * and the fixed field layout of the payload type. Unit ids following the {@code veh_<n>} or
+ * {@code rsu_<n>} naming scheme are interned to a kind byte and their integer index.
+ * Payloads without a dedicated layout fall back to Java serialization.</p>
+ */
+public final class GreenWaveCodec {
+
+    private static final byte ID_NULL = 0;
+    private static final byte ID_STRING = 1;
+    private static final byte ID_VEHICLE = 2;
+    private static final byte ID_RSU = 3;
+
+    private static final String VEHICLE_PREFIX = "veh_";
+    private static final String RSU_PREFIX = "rsu_";
+
+    private static final DriveDirection[] DRIVE_DIRECTIONS = DriveDirection.values();
+    private static final Control.Rule[] RULES = Control.Rule.values();
+
+    private GreenWaveCodec() {
+        // static methods only
+    }
+
+    /**
+     * Encodes the given payload into its binary representation.
+     *
+     * @param rawPayload the payload to encode
+     * @return the encoded bytes
+     * @throws IOException if the payload could not be encoded
+     */
+    public static byte[] encode(RawPayload rawPayload) throws IOException {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(64); DataOutputStream dos = new DataOutputStream(baos)) {
+            encode(rawPayload, dos);
+            dos.flush();
+            return baos.toByteArray();
+        }
+    }
+
+    /**
+     * Writes the binary representation of the given payload to the given {@link DataOutput}.
+     */
+    public static void encode(RawPayload rawPayload, DataOutput out) throws IOException {
+        final PayloadType type = PayloadType.of(rawPayload.payload);
+        out.writeByte(type.getTag());
+        writeId(out, rawPayload.destination);
+        switch (type) {
+            case CAM:
+                writeCam(out, (CAM) rawPayload.payload);
+                break;
+            case IN_DETECTION_ZONE:
+                writeDetection(out, (InDetectionZone) rawPayload.payload);
+                break;
+            case CONTROL:
+                writeControl(out, (Control) rawPayload.payload);
+                break;
+            case TL:
+                writeTrafficLight(out, (TL) rawPayload.payload);
+                break;
+            case CAM_DELTA:
+                writeCamDelta(out, (CAMDelta) rawPayload.payload);
+                break;
+            case PHASE_PLAN:
+                writePhasePlan(out, (PhasePlan) rawPayload.payload);
+                break;
+            default:
+                byte[] serialized = new SerializationUtils<>().toBytes(rawPayload.payload);
+                out.writeInt(serialized.length);
+                out.write(serialized);
+                break;
+        }
+    }
+
+    /**
+     * Decodes a payload from the bytes of the given {@link EncodedPayload}.
+     *
+     * @throws IOException if the bytes could not be decoded
+     */
+    public static RawPayload decode(EncodedPayload encodedPayload) throws IOException {
+        return decode(encodedPayload.getBytes());
+    }
+
+    /**
+     * Decodes a payload from the given bytes.
+     *
+     * @throws IOException if the bytes could not be decoded
+     */
+    public static RawPayload decode(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return decode(in);
+        }
+    }
+
+    /**
+     * Reads a payload from the given {@link DataInput}.
+     *
+     * @throws IOException if the input could not be decoded
+     */
+    public static RawPayload decode(DataInput in) throws IOException {
+        final PayloadType type = PayloadType.fromTag(in.readByte());
+        final String destination = readId(in);
+        final Object payload;
+        switch (type) {
+            case CAM:
+                payload = readCam(in);
+                break;
+            case IN_DETECTION_ZONE:
+                payload = readDetection(in);
+                break;
+            case CONTROL:
+                payload = readControl(in);
+                break;
+            case TL:
+                payload = readTrafficLight(in);
+                break;
+            case CAM_DELTA:
+                payload = readCamDelta(in);
+                break;
+            case PHASE_PLAN:
+                payload = readPhasePlan(in);
+                break;
+            default:
+                byte[] serialized = new byte[in.readInt()];
+                in.readFully(serialized);
+                try {
+                    payload = new SerializationUtils<>().fromBytes(serialized);
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+                break;
+        }
+        return new RawPayload(payload, destination);
+    }
+
+    private static void writeCam(DataOutput out, CAM cam) throws IOException {
+        out.writeByte(cam.TTL);
+        out.writeInt(cam.sequence);
+        writeId(out, cam.id);
+        out.writeDouble(cam.speed);
+        out.writeByte(cam.direction != null ? cam.direction.ordinal() : -1);
+        out.writeBoolean(cam.isMovingTowards);
+        out.writeDouble(cam.acceleration);
+        out.writeByte(cam.lane);
+        writeId(out, cam.route);
+        writePosition(out, cam.position);
+    }
+
+    private static CAM readCam(DataInput in) throws IOException {
+        CAM cam = new CAM();
+        cam.TTL = in.readByte();
+        cam.sequence = in.readInt();
+        cam.id = readId(in);
+        cam.speed = in.readDouble();
+        byte direction = in.readByte();
+        cam.direction = direction >= 0 ? DRIVE_DIRECTIONS[direction] : null;
+        cam.isMovingTowards = in.readBoolean();
+        cam.acceleration = in.readDouble();
+        cam.lane = in.readByte();
+        cam.route = readId(in);
+        cam.position = readPosition(in);
+        return cam;
+    }
+
+    private static void writeCamDelta(DataOutput out, CAMDelta delta) throws IOException {
+        writeId(out, delta.id);
+        out.writeInt(delta.keyframe);
+        // single precision is sufficient for the values changing between two key frames
+        out.writeFloat((float) delta.speed);
+        out.writeFloat((float) delta.acceleration);
+        out.writeInt(delta.latitude_offset);
+        out.writeInt(delta.longitude_offset);
+    }
+
+    private static CAMDelta readCamDelta(DataInput in) throws IOException {
+        CAMDelta delta = new CAMDelta();
+        delta.id = readId(in);
+        delta.keyframe = in.readInt();
+        delta.speed = in.readFloat();
+        delta.acceleration = in.readFloat();
+        delta.latitude_offset = in.readInt();
+        delta.longitude_offset = in.readInt();
+        return delta;
+    }
+
+    private static void writePhasePlan(DataOutput out, PhasePlan plan) throws IOException {
+        writeId(out, plan.id);
+        writePosition(out, plan.position);
+        out.writeByte(plan.phase);
+        out.writeLong(plan.phase_start);
+        out.writeLong(plan.coordinated_start);
+        out.writeLong(plan.cycle_time);
+    }
+
+    private static PhasePlan readPhasePlan(DataInput in) throws IOException {
+        PhasePlan plan = new PhasePlan();
+        plan.id = readId(in);
+        plan.position = readPosition(in);
+        plan.phase = in.readUnsignedByte();
+        plan.phase_start = in.readLong();
+        plan.coordinated_start = in.readLong();
+        plan.cycle_time = in.readLong();
+        return plan;
+    }
+
+    private static void writeDetection(DataOutput out, InDetectionZone detection) throws IOException {
+        out.writeByte(detection.TTL);
+        out.writeLong(detection.message_id);
+        writeId(out, detection.id);
+        out.writeShort(detection.route);
+        out.writeByte(detection.lane);
+        writePosition(out, detection.position);
+        writeText(out, detection.message);
+    }
+
+    private static InDetectionZone readDetection(DataInput in) throws IOException {
+        InDetectionZone detection = new InDetectionZone();
+        detection.TTL = in.readByte();
+        detection.message_id = in.readLong();
+        detection.id = readId(in);
+        detection.route = in.readShort();
+        detection.lane = in.readByte();
+        detection.position = readPosition(in);
+        detection.message = readText(in);
+        return detection;
+    }
+
+    private static void writeControl(DataOutput out, Control control) throws IOException {
+        out.writeByte(control.TTL);
+        out.writeLong(control.message_id);
+        writeId(out, control.to_who);
+        out.writeByte(control.rule != null ? control.rule.ordinal() : -1);
+        writePosition(out, control.general_location);
+    }
+
+    private static Control readControl(DataInput in) throws IOException {
+        Control control = new Control();
+        control.TTL = in.readByte();
+        control.message_id = in.readLong();
+        control.to_who = readId(in);
+        byte rule = in.readByte();
+        control.rule = rule >= 0 ? RULES[rule] : null;
+        control.general_location = readPosition(in);
+        return control;
+    }
+
+    private static void writeTrafficLight(DataOutput out, TL trafficLight) throws IOException {
+        out.writeByte(trafficLight.TTL);
+        writeId(out, trafficLight.id);
+        out.writeBoolean(trafficLight.isOff);
+        out.writeByte(trafficLight.state.length);
+        for (long word : trafficLight.state) {
+            out.writeLong(word);
+        }
+    }
+
+    private static TL readTrafficLight(DataInput in) throws IOException {
+        TL trafficLight = new TL();
+        trafficLight.TTL = in.readByte();
+        trafficLight.id = readId(in);
+        trafficLight.isOff = in.readBoolean();
+        trafficLight.state = new long[in.readUnsignedByte()];
+        for (int i = 0; i < trafficLight.state.length; i++) {
+            trafficLight.state[i] = in.readLong();
+        }
+        return trafficLight;
+    }
+
+    private static void writePosition(DataOutput out, GeoPoint position) throws IOException {
+        out.writeBoolean(position != null);
+        if (position != null) {
+            SerializationUtils.encodeGeoPoint(out, position);
+        }
+    }
+
+    private static GeoPoint readPosition(DataInput in) throws IOException {
+        return in.readBoolean() ? SerializationUtils.decodeGeoPoint(in) : null;
+    }
+
+    private static void writeText(DataOutput out, String text) throws IOException {
+        out.writeBoolean(text != null);
+        if (text != null) {
+            out.writeUTF(text);
+        }
+    }
+
+    private static String readText(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Writes the given id, replacing the well known {@code veh_<n>} and {@code rsu_<n>} names
+     * by their integer index.
+     */
+    static void writeId(DataOutput out, String id) throws IOException {
+        if (id == null) {
+            out.writeByte(ID_NULL);
+            return;
+        }
+        int index = indexOf(id, VEHICLE_PREFIX);
+        if (index >= 0) {
+            out.writeByte(ID_VEHICLE);
+            out.writeInt(index);
+            return;
+        }
+        index = indexOf(id, RSU_PREFIX);
+        if (index >= 0) {
+            out.writeByte(ID_RSU);
+            out.writeInt(index);
+            return;
+        }
+        out.writeByte(ID_STRING);
+        out.writeUTF(id);
+    }
+
+    static String readId(DataInput in) throws IOException {
+        final byte kind = in.readByte();
+        switch (kind) {
+            case ID_NULL:
+                return null;
+            case ID_VEHICLE:
+                return VEHICLE_PREFIX + in.readInt();
+            case ID_RSU:
+                return RSU_PREFIX + in.readInt();
+            case ID_STRING:
+                return in.readUTF();
+            default:
+                throw new IOException("Unknown id kind " + kind);
+        }
+    }
+
+    /**
+     * Returns the numeric suffix of the given id if it consists of the prefix followed by
+     * a canonical, non-negative integer, otherwise -1.
+     */
+    private static int indexOf(String id, String prefix) {
+        if (!id.startsWith(prefix)) {
+            return -1;
+        }
+        final int length = id.length();
+        final int start = prefix.length();
+        // at most 9 digits to stay within int range, no leading zeros to allow a lossless round trip
+        if (length == start || length - start > 9 || (id.charAt(start) == '0' && length - start > 1)) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < length; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
@@ -23,15 +23,35 @@ import javax.annotation.Nonnull;
 
 public final class GreenWaveMsg extends V2xMessage {
     private final RawPayload         message;
-    private final EncodedPayload     payload;
+    private volatile EncodedPayload  payload;
     private final static long    MIN_LEN = 8L;
 
     public GreenWaveMsg(MessageRouting routing, RawPayload message) {
+        this(routing, message, false);
+    }
+
+    /**
+     * Creates a new message carrying the given payload.
+     *
+     * @param routing      the routing of this message
+     * @param message      the payload of this message
+     * @param encodeLazily if {@code true}, the payload is encoded not before {@link #getPayload()}
+     *                     is called for the first time, e.g. by a coupled network simulator. The payload
+     *                     must not be modified after sending the message in this case, as the encoded
+     *                     bytes reflect the state of the payload at the time of their creation.
+     */
+    public GreenWaveMsg(MessageRouting routing, RawPayload message, boolean encodeLazily) {
         super(routing);
         this.message = message;
+        if (!encodeLazily) {
+            this.payload = encode(message);
+        }
+    }
+
+    private static EncodedPayload encode(RawPayload message) {
         try {
-            byte[] raw_data = message.to_byte_array();
-            this.payload = new EncodedPayload(raw_data, MIN_LEN);
+            byte[] raw_data = GreenWaveCodec.encode(message);
+            return new EncodedPayload(raw_data, MIN_LEN);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -44,7 +64,13 @@ public final class GreenWaveMsg extends V2xMessage {
     @Nonnull
     @Override
     public EncodedPayload getPayload() {
-        return payload;
+        EncodedPayload encoded = payload;
+        if (encoded == null) {
+            // concurrent callers may both encode the payload, which yields equal results
+            encoded = encode(message);
+            payload = encoded;
+        }
+        return encoded;
     }
 
     @Override
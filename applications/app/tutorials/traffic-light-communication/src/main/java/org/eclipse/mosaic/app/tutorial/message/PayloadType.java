@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial.message;
+
+import org.eclipse.mosaic.app.tutorial.CAM;
+import org.eclipse.mosaic.app.tutorial.CAMDelta;
+import org.eclipse.mosaic.app.tutorial.Control;
+import org.eclipse.mosaic.app.tutorial.InDetectionZone;
+import org.eclipse.mosaic.app.tutorial.PhasePlan;
+import org.eclipse.mosaic.app.tutorial.TL;
+
+/**
+ * Stable type tags of the payloads carried by a {@link GreenWaveMsg}. The tag is written
+ * as the first byte of every encoded payload and replaces the former class hash code.
+ */
+public enum PayloadType {
+
+    /**
+     * Any other {@link java.io.Serializable} payload, encoded using Java serialization.
+     */
+    SERIALIZED(0, null),
+    CAM(1, org.eclipse.mosaic.app.tutorial.CAM.class),
+    IN_DETECTION_ZONE(2, InDetectionZone.class),
+    CONTROL(3, Control.class),
+    TL(4, org.eclipse.mosaic.app.tutorial.TL.class),
+    CAM_DELTA(5, CAMDelta.class),
+    PHASE_PLAN(6, PhasePlan.class);
+
+    private static final PayloadType[] BY_TAG = new PayloadType[values().length];
+
+    static {
+        for (PayloadType type : values()) {
+            BY_TAG[type.tag] = type;
+        }
+    }
+
+    private final byte tag;
+    private final Class<?> payloadClass;
+
+    PayloadType(int tag, Class<?> payloadClass) {
+        this.tag = (byte) tag;
+        this.payloadClass = payloadClass;
+    }
+
+    public byte getTag() {
+        return tag;
+    }
+
+    public Class<?> getPayloadClass() {
+        return payloadClass;
+    }
+
+    /**
+     * Returns the type of the given payload object, or {@link #SERIALIZED}
+     * if there is no dedicated encoding for its class.
+     */
+    public static PayloadType of(Object payload) {
+        if (payload instanceof CAM) {
+            return CAM;
+        } else if (payload instanceof InDetectionZone) {
+            return IN_DETECTION_ZONE;
+        } else if (payload instanceof Control) {
+            return CONTROL;
+        } else if (payload instanceof TL) {
+            return TL;
+        } else if (payload instanceof CAMDelta) {
+            return CAM_DELTA;
+        } else if (payload instanceof PhasePlan) {
+            return PHASE_PLAN;
+        }
+        return SERIALIZED;
+    }
+
+    /**
+     * Returns the type for the given tag.
+     *
+     * @throws IllegalArgumentException if the tag is unknown
+     */
+    public static PayloadType fromTag(int tag) {
+        if (tag < 0 || tag >= BY_TAG.length || BY_TAG[tag] == null) {
+            throw new IllegalArgumentException("Unknown payload type tag " + tag);
+        }
+        return BY_TAG[tag];
+    }
+}
@@ -29,7 +29,7 @@ public class RawPayload implements Serializable{
     public Object payload;
 
     public RawPayload(Object payload, String destination) {
-        this.payload_type = payload.getClass().hashCode();
+        this.payload_type = PayloadType.of(payload).getTag();
         this.payload = payload;
         this.destination = destination;
     }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.app.tutorial.BeaconTrigger.Beacon;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+public class BeaconTriggerTest {
+
+    private static final GeoPoint ORIGIN = GeoPoint.latLon(40.743457, -73.988281);
+
+    private final BeaconTrigger trigger = new BeaconTrigger(100 * TIME.MILLI_SECOND, TIME.SECOND, 4, 4, 0.5);
+
+    private static CAM cam(double metersNorth, double speed, int lane) {
+        // one degree of latitude is about 111 km
+        return new CAM("veh_0", speed, DriveDirection.FORWARD, true, 0, lane, "1",
+                GeoPoint.latLon(ORIGIN.getLatitude() + metersNorth / 111_000, ORIGIN.getLongitude()));
+    }
+
+    @Test
+    public void standingVehicleBeaconsWithMaximumInterval() {
+        final CAM first = cam(0, 0, 0);
+        assertEquals(Beacon.FULL, trigger.next(0, first, 90));
+        assertSame(first, trigger.getKeyframe());
+
+        for (long time = 100 * TIME.MILLI_SECOND; time < TIME.SECOND; time += 100 * TIME.MILLI_SECOND) {
+            assertEquals(Beacon.NONE, trigger.next(time, cam(0, 0, 0), 90));
+        }
+        assertEquals(Beacon.FULL, trigger.next(TIME.SECOND, cam(0, 0, 0), 90));
+    }
+
+    @Test
+    public void changesTriggerDeltas() {
+        trigger.next(0, cam(0, 5, 0), 90);
+
+        // below all thresholds
+        assertEquals(Beacon.NONE, trigger.next(100 * TIME.MILLI_SECOND, cam(1, 5.2, 0), 92));
+        // position changed by more than 4 m
+        assertEquals(Beacon.DELTA, trigger.next(200 * TIME.MILLI_SECOND, cam(5, 5.2, 0), 92));
+        // speed changed by more than 0.5 m/s since the last beacon
+        assertEquals(Beacon.DELTA, trigger.next(300 * TIME.MILLI_SECOND, cam(5, 6, 0), 92));
+        // heading changed by more than 4 degree since the last beacon
+        assertEquals(Beacon.NONE, trigger.next(400 * TIME.MILLI_SECOND, cam(5, 6, 0), 94));
+        assertEquals(Beacon.DELTA, trigger.next(500 * TIME.MILLI_SECOND, cam(5, 6, 0), 97));
+    }
+
+    @Test
+    public void minimumIntervalIsRespected() {
+        trigger.next(0, cam(0, 5, 0), 90);
+
+        assertEquals(Beacon.NONE, trigger.next(50 * TIME.MILLI_SECOND, cam(10, 10, 1), 180));
+        assertEquals(Beacon.FULL, trigger.next(100 * TIME.MILLI_SECOND, cam(10, 10, 1), 180));
+    }
+
+    @Test
+    public void laneChangeRequiresKeyframe() {
+        trigger.next(0, cam(0, 5, 0), 90);
+        assertEquals(Beacon.DELTA, trigger.next(100 * TIME.MILLI_SECOND, cam(5, 5, 0), 90));
+
+        final CAM changedLane = cam(10, 5, 1);
+        assertEquals(Beacon.FULL, trigger.next(200 * TIME.MILLI_SECOND, changedLane, 90));
+        assertSame(changedLane, trigger.getKeyframe());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+public class GreenWaveTest {
+
+    private static GreenWave greenWave(int coordinatedPhase) {
+        CCorridor corridor = new CCorridor();
+        corridor.coordinatedPhase = coordinatedPhase;
+        corridor.cycleTime = 60 * TIME.SECOND;
+        corridor.progressionSpeed = 10;
+        return new GreenWave(corridor, SignalPlan.of(new CSignalController()));
+    }
+
+    @Test
+    public void offsetIsTravelTimeWithinCycle() {
+        GreenWave greenWave = greenWave(1);
+
+        assertEquals(1, greenWave.getCoordinatedPhase());
+        assertEquals(0, greenWave.getOffset(0));
+        assertEquals(8 * TIME.SECOND, greenWave.getOffset(80));
+        // 75 s travel time
+        assertEquals(15 * TIME.SECOND, greenWave.getOffset(750));
+    }
+
+    @Test
+    public void nextStart() {
+        GreenWave greenWave = greenWave(0);
+
+        // upstream started at 100 s, arrival after 8 s
+        assertEquals(108 * TIME.SECOND, greenWave.nextStart(100 * TIME.SECOND, 80, 100 * TIME.SECOND));
+        assertEquals(108 * TIME.SECOND, greenWave.nextStart(100 * TIME.SECOND, 80, 108 * TIME.SECOND));
+        // the start has passed already, continue with the next cycle
+        assertEquals(168 * TIME.SECOND, greenWave.nextStart(100 * TIME.SECOND, 80, 109 * TIME.SECOND));
+        assertEquals(228 * TIME.SECOND, greenWave.nextStart(100 * TIME.SECOND, 80, 200 * TIME.SECOND));
+    }
+
+    @Test
+    public void coordinatedPhaseForcesOffAfterMinGreenAndIsHeld() {
+        final CSignalController config = new CSignalController();
+        config.controller = "actuated";
+        final SignalPlan plan = SignalPlan.of(config);
+        final GreenWave greenWave = greenWave(1);
+        final CoordinatedSignalController controller =
+                new CoordinatedSignalController(SignalController.create(plan, config), greenWave);
+        controller.initialize(plan, config);
+        // heavy queue on route 4, which is only served by phase 0
+        final int[] queues = new int[TrafficLight.ROUTES + 1];
+        queues[4] = config.queueThreshold + 1;
+
+        // the current phase keeps its minimal green time
+        controller.requestCoordinatedPhase(0, 2 * TIME.SECOND);
+        assertEquals(0, controller.nextPhase(0, 2 * TIME.SECOND, queues));
+        assertEquals(config.minGreenTime, controller.getDecisionTime(0, 2 * TIME.SECOND));
+        assertEquals(1, controller.nextPhase(0, config.minGreenTime, queues));
+
+        // the coordinated phase is held, although the actuated controller would switch
+        assertEquals(greenWave.getHoldTime(), controller.getDecisionTime(1, 0));
+        assertEquals(1, controller.nextPhase(1, config.minGreenTime, queues));
+        assertFalse(controller.isDecisionRequired(1, config.minGreenTime, 4, 0, queues[4]));
+        assertEquals(0, controller.nextPhase(1, greenWave.getHoldTime(), queues));
+    }
+
+    @Test
+    public void shownCoordinatedPhaseIsHeld() {
+        final CSignalController config = new CSignalController();
+        config.controller = "actuated";
+        final SignalPlan plan = SignalPlan.of(config);
+        final GreenWave greenWave = greenWave(1);
+        final CoordinatedSignalController controller =
+                new CoordinatedSignalController(SignalController.create(plan, config), greenWave);
+        controller.initialize(plan, config);
+        final int[] queues = new int[TrafficLight.ROUTES + 1];
+        queues[4] = config.queueThreshold + 1;
+
+        controller.requestCoordinatedPhase(1, 10 * TIME.SECOND);
+        assertEquals(1, controller.nextPhase(1, 10 * TIME.SECOND, queues));
+        assertEquals(10 * TIME.SECOND + greenWave.getHoldTime(), controller.getDecisionTime(1, 10 * TIME.SECOND));
+        assertEquals(0, controller.nextPhase(1, 10 * TIME.SECOND + greenWave.getHoldTime(), queues));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownCoordinatedPhase() {
+        greenWave(3);
+    }
+}
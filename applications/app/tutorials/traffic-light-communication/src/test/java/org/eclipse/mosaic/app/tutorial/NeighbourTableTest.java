@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class NeighbourTableTest {
+
+    private static final GeoPoint ANCHOR = GeoPoint.latLon(40.743457, -73.988281);
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(ANCHOR);
+
+    private NeighbourTable table;
+
+    @Before
+    public void setUp() {
+        table = new NeighbourTable(ANCHOR, TIME.SECOND);
+    }
+
+    private static CAM cam(String id, String route, int lane, double metersNorth) {
+        // one degree of latitude is about 111 km
+        return new CAM(id, 10, DriveDirection.FORWARD, true, 0, lane, route,
+                GeoPoint.latLon(ANCHOR.getLatitude() + metersNorth / 111_000, ANCHOR.getLongitude()));
+    }
+
+    @Test
+    public void nearestToAnchor() {
+        assertNull(table.getNearestToAnchor());
+
+        table.update(cam("veh_0", "1", 0, 30), 0);
+        table.update(cam("veh_1", "1", 1, 10), 0);
+        table.update(cam("veh_2", "4", 0, 20), 0);
+
+        assertEquals("veh_1", table.getNearestToAnchor().id);
+        assertEquals("veh_0", table.getNearestToAnchor("1", 0).id);
+        assertEquals("veh_2", table.getNearestToAnchor("4", 0).id);
+        // no vehicle on this lane, fall back to the nearest one
+        assertEquals("veh_1", table.getNearestToAnchor("6", 2).id);
+
+        // vehicle moves away from the anchor
+        table.update(cam("veh_1", "1", 1, 50), 0);
+        assertEquals("veh_2", table.getNearestToAnchor().id);
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    public void nearestToAnchorOnLane() {
+        table.update(cam("veh_0", "1", 0, 30), 0);
+        table.update(cam("veh_1", "1", 0, 20), 0);
+        table.update(cam("veh_2", "1", 1, 10), 0);
+        assertEquals("veh_1", table.getNearestToAnchor("1", 0).id);
+
+        // vehicle changes its lane
+        table.update(cam("veh_1", "1", 1, 5), 0);
+        assertEquals("veh_0", table.getNearestToAnchor("1", 0).id);
+        assertEquals("veh_1", table.getNearestToAnchor("1", 1).id);
+
+        table.remove("veh_0");
+        // no vehicle left on this lane, fall back to the nearest one
+        assertEquals("veh_1", table.getNearestToAnchor("1", 0).id);
+
+        table.setAnchor(GeoPoint.latLon(ANCHOR.getLatitude() + 12d / 111_000, ANCHOR.getLongitude()));
+        assertEquals("veh_2", table.getNearestToAnchor("1", 1).id);
+    }
+
+    @Test
+    public void nearestToPosition() {
+        table.update(cam("veh_0", "1", 0, 30), 0);
+        table.update(cam("veh_1", "1", 1, 10), 0);
+
+        final GeoPoint position = GeoPoint.latLon(ANCHOR.getLatitude() + 35d / 111_000, ANCHOR.getLongitude());
+        assertEquals("veh_0", table.getNearestTo(position).id);
+    }
+
+    @Test
+    public void nearestMatchesLinearSearch() {
+        final Random random = new Random(7);
+        for (int step = 0; step < 20; step++) {
+            for (int i = 0; i < 50; i++) {
+                // about 500 m in each direction around the anchor
+                table.update(new CAM("veh_" + i, 10, DriveDirection.FORWARD, true, 0, 0, "1", GeoPoint.latLon(
+                        ANCHOR.getLatitude() + (random.nextDouble() - 0.5) / 111,
+                        ANCHOR.getLongitude() + (random.nextDouble() - 0.5) / 84
+                )), step * TIME.MILLI_SECOND);
+            }
+            if (step % 5 == 4) {
+                table.remove("veh_" + step);
+            }
+            assertEquals(nearest(ANCHOR), table.getNearestToAnchor().id);
+            for (int query = 0; query < 10; query++) {
+                final GeoPoint position = GeoPoint.latLon(
+                        ANCHOR.getLatitude() + (random.nextDouble() - 0.5) / 111,
+                        ANCHOR.getLongitude() + (random.nextDouble() - 0.5) / 84
+                );
+                assertEquals(nearest(position), table.getNearestTo(position).id);
+            }
+        }
+    }
+
+    private String nearest(GeoPoint position) {
+        String nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < 50; i++) {
+            final CAM cam = table.get("veh_" + i);
+            if (cam != null && cam.position.toVector3d().distanceTo(position.toVector3d()) < nearestDistance) {
+                nearest = cam.id;
+                nearestDistance = cam.position.toVector3d().distanceTo(position.toVector3d());
+            }
+        }
+        return nearest;
+    }
+
+    @Test
+    public void expiry() {
+        table.update(cam("veh_0", "1", 0, 10), 0);
+        table.update(cam("veh_1", "1", 0, 20), 500 * TIME.MILLI_SECOND);
+        table.update(cam("veh_0", "1", 0, 10), 800 * TIME.MILLI_SECOND);
+
+        table.expire(1600 * TIME.MILLI_SECOND);
+        assertTrue(table.contains("veh_0"));
+        assertFalse(table.contains("veh_1"));
+        assertEquals("veh_0", table.getNearestToAnchor().id);
+
+        table.expire(2 * TIME.SECOND);
+        assertTrue(table.isEmpty());
+        assertNull(table.getNearestToAnchor());
+        assertNull(table.getNearestTo(ANCHOR));
+    }
+
+    @Test
+    public void remove() {
+        table.update(cam("veh_0", "1", 0, 10), 0);
+        table.update(cam("veh_1", "1", 0, 20), 0);
+        table.update(cam("veh_2", "1", 0, 30), 0);
+
+        assertEquals("veh_0", table.remove("veh_0").id);
+        assertNull(table.remove("veh_0"));
+        assertNull(table.get("veh_0"));
+        assertEquals("veh_1", table.getNearestToAnchor().id);
+        assertEquals("veh_2", table.getNearestTo(table.get("veh_2").position).id);
+
+        table.expire(2 * TIME.SECOND);
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    public void applyDelta() {
+        final CAM keyframe = cam("veh_0", "1", 0, 30);
+        keyframe.sequence = 7;
+        table.update(keyframe, 0);
+        table.update(cam("veh_1", "1", 1, 20), 0);
+
+        // veh_0 approaches the anchor
+        final CAMDelta delta = CAMDelta.of(keyframe, cam("veh_0", "1", 0, 10));
+        delta.speed = 4;
+        final CAM updated = table.apply(delta, 800 * TIME.MILLI_SECOND);
+
+        assertEquals(10, updated.position.distanceTo(ANCHOR), 0.1);
+        assertEquals(4, updated.speed, 0d);
+        assertEquals("1", updated.route);
+        assertEquals(7, updated.sequence);
+        assertEquals("veh_0", table.getNearestToAnchor().id);
+
+        // the delta refreshes the neighbour
+        table.expire(1600 * TIME.MILLI_SECOND);
+        assertTrue(table.contains("veh_0"));
+        assertFalse(table.contains("veh_1"));
+    }
+
+    @Test
+    public void deltaOfUnknownKeyframeIsIgnored() {
+        final CAM keyframe = cam("veh_0", "1", 0, 30);
+        keyframe.sequence = 7;
+
+        assertNull(table.apply(CAMDelta.of(keyframe, cam("veh_0", "1", 0, 10)), 0));
+
+        table.update(keyframe, 0);
+        keyframe.sequence = 6;
+        final CAMDelta outdated = CAMDelta.of(keyframe, cam("veh_0", "1", 0, 10));
+        keyframe.sequence = 7;
+        assertNull(table.apply(outdated, 0));
+        assertEquals(30, table.get("veh_0").position.distanceTo(ANCHOR), 0.1);
+    }
+
+    @Test
+    public void changeAnchor() {
+        table.update(cam("veh_0", "1", 0, 30), 0);
+        table.update(cam("veh_1", "1", 1, 10), 0);
+
+        table.setAnchor(GeoPoint.latLon(ANCHOR.getLatitude() + 40d / 111_000, ANCHOR.getLongitude()));
+        assertEquals("veh_0", table.getNearestToAnchor().id);
+
+        table.update(cam("veh_1", "1", 1, 45), 0);
+        assertEquals("veh_1", table.getNearestToAnchor().id);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.mosaic.app.tutorial.message.GreenWaveMsg;
+import org.eclipse.mosaic.app.tutorial.message.RawPayload;
+import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RelayQueueTest {
+
+    private final RelayQueue queue = new RelayQueue(3);
+
+    private final List<GreenWaveMsg> relayed = new ArrayList<>();
+    private final List<Long> deadlines = new ArrayList<>();
+
+    private static GreenWaveMsg detection(String vehicleId) {
+        final InDetectionZone detection = new InDetectionZone();
+        detection.id = vehicleId;
+        return new GreenWaveMsg(mock(MessageRouting.class), new RawPayload(detection, "rsu_0"), true);
+    }
+
+    private void relay(GreenWaveMsg message, long deadline) {
+        relayed.add(message);
+        deadlines.add(deadline);
+    }
+
+    @Test
+    public void drainInDeadlineOrder() {
+        final GreenWaveMsg first = detection("veh_0");
+        final GreenWaveMsg second = detection("veh_1");
+        queue.offer("veh_1", second, 20);
+        queue.offer("veh_0", first, 10);
+
+        assertEquals(2, queue.drain(0, this::relay));
+
+        assertSame(first, relayed.get(0));
+        assertSame(second, relayed.get(1));
+        assertEquals(Long.valueOf(10), deadlines.get(0));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void duplicatesAreReplaced() {
+        final GreenWaveMsg latest = detection("veh_0");
+        queue.offer("veh_0", detection("veh_0"), 10);
+        queue.offer("veh_0", latest, 20);
+
+        assertEquals(1, queue.size());
+        queue.drain(0, this::relay);
+        assertEquals(1, relayed.size());
+        assertSame(latest, relayed.get(0));
+    }
+
+    @Test
+    public void expiredMessagesAreDropped() {
+        queue.offer("veh_0", detection("veh_0"), 10);
+        queue.offer("veh_1", detection("veh_1"), 20);
+
+        queue.expire(10);
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.getDropped());
+
+        assertEquals(0, queue.drain(20, this::relay));
+        assertTrue(relayed.isEmpty());
+    }
+
+    @Test
+    public void capacityDropsEarliestDeadline() {
+        queue.offer("veh_0", detection("veh_0"), 10);
+        queue.offer("veh_1", detection("veh_1"), 20);
+        queue.offer("veh_2", detection("veh_2"), 30);
+
+        assertFalse(queue.offer("veh_3", detection("veh_3"), 5));
+        assertTrue(queue.offer("veh_4", detection("veh_4"), 40));
+
+        assertEquals(3, queue.size());
+        assertEquals(2, queue.getDropped());
+        queue.drain(0, this::relay);
+        assertEquals(Long.valueOf(20), deadlines.get(0));
+    }
+
+    @Test
+    public void relayMayQueueAgain() {
+        queue.offer("veh_0", detection("veh_0"), 10);
+
+        assertEquals(1, queue.drain(0, (message, deadline) -> queue.offer("veh_0", message, deadline)));
+        assertEquals(1, queue.size());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+public class RoadSideUnitTableTest {
+
+    private static final GeoPoint POSITION = GeoPoint.latLon(40.743457, -73.988281);
+
+    private final RoadSideUnitTable table = new RoadSideUnitTable(TIME.SECOND);
+
+    private static PhasePlan plan(String id, double metersNorth) {
+        // one degree of latitude is about 111 km
+        PhasePlan plan = new PhasePlan();
+        plan.id = id;
+        plan.position = GeoPoint.latLon(POSITION.getLatitude() + metersNorth / 111_000, POSITION.getLongitude());
+        return plan;
+    }
+
+    @Test
+    public void nearestRoadSideUnit() {
+        assertNull(table.getNearestTo(POSITION));
+
+        table.update(plan("rsu_0", 0), 0);
+        table.update(plan("rsu_1", 80), 0);
+        assertEquals("rsu_0", table.getNearestTo(POSITION).id);
+        assertEquals("rsu_1", table.getNearestTo(plan("x", 50).position).id);
+
+        // rsu_1 announced a new plan
+        PhasePlan latest = plan("rsu_1", 80);
+        table.update(latest, 500 * TIME.MILLI_SECOND);
+        assertEquals(latest, table.getNearestTo(plan("x", 50).position));
+    }
+
+    @Test
+    public void expiry() {
+        table.update(plan("rsu_0", 0), 0);
+        table.update(plan("rsu_1", 80), 800 * TIME.MILLI_SECOND);
+
+        table.expire(1500 * TIME.MILLI_SECOND);
+        assertEquals("rsu_1", table.getNearestTo(POSITION).id);
+
+        table.expire(2 * TIME.SECOND);
+        assertTrue(table.isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+public class SeenCacheTest {
+
+    private final SeenCache cache = new SeenCache(4096, 10 * TIME.SECOND);
+
+    @Test
+    public void duplicatesAreDetected() {
+        final long id = SeenCache.messageId("veh_0", 1);
+
+        assertTrue(cache.markSeen(id, 0));
+        assertFalse(cache.markSeen(id, TIME.SECOND));
+        assertTrue(cache.markSeen(SeenCache.messageId("veh_0", 2), TIME.SECOND));
+        assertTrue(cache.markSeen(SeenCache.messageId("veh_1", 1), TIME.SECOND));
+    }
+
+    @Test
+    public void messageIdsDifferPerOrigin() {
+        assertNotEquals(SeenCache.messageId("veh_0", 1), SeenCache.messageId("veh_1", 1));
+        assertNotEquals(SeenCache.messageId("veh_0", 1), SeenCache.messageId("veh_0", 2));
+    }
+
+    @Test
+    public void idsAreRememberedForAtLeastOneWindow() {
+        final long id = SeenCache.messageId("veh_0", 1);
+        assertTrue(cache.markSeen(id, 0));
+
+        // rotated once, the id is still known from the previous filter
+        assertFalse(cache.markSeen(id, 15 * TIME.SECOND));
+    }
+
+    @Test
+    public void idsAreForgottenAfterTwoWindows() {
+        final long id = SeenCache.messageId("veh_0", 1);
+        assertTrue(cache.markSeen(id, 0));
+
+        assertTrue(cache.markSeen(id, 25 * TIME.SECOND));
+    }
+
+    @Test
+    public void fewFalsePositives() {
+        int falsePositives = 0;
+        for (int i = 0; i < 200; i++) {
+            if (!cache.markSeen(SeenCache.messageId("veh_" + (i % 20), i), 0)) {
+                falsePositives++;
+            }
+        }
+        // expected rate with 200 ids in 4096 bits and 3 hashes is about 0.3 %
+        assertTrue("false positives: " + falsePositives, falsePositives <= 5);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SignalControllerTest {
+
+    private final CSignalController config = new CSignalController();
+
+    private SignalController create(String controller) {
+        config.controller = controller;
+        return SignalController.create(SignalPlan.of(config), config);
+    }
+
+    private static int[] queues(int... queuePerRoute) {
+        final int[] queues = new int[TrafficLight.ROUTES + 1];
+        System.arraycopy(queuePerRoute, 0, queues, 1, queuePerRoute.length);
+        return queues;
+    }
+
+    @Test
+    public void defaultSignalPlan() {
+        final SignalPlan plan = SignalPlan.of(config);
+
+        assertEquals(3, plan.getPhaseCount());
+        assertTrue(plan.isConflicting(3, 6));
+        assertTrue(plan.isConflicting(6, 3));
+        assertFalse(plan.isConflicting(1, 6));
+        assertTrue(plan.isGreen(0, 4));
+        assertFalse(plan.isGreen(0, 3));
+        assertEquals(7, plan.getPressure(2, queues(1, 2, 8, 0, 0, 4)));
+        assertEquals(4, plan.getMaxQueue(2, queues(1, 2, 8, 0, 0, 4)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void conflictingPhaseIsRejected() {
+        new SignalPlan(new int[][]{{3, 6}}, new int[][]{{1, 3, 6}});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownRouteIsRejected() {
+        new SignalPlan(new int[0][], new int[][]{{TrafficLight.ROUTES + 1}});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownControllerIsRejected() {
+        create("java.lang.String");
+    }
+
+    @Test
+    public void fixedTime() {
+        final SignalController controller = create("fixed-time");
+
+        assertEquals(0, controller.nextPhase(0, config.greenTime - 1, queues()));
+        assertEquals(1, controller.nextPhase(0, config.greenTime, queues()));
+        assertEquals(0, controller.nextPhase(2, config.greenTime, queues()));
+    }
+
+    @Test
+    public void actuated() {
+        final SignalController controller = create("actuated");
+        final int heavy = config.queueThreshold + 1;
+
+        // minimal green time not yet reached
+        assertEquals(0, controller.nextPhase(0, config.minGreenTime - 1, queues(heavy, 0, 0, 0, 0, 0)));
+        // current phase is extended on demand
+        assertEquals(0, controller.nextPhase(0, config.minGreenTime, queues(heavy, 0, 0, heavy, 0, 0)));
+        // ... but not beyond the maximal green time
+        assertEquals(1, controller.nextPhase(0, config.maxGreenTime, queues(heavy, 0, 0, heavy, 0, 0)));
+        // next phase in order with demand
+        assertEquals(1, controller.nextPhase(0, config.minGreenTime, queues(0, 0, heavy, 0, 0, 0)));
+        assertEquals(2, controller.nextPhase(1, config.minGreenTime, queues(0, 0, 0, 0, 0, heavy)));
+        // no demand at all
+        assertEquals(1, controller.nextPhase(1, config.maxGreenTime, queues()));
+    }
+
+    @Test
+    public void maxPressure() {
+        final SignalController controller = create("max-pressure");
+
+        assertEquals(0, controller.nextPhase(0, config.minGreenTime - 1, queues(5, 5, 5, 0, 0, 0)));
+        assertEquals(1, controller.nextPhase(0, config.minGreenTime, queues(5, 5, 5, 1, 1, 1)));
+        assertEquals(2, controller.nextPhase(0, config.minGreenTime, queues(5, 5, 0, 1, 1, 4)));
+        // ties keep the current phase
+        assertEquals(0, controller.nextPhase(0, config.minGreenTime, queues(1, 1, 1, 1, 1, 1)));
+        // the current phase is not considered after the maximal green time
+        assertEquals(1, controller.nextPhase(0, config.maxGreenTime, queues(1, 1, 1, 1, 1, 1)));
+    }
+
+    @Test
+    public void subThresholdQueueIsServedAfterMaxGreen() {
+        final SignalController controller = create("actuated");
+        final int[] queues = queues(1, 0, 0, 0, 0, 0);
+
+        // a single vehicle does not end the current phase before the maximal green time
+        assertEquals(0, controller.nextPhase(0, config.minGreenTime, queues));
+        assertFalse(controller.isDecisionRequired(0, config.minGreenTime, 1, 0, 1));
+
+        // but it arrives after the maximal green time, and no other decision is scheduled
+        assertEquals(Long.MAX_VALUE, controller.getDecisionTime(0, config.maxGreenTime));
+        assertTrue(controller.isDecisionRequired(0, config.maxGreenTime, 1, 0, 1));
+        assertEquals(1, controller.nextPhase(0, config.maxGreenTime, queues));
+    }
+
+    @Test
+    public void decisionOnQueueChange() {
+        final SignalController maxPressure = create("max-pressure");
+        assertTrue(maxPressure.isDecisionRequired(0, config.minGreenTime, 1, 1, 2));
+        assertTrue(maxPressure.isDecisionRequired(0, config.maxGreenTime, 1, 0, 1));
+        assertFalse(maxPressure.isDecisionRequired(0, config.minGreenTime, 1, 2, 2));
+        // the sub-threshold red queue is served after the maximal green time
+        assertEquals(1, maxPressure.nextPhase(0, config.maxGreenTime, queues(1, 0, 0, 0, 0, 0)));
+
+        final SignalController actuated = create("actuated");
+        assertTrue(actuated.isDecisionRequired(0, config.minGreenTime, 1, config.queueThreshold, config.queueThreshold + 1));
+        assertFalse(actuated.isDecisionRequired(0, config.minGreenTime, 1, 0, config.queueThreshold));
+
+        assertFalse(create("fixed-time").isDecisionRequired(0, 0, 1, 0, 10));
+    }
+
+    @Test
+    public void decisionTime() {
+        final SignalController fixedTime = create("fixed-time");
+        assertEquals(config.greenTime, fixedTime.getDecisionTime(0, 0));
+
+        final SignalController actuated = create("actuated");
+        assertEquals(config.minGreenTime, actuated.getDecisionTime(0, 0));
+        assertEquals(config.maxGreenTime, actuated.getDecisionTime(0, config.minGreenTime));
+        assertEquals(Long.MAX_VALUE, actuated.getDecisionTime(0, config.maxGreenTime));
+    }
+
+    @Test
+    public void customController() {
+        final SignalController controller = create(FixedTimeSignalController.class.getName());
+
+        assertEquals(1, controller.nextPhase(0, config.greenTime, queues()));
+    }
+
+    @Test
+    public void laneQueuesCountPerRoute() {
+        final LaneQueues laneQueues = new LaneQueues();
+        laneQueues.add(2, 0, "veh_0");
+        laneQueues.add(2, 1, "veh_1");
+        laneQueues.add(2, 1, "veh_1");
+        laneQueues.add(5, 3, "veh_2");
+        laneQueues.remove(5, 3, "veh_2");
+        laneQueues.remove(5, 3, "veh_2");
+
+        final int[] sizes = laneQueues.sizes(new int[TrafficLight.ROUTES + 1]);
+        assertEquals(2, sizes[2]);
+        assertEquals(0, sizes[5]);
+        assertEquals(2, laneQueues.size(2));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class StopLinesTest {
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(40.743457, -73.988281));
+
+    @Test
+    public void defaultStopLines() {
+        StopLines stopLines = StopLines.of(new CVehicleToTrafficLightApp().stopLines);
+
+        assertTrue(stopLines.contains(2, 1));
+        assertTrue(stopLines.contains(5, 3));
+        assertFalse(stopLines.contains(2, 2));
+        assertFalse(stopLines.contains(7, 0));
+
+        final GeoPoint stopLine = GeoPoint.latLon(40.743499, -73.988424);
+        final GeoPoint vehicle = GeoPoint.latLon(40.743550, -73.988500);
+        assertEquals(stopLine.distanceTo(vehicle), stopLines.distanceTo(1, 0, vehicle.toCartesian()), 0.05);
+        assertTrue(Double.isNaN(stopLines.distanceTo(1, 5, vehicle.toCartesian())));
+    }
+
+    @Test
+    public void stopLineAhead() {
+        StopLines stopLines = new StopLines();
+        stopLines.set(1, 0, 0, 10);
+
+        // driving north towards the stop line
+        assertTrue(stopLines.isAhead(1, 0, CartesianPoint.xy(0, 0), 0));
+        assertTrue(stopLines.isAhead(1, 0, CartesianPoint.xy(0, 0), 45));
+        // driving south, away from it
+        assertFalse(stopLines.isAhead(1, 0, CartesianPoint.xy(0, 0), 180));
+        // already passed it
+        assertFalse(stopLines.isAhead(1, 0, CartesianPoint.xy(0, 12), 0));
+        assertFalse(stopLines.isAhead(2, 0, CartesianPoint.xy(0, 0), 0));
+        assertEquals(5, stopLines.distanceTo(1, 0, CartesianPoint.xy(3, 6)), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownLane() {
+        new StopLines().set(1, TrafficLight.LANES, 0, 0);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial.message;
+
+import org.eclipse.mosaic.app.tutorial.CAM;
+import org.eclipse.mosaic.app.tutorial.Control;
+import org.eclipse.mosaic.app.tutorial.InDetectionZone;
+import org.eclipse.mosaic.app.tutorial.TrafficLight;
+import org.eclipse.mosaic.app.tutorial.TL;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link GreenWaveCodec} with the Java serialization of {@link RawPayload#to_byte_array()}.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.mosaic.app.tutorial.message.GreenWaveCodecBenchmark},
+ * which prints the encoded size of each payload type before running the benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GreenWaveCodecBenchmark {
+
+    @Param({"CAM", "IN_DETECTION_ZONE", "CONTROL", "TL"})
+    public PayloadType type;
+
+    private RawPayload rawPayload;
+    private byte[] encodedByCodec;
+    private byte[] encodedBySerialization;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        rawPayload = createPayload(type);
+        encodedByCodec = GreenWaveCodec.encode(rawPayload);
+        encodedBySerialization = rawPayload.to_byte_array();
+    }
+
+    @Benchmark
+    public byte[] encodeCodec() throws IOException {
+        return GreenWaveCodec.encode(rawPayload);
+    }
+
+    @Benchmark
+    public byte[] encodeSerialization() throws IOException {
+        return rawPayload.to_byte_array();
+    }
+
+    @Benchmark
+    public RawPayload decodeCodec() throws IOException {
+        return GreenWaveCodec.decode(encodedByCodec);
+    }
+
+    @Benchmark
+    public RawPayload decodeSerialization() throws IOException, ClassNotFoundException {
+        return RawPayload.from_byte_array(encodedBySerialization);
+    }
+
+    static RawPayload createPayload(PayloadType type) {
+        final GeoPoint position = GeoPoint.latLon(40.743499, -73.988424);
+        switch (type) {
+            case CAM:
+                return new RawPayload(new CAM("veh_123", 12.5, DriveDirection.FORWARD, true, 0.3, 1, "2", position), "veh_x");
+            case IN_DETECTION_ZONE:
+                InDetectionZone detection = new InDetectionZone("veh_123", 2, 1, position);
+                detection.id = "veh_123";
+                return new RawPayload(detection, "rsu_0");
+            case CONTROL:
+                return new RawPayload(new Control("veh_123", Control.Rule.STOP, position), "veh_123");
+            case TL:
+                return new RawPayload(new TL("rsu_0", new TrafficLight().get_state(), false), "veh_x");
+            default:
+                throw new IllegalArgumentException("No sample payload for " + type);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (PayloadType type : PayloadType.values()) {
+            if (type == PayloadType.SERIALIZED) {
+                continue;
+            }
+            RawPayload rawPayload = createPayload(type);
+            System.out.printf("%-18s codec: %4d bytes, serialization: %4d bytes%n",
+                    type, GreenWaveCodec.encode(rawPayload).length, rawPayload.to_byte_array().length);
+        }
+        new Runner(new OptionsBuilder().include(GreenWaveCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.app.tutorial.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.mosaic.app.tutorial.CAM;
+import org.eclipse.mosaic.app.tutorial.CAMDelta;
+import org.eclipse.mosaic.app.tutorial.Control;
+import org.eclipse.mosaic.app.tutorial.InDetectionZone;
+import org.eclipse.mosaic.app.tutorial.PhasePlan;
+import org.eclipse.mosaic.app.tutorial.TL;
+import org.eclipse.mosaic.app.tutorial.TrafficLight;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
+
+import org.junit.Test;
+
+
+public class GreenWaveCodecTest {
+
+    private static final GeoPoint POSITION = GeoPoint.latLon(40.743457, -73.988281);
+
+    @Test
+    public void encodeDecodeCam() throws Exception {
+        CAM cam = new CAM("veh_42", 13.2, DriveDirection.FORWARD, true, 0.4, 1, "3", POSITION);
+        cam.TTL = 4;
+        cam.sequence = 17;
+
+        RawPayload decoded = roundTrip(new RawPayload(cam, "veh_x"));
+
+        assertEquals(PayloadType.CAM.getTag(), decoded.payload_type);
+        assertEquals("veh_x", decoded.destination);
+        CAM decodedCam = (CAM) decoded.payload;
+        assertEquals(4, decodedCam.TTL);
+        assertEquals(17, decodedCam.sequence);
+        assertEquals("veh_42", decodedCam.id);
+        assertEquals(13.2, decodedCam.speed, 0d);
+        assertEquals(DriveDirection.FORWARD, decodedCam.direction);
+        assertTrue(decodedCam.isMovingTowards);
+        assertEquals(0.4, decodedCam.acceleration, 0d);
+        assertEquals(1, decodedCam.lane);
+        assertEquals("3", decodedCam.route);
+        assertEquals(POSITION, decodedCam.position);
+    }
+
+    @Test
+    public void encodeDecodeCamDelta() throws Exception {
+        CAM keyframe = new CAM("veh_42", 13.2, DriveDirection.FORWARD, true, 0.4, 1, "3", POSITION);
+        keyframe.sequence = 17;
+        CAM current = new CAM("veh_42", 9.5, DriveDirection.FORWARD, true, -2.0, 1, "3",
+                GeoPoint.latLon(POSITION.getLatitude() + 0.00004, POSITION.getLongitude() - 0.00002));
+
+        RawPayload rawPayload = new RawPayload(CAMDelta.of(keyframe, current), "veh_x");
+        RawPayload decoded = roundTrip(rawPayload);
+
+        assertEquals(PayloadType.CAM_DELTA.getTag(), decoded.payload_type);
+        CAMDelta decodedDelta = (CAMDelta) decoded.payload;
+        assertEquals("veh_42", decodedDelta.id);
+        assertEquals(17, decodedDelta.keyframe);
+        CAM applied = decodedDelta.applyTo(keyframe);
+        assertEquals(9.5, applied.speed, 0d);
+        assertEquals(-2.0, applied.acceleration, 0d);
+        assertEquals(1, applied.lane);
+        assertEquals(current.position.getLatitude(), applied.position.getLatitude(), 1e-7);
+        assertEquals(current.position.getLongitude(), applied.position.getLongitude(), 1e-7);
+        assertTrue(GreenWaveCodec.encode(rawPayload).length < GreenWaveCodec.encode(new RawPayload(current, "veh_x")).length);
+    }
+
+    @Test
+    public void encodeDecodeDetection() throws Exception {
+        InDetectionZone detection = new InDetectionZone();
+        detection.id = "veh_7";
+        detection.message_id = 0x1234_5678_9abcL;
+        detection.route = 5;
+        detection.lane = 2;
+        detection.position = POSITION;
+
+        RawPayload decoded = roundTrip(new RawPayload(detection, "rsu_0"));
+
+        assertEquals("rsu_0", decoded.destination);
+        InDetectionZone decodedDetection = (InDetectionZone) decoded.payload;
+        assertEquals("veh_7", decodedDetection.id);
+        assertEquals(0x1234_5678_9abcL, decodedDetection.message_id);
+        assertEquals(5, decodedDetection.route);
+        assertEquals(2, decodedDetection.lane);
+        assertEquals(6, decodedDetection.TTL);
+        assertEquals(POSITION, decodedDetection.position);
+        assertEquals(detection.message, decodedDetection.message);
+    }
+
+    @Test
+    public void encodeDecodeDetectionMessage() throws Exception {
+        InDetectionZone detection = new InDetectionZone();
+        detection.message = "queue at stop line";
+        InDetectionZone withoutMessage = new InDetectionZone();
+        withoutMessage.message = null;
+
+        assertEquals("queue at stop line", ((InDetectionZone) roundTrip(new RawPayload(detection, "rsu_0")).payload).message);
+        assertNull(((InDetectionZone) roundTrip(new RawPayload(withoutMessage, "rsu_0")).payload).message);
+    }
+
+    @Test
+    public void encodeDecodeControl() throws Exception {
+        Control control = new Control("veh_0", Control.Rule.SLOW_DOWN, null);
+        control.message_id = -42L;
+
+        RawPayload decoded = roundTrip(new RawPayload(control, "veh_0"));
+
+        Control decodedControl = (Control) decoded.payload;
+        assertEquals("veh_0", decodedControl.to_who);
+        assertEquals(Control.Rule.SLOW_DOWN, decodedControl.rule);
+        assertEquals(-42L, decodedControl.message_id);
+        assertNull(decodedControl.general_location);
+    }
+
+    @Test
+    public void encodeDecodeControlWithoutRule() throws Exception {
+        Control control = new Control("veh_0", Control.Rule.GO, POSITION);
+        control.rule = null;
+
+        Control decodedControl = (Control) roundTrip(new RawPayload(control, "veh_0")).payload;
+
+        assertNull(decodedControl.rule);
+        assertEquals("veh_0", decodedControl.to_who);
+        assertEquals(POSITION, decodedControl.general_location);
+    }
+
+    @Test
+    public void encodeDecodeTrafficLight() throws Exception {
+        TrafficLight trafficLight = new TrafficLight();
+        trafficLight.change_state(1, 0, TL.Status.GREEN);
+        trafficLight.change_state(1, 1, TL.Status.YELLOW);
+        trafficLight.change_state(6, 9, TL.Status.BLINKING);
+        trafficLight.change_state(4, 0, TL.Status.RED);
+
+        RawPayload decoded = roundTrip(new RawPayload(new TL("rsu_0", trafficLight.get_state(), false), "veh_x"));
+
+        TL decodedTrafficLight = (TL) decoded.payload;
+        assertEquals("rsu_0", decodedTrafficLight.id);
+        for (int route = 1; route <= TrafficLight.ROUTES; route++) {
+            for (int lane = 0; lane < TrafficLight.LANES; lane++) {
+                assertEquals(trafficLight.get_state(route, lane), decodedTrafficLight.getStatus(route, lane));
+            }
+        }
+        assertEquals(TL.Status.YELLOW, decodedTrafficLight.getStatus(1, 1));
+        assertEquals(TL.Status.BLINKING, decodedTrafficLight.getStatus(6, 9));
+        assertNull(decodedTrafficLight.getStatus(7, 0));
+    }
+
+    @Test
+    public void encodeDecodePhasePlan() throws Exception {
+        PhasePlan plan = new PhasePlan();
+        plan.id = "rsu_3";
+        plan.position = POSITION;
+        plan.phase = 2;
+        plan.phase_start = 12_000_000_000L;
+        plan.coordinated_start = 5_000_000_000L;
+        plan.cycle_time = 60_000_000_000L;
+
+        PhasePlan decodedPlan = (PhasePlan) roundTrip(new RawPayload(plan, "veh_x")).payload;
+
+        assertEquals("rsu_3", decodedPlan.id);
+        assertEquals(POSITION, decodedPlan.position);
+        assertEquals(2, decodedPlan.phase);
+        assertEquals(12_000_000_000L, decodedPlan.phase_start);
+        assertEquals(5_000_000_000L, decodedPlan.coordinated_start);
+        assertEquals(60_000_000_000L, decodedPlan.cycle_time);
+    }
+
+    @Test
+    public void trafficLightStateIsReusedUntilChanged() {
+        TrafficLight trafficLight = new TrafficLight();
+        long[] state = trafficLight.get_state();
+
+        // 60 signals with 2 bits each
+        assertEquals(2, state.length);
+        assertSame(state, trafficLight.get_state());
+
+        trafficLight.setRouteState(4, TL.Status.GREEN);
+        assertSame(state, trafficLight.get_state());
+
+        trafficLight.setRed(4, 2);
+        assertNotSame(state, trafficLight.get_state());
+        assertEquals(TL.Status.GREEN, new TL("rsu_0", state, false).getStatus(4, 2));
+    }
+
+    @Test
+    public void idsNotMatchingNamingSchemeAreKept() throws Exception {
+        Control control = new Control("veh_007", Control.Rule.GO, POSITION);
+
+        RawPayload decoded = roundTrip(new RawPayload(control, "custom"));
+
+        assertEquals("custom", decoded.destination);
+        assertEquals("veh_007", ((Control) decoded.payload).to_who);
+    }
+
+    @Test
+    public void unknownPayloadFallsBackToSerialization() throws Exception {
+        RawPayload decoded = roundTrip(new RawPayload("some text", "veh_1"));
+
+        assertEquals(PayloadType.SERIALIZED.getTag(), decoded.payload_type);
+        assertEquals("some text", decoded.payload);
+    }
+
+    @Test
+    public void encodedCamIsSmallerThanJavaSerialization() throws Exception {
+        RawPayload rawPayload = new RawPayload(
+                new CAM("veh_42", 13.2, DriveDirection.FORWARD, true, 0.4, 1, "3", POSITION), "veh_x"
+        );
+
+        assertTrue(GreenWaveCodec.encode(rawPayload).length < rawPayload.to_byte_array().length / 4);
+    }
+
+    @Test
+    public void decodeFromMessagePayload() throws Exception {
+        Control control = new Control("veh_3", Control.Rule.STOP, POSITION);
+        GreenWaveMsg message = new GreenWaveMsg(mock(MessageRouting.class), new RawPayload(control, "veh_3"));
+
+        RawPayload decoded = GreenWaveCodec.decode(message.getPayload());
+
+        assertEquals(Control.Rule.STOP, ((Control) decoded.payload).rule);
+        assertEquals(message.getPayload().getActualLength(), GreenWaveCodec.encode(decoded).length);
+    }
+
+    @Test
+    public void lazyPayloadIsEncodedOnFirstAccess() throws Exception {
+        CAM cam = new CAM("veh_42", 13.2, DriveDirection.FORWARD, true, 0.4, 1, "3", POSITION);
+        GreenWaveMsg eager = new GreenWaveMsg(mock(MessageRouting.class), new RawPayload(cam, "veh_x"));
+        GreenWaveMsg lazy = new GreenWaveMsg(mock(MessageRouting.class), new RawPayload(cam, "veh_x"), true);
+
+        assertEquals(eager.getPayload(), lazy.getPayload());
+        assertSame(lazy.getPayload(), lazy.getPayload());
+    }
+
+    private static RawPayload roundTrip(RawPayload rawPayload) throws Exception {
+        return GreenWaveCodec.decode(GreenWaveCodec.encode(rawPayload));
+    }
+}
@@ -16,13 +16,16 @@
 package org.eclipse.mosaic.fed.application.ambassador;
 
 import org.eclipse.mosaic.fed.application.ambassador.eventresources.RemoveVehicles;
+import org.eclipse.mosaic.fed.application.ambassador.eventresources.UpdateVehicles;
 import org.eclipse.mosaic.fed.application.ambassador.navigation.CentralNavigationComponent;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.AbstractSimulationUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.TrafficLightGroupUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.TrafficManagementCenterUnit;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.VehicleUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.ReceivedV2xMessage;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.CentralPerceptionComponent;
 import org.eclipse.mosaic.fed.application.ambassador.util.EventNicenessPriorityRegister;
+import org.eclipse.mosaic.fed.application.ambassador.util.UnitLogging;
 import org.eclipse.mosaic.fed.application.app.api.MosaicApplication;
 import org.eclipse.mosaic.fed.application.app.api.TrafficSignAwareApplication;
 import org.eclipse.mosaic.fed.application.app.api.os.OperatingSystem;
@@ -63,6 +66,8 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.util.FileUtils;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
+import org.eclipse.mosaic.lib.util.scheduling.CalendarEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.ConcurrentEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
@@ -101,6 +106,23 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private final Map<String, VehicleRegistration> vehicleRegistrations = new HashMap<>();
 
+    /**
+     * If {@code true}, only the time of the earliest pending event is requested from the RTI,
+     * see {@link CApplicationAmbassador#coalesceTimeAdvanceRequests}.
+     */
+    private final boolean coalesceTimeAdvanceRequests;
+
+    /**
+     * The latest time requested from the RTI which has not been granted yet, or -1 if there is none.
+     */
+    private long pendingAdvanceTime = -1;
+
+    /**
+     * The number of batches the added or updated vehicles of a {@link VehicleUpdates} interaction are split into,
+     * or 0 if an event is scheduled for each vehicle, see {@link CApplicationAmbassador#batchVehicleUpdates}.
+     */
+    private final int vehicleUpdateBatches;
+
     /**
      * Constructor for {@link ApplicationAmbassador}.
      * This will load the configuration, initialize the {@link SimulationKernel},
@@ -122,14 +144,22 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                     "Number of eventSchedulerThreads must be greater than zero."
             );
 
-            if (ambassadorConfig.eventSchedulerThreads == 1) {
+            if (ambassadorConfig.eventSchedulerThreads == 1 && ambassadorConfig.calendarEventScheduler) {
+                eventScheduler = new CalendarEventScheduler();
+            } else if (ambassadorConfig.eventSchedulerThreads == 1) {
                 eventScheduler = new DefaultEventScheduler();
+            } else if (ambassadorConfig.concurrentEventScheduler) {
+                eventScheduler = new ConcurrentEventScheduler(ambassadorConfig.eventSchedulerThreads);
             } else {
                 eventScheduler = new MultiThreadedEventScheduler(ambassadorConfig.eventSchedulerThreads);
             }
 
+            coalesceTimeAdvanceRequests = ambassadorConfig.coalesceTimeAdvanceRequests;
+            vehicleUpdateBatches = ambassadorConfig.batchVehicleUpdates ? ambassadorConfig.eventSchedulerThreads : 0;
+
             SimulationKernel.SimulationKernel.setConfiguration(ambassadorConfig);
             EtsiPayloadConfiguration.setPayloadConfiguration(new EtsiPayloadConfiguration(ambassadorConfig.encodePayloads));
+            UnitLogging.configure(ambassadorConfig.unitLogging);
 
         } catch (InstantiationException e) {
             log.error(ErrorRegister.CONFIGURATION_CouldNotReadFromFile.toString(), e);
@@ -203,7 +233,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     @Override
     public void finishSimulation() {
-        // we already shut down everything in the last simulation step
+        // we already shut down everything in the last simulation step, only buffered unit logs remain
+        UnitLogging.shutdown();
     }
 
     @Override
@@ -222,6 +253,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 .newEvent(endTime, this::shutdownSimulationUnits)
                 .withNice(EventNicenessPriorityRegister.UNIT_REMOVED)
                 .schedule();
+        requestNextEventTime();
     }
 
     private void shutdownSimulationUnits(Event event) {
@@ -238,11 +270,16 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 log.debug("processTimeAdvanceGrant({})", TIME.format(time));
             }
             SimulationKernel.SimulationKernel.setCurrentSimulationTime(time);
+            if (time >= pendingAdvanceTime) {
+                // the requested time has been granted
+                pendingAdvanceTime = -1;
+            }
             final int scheduled = eventScheduler.scheduleEvents(time);
             log.debug("scheduled {} events at time {}", scheduled, TIME.format(time));
             if (log.isTraceEnabled()) {
                 log.trace("scheduled events: {}", scheduled);
             }
+            requestNextEventTime();
         } catch (RuntimeException e) {
             throw new InternalFederateException(ErrorRegister.AMBASSADOR_ErrorAdvanceTime.toString(), e);
         }
@@ -309,6 +346,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
             } else {
                 log.warn("Unknown interaction received with time {} : {}", TIME.format(interaction.getTime()), interaction.getTypeId());
             }
+            requestNextEventTime();
         } catch (RuntimeException e) {
             throw new InternalFederateException(ErrorRegister.AMBASSADOR_UncaughtExceptionInProcessInteraction.toString(), e);
         }
@@ -633,38 +671,43 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private void process(final VehicleUpdates vehicleUpdates) {
         SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateVehicles(vehicleUpdates);
-        // schedule all added vehicles
-        for (VehicleData vehicleData : vehicleUpdates.getAdded()) {
-            addVehicleIfNotYetAdded(vehicleUpdates.getTime(), vehicleData.getName());
-            final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(vehicleData.getName());
-            // we don't simulate vehicles without an application
-            if (simulationUnit == null) {
-                continue;
+        if (vehicleUpdateBatches > 0) {
+            addVehicleUpdateBatches(vehicleUpdates.getTime(), vehicleUpdates.getAdded(), EventNicenessPriorityRegister.VEHICLE_ADDED);
+            addVehicleUpdateBatches(vehicleUpdates.getTime(), vehicleUpdates.getUpdated(), EventNicenessPriorityRegister.VEHICLE_UPDATED);
+        } else {
+            // schedule all added vehicles
+            for (VehicleData vehicleData : vehicleUpdates.getAdded()) {
+                addVehicleIfNotYetAdded(vehicleUpdates.getTime(), vehicleData.getName());
+                final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(vehicleData.getName());
+                // we don't simulate vehicles without an application
+                if (simulationUnit == null) {
+                    continue;
+                }
+                final Event event = new Event(
+                        vehicleData.getTime(),
+                        simulationUnit,
+                        vehicleData,
+                        EventNicenessPriorityRegister.VEHICLE_ADDED
+                );
+                addEvent(event);
             }
-            final Event event = new Event(
-                    vehicleData.getTime(),
-                    simulationUnit,
-                    vehicleData,
-                    EventNicenessPriorityRegister.VEHICLE_ADDED
-            );
-            addEvent(event);
-        }
 
-        // schedule all updated vehicles
-        for (VehicleData vehicleData : vehicleUpdates.getUpdated()) {
-            addVehicleIfNotYetAdded(vehicleUpdates.getTime(), vehicleData.getName());
-            final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(vehicleData.getName());
-            // we don't simulate vehicles without an application
-            if (simulationUnit == null) {
-                continue;
+            // schedule all updated vehicles
+            for (VehicleData vehicleData : vehicleUpdates.getUpdated()) {
+                addVehicleIfNotYetAdded(vehicleUpdates.getTime(), vehicleData.getName());
+                final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(vehicleData.getName());
+                // we don't simulate vehicles without an application
+                if (simulationUnit == null) {
+                    continue;
+                }
+                final Event event = new Event(
+                        vehicleData.getTime(),
+                        simulationUnit,
+                        vehicleData,
+                        EventNicenessPriorityRegister.VEHICLE_UPDATED
+                );
+                addEvent(event);
             }
-            final Event event = new Event(
-                    vehicleData.getTime(),
-                    simulationUnit,
-                    vehicleData,
-                    EventNicenessPriorityRegister.VEHICLE_UPDATED
-            );
-            addEvent(event);
         }
 
         /*
@@ -692,6 +735,38 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         addEvent(triggerGarbageCollection);
     }
 
+    /**
+     * Schedules the given vehicle data in batches, which are passed directly to the vehicle units when processed.
+     * All batches have the same time and niceness, so that the multithreaded schedulers process them in parallel.
+     */
+    private void addVehicleUpdateBatches(long time, List<VehicleData> vehicles, long nice) {
+        final List<VehicleUnit> units = new ArrayList<>(vehicles.size());
+        final List<VehicleData> vehicleData = new ArrayList<>(vehicles.size());
+        for (VehicleData data : vehicles) {
+            addVehicleIfNotYetAdded(time, data.getName());
+            final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(data.getName());
+            // we don't simulate vehicles without an application
+            if (simulationUnit instanceof VehicleUnit) {
+                units.add((VehicleUnit) simulationUnit);
+                vehicleData.add(data);
+            }
+        }
+        if (units.isEmpty()) {
+            return;
+        }
+        final int batchSize = (units.size() + vehicleUpdateBatches - 1) / vehicleUpdateBatches;
+        for (int from = 0; from < units.size(); from += batchSize) {
+            final int to = Math.min(from + batchSize, units.size());
+            final Event event = new Event(
+                    time,
+                    UnitSimulator.UnitSimulator,
+                    new UpdateVehicles(units.subList(from, to), vehicleData.subList(from, to)),
+                    nice
+            );
+            addEvent(event);
+        }
+    }
+
     private void addVehicleIfNotYetAdded(long time, String unitName) {
         final VehicleRegistration vehicleRegistration = vehicleRegistrations.remove(unitName);
         if (vehicleRegistration != null) {
@@ -710,10 +785,32 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
             }
         }
 
+        if (!coalesceTimeAdvanceRequests) {
+            requestAdvanceTime(event.getTime());
+        }
+    }
+
+    /**
+     * Requests the time of the earliest pending event from the RTI, if time advance requests are coalesced
+     * and this time differs from the latest request which has not been granted yet. Events added since the
+     * last call are covered by this single request, as the RTI grants the times in ascending order.
+     */
+    private void requestNextEventTime() {
+        if (!coalesceTimeAdvanceRequests || eventScheduler.isEmpty()) {
+            return;
+        }
+        final long nextEventTime = eventScheduler.getNextEventTime();
+        if (nextEventTime != pendingAdvanceTime) {
+            requestAdvanceTime(nextEventTime);
+            pendingAdvanceTime = nextEventTime;
+        }
+    }
+
+    private void requestAdvanceTime(long time) {
         try {
-            rti.requestAdvanceTime(event.getTime());
+            rti.requestAdvanceTime(time);
             if (log.isDebugEnabled()) {
-                log.debug("requestAdvanceTime({})", TIME.format(event.getTime()));
+                log.debug("requestAdvanceTime({})", TIME.format(time));
             }
         } catch (IllegalValueException ex) {
             log.error(ErrorRegister.AMBASSADOR_RequestingAdvanceTime.toString(), ex);
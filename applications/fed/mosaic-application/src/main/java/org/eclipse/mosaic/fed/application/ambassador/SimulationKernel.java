@@ -24,8 +24,9 @@ import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
-import org.eclipse.mosaic.lib.util.objects.TimeCache;
+import org.eclipse.mosaic.lib.util.objects.TimeBucketCache;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
+import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interactable;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -42,10 +43,10 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -114,7 +115,13 @@ public enum SimulationKernel {
     @Nullable
     private EventManager eventManager;
 
-    private final TimeCache<V2xMessage> v2XMessageCache = new TimeCache<>();
+    /**
+     * The number of time buckets the {@link CApplicationAmbassador#messageCacheTime} is divided into.
+     * Sent messages are removed at most the duration of one bucket after the message cache time.
+     */
+    private static final int MESSAGE_CACHE_BUCKETS = 10;
+
+    private TimeBucketCache<V2xMessage> v2XMessageCache = new TimeBucketCache<>(TIME.SECOND);
 
     /**
      * Get the {@link Interactable} reference.
@@ -209,6 +216,9 @@ public enum SimulationKernel {
             throw new RuntimeException(ErrorRegister.SIMULATION_KERNEL_ConfigurationAlreadySet.toString());
         }
         this.configuration = configuration;
+        if (configuration.messageCacheTime > 0) {
+            v2XMessageCache = new TimeBucketCache<>(Math.max(1, configuration.messageCacheTime / MESSAGE_CACHE_BUCKETS));
+        }
     }
 
     /**
@@ -299,7 +309,7 @@ public enum SimulationKernel {
      *
      * @return the cache for the v2x messages.
      */
-    public TimeCache<V2xMessage> getV2xMessageCache() {
+    public TimeBucketCache<V2xMessage> getV2xMessageCache() {
         return v2XMessageCache;
     }
 
@@ -357,7 +367,7 @@ public enum SimulationKernel {
             // subtract the cache time from the current simulation time to get the last time an interaction should be cached
             long lastTime = SimulationKernel.getCurrentSimulationTime() - getConfiguration().messageCacheTime;
             if (lastTime > 0) {
-                Set<Integer> removedIds = SimulationKernel.getV2xMessageCache().garbageCollection(lastTime);
+                Collection<Integer> removedIds = SimulationKernel.getV2xMessageCache().garbageCollection(lastTime);
                 if (removedIds.isEmpty()) {
                     return;
                 }
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.application.ambassador;
 
 import org.eclipse.mosaic.fed.application.ambassador.eventresources.RemoveVehicles;
 import org.eclipse.mosaic.fed.application.ambassador.eventresources.StartApplications;
+import org.eclipse.mosaic.fed.application.ambassador.eventresources.UpdateVehicles;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.AbstractSimulationUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.ChargingStationUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.ElectricVehicleUnit;
@@ -463,6 +464,43 @@ public enum UnitSimulator implements EventProcessor {
             removeVehicles((RemoveVehicles) resource);
         } else if (resource instanceof StartApplications) {
             startApplications((StartApplications) resource);
+        } else if (resource instanceof UpdateVehicles) {
+            updateVehicles(event, (UpdateVehicles) resource);
+        }
+    }
+
+    /**
+     * Passes the new vehicle data to each vehicle unit of the batch, the same way as an event
+     * per vehicle would do, but without creating such an event. Batches of different units may be processed in parallel by the multithreaded schedulers.
+     * An exception of one unit does not prevent the remaining units of the batch from being updated.
+     *
+     * @param event          the event holding the batch
+     * @param updateVehicles Vehicles to be updated.
+     */
+    private void updateVehicles(Event event, UpdateVehicles updateVehicles) {
+        RuntimeException failure = null;
+        final int size = updateVehicles.size();
+        for (int i = 0; i < size; ++i) {
+            final VehicleUnit unit = updateVehicles.getUnit(i);
+            if (!unit.canProcessEvent()) {
+                continue;
+            }
+            try {
+                unit.processVehicleData(updateVehicles.getVehicleData(i), event.getNice());
+            } catch (Exception ex) {
+                log.error("Could not update vehicle {}", unit.getId(), ex);
+                final RuntimeException unitFailure = new RuntimeException(
+                        ErrorRegister.SIMULATION_UNIT_UncaughtExceptionDuringProcessEvent + " Unit: " + unit.getId(), ex
+                );
+                if (failure == null) {
+                    failure = unitFailure;
+                } else {
+                    failure.addSuppressed(unitFailure);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
         }
     }
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.eventresources;
+
+import org.eclipse.mosaic.fed.application.ambassador.simulation.VehicleUnit;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+
+import java.util.List;
+
+/**
+ * This class is to be used as an {@link Event} resource,
+ * it contains the new {@link VehicleData} for a batch of vehicle units.
+ * The units and their data are held in two lists of equal size.
+ */
+public class UpdateVehicles {
+
+    private final List<VehicleUnit> units;
+
+    private final List<VehicleData> vehicleData;
+
+    /**
+     * The constructor for {@link UpdateVehicles}.
+     *
+     * @param units       the vehicle units to update
+     * @param vehicleData the new data of each unit, at the same index as the unit
+     */
+    public UpdateVehicles(List<VehicleUnit> units, List<VehicleData> vehicleData) {
+        if (units.size() != vehicleData.size()) {
+            throw new IllegalArgumentException("Each unit requires exactly one vehicle data.");
+        }
+        this.units = units;
+        this.vehicleData = vehicleData;
+    }
+
+    public int size() {
+        return units.size();
+    }
+
+    public VehicleUnit getUnit(int index) {
+        return units.get(index);
+    }
+
+    public VehicleData getVehicleData(int index) {
+        return vehicleData.get(index);
+    }
+
+    @Override
+    public String toString() {
+        return "UpdateVehicles{" + "size=" + units.size() + '}';
+    }
+}
@@ -147,6 +147,21 @@ public class VehicleUnit extends AbstractSimulationUnit implements VehicleOperat
         }
     }
 
+    /**
+     * Processes the new data of this vehicle the same way as an {@link Event} holding the data as resource,
+     * without requiring an event object. Used to dispatch batches of vehicle updates.
+     *
+     * @param vehicleData the current data of the vehicle
+     * @param nice        the nice value the event would have had
+     */
+    public void processVehicleData(@Nonnull final VehicleData vehicleData, final long nice) {
+        // vehicle data is not handled by preProcessEvent, hence it is passed directly to the resource handling
+        if (!handleEventResource(vehicleData, nice)) {
+            getOsLog().error("Unknown event resource: {}", vehicleData);
+            throw new RuntimeException(ErrorRegister.VEHICLE_UnknownEvent.toString());
+        }
+    }
+
     protected boolean handleEventResource(Object resource, long eventType) {
         if (resource instanceof VehicleData) {
             updateVehicleInfo((VehicleData) resource);
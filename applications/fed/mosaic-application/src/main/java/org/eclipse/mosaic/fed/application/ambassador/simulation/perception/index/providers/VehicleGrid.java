@@ -26,7 +26,7 @@ import org.eclipse.mosaic.fed.application.app.api.perception.PerceptionModule;
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.geo.CartesianRectangle;
 import org.eclipse.mosaic.lib.spatial.BoundingBox;
-import org.eclipse.mosaic.lib.spatial.Grid;
+import org.eclipse.mosaic.lib.spatial.ConcurrentGrid;
 
 import org.slf4j.Logger;
 
@@ -39,9 +39,10 @@ public class VehicleGrid extends VehicleIndex {
     private final double cellHeight;
 
     /**
-     * The Grid to be used for spatial search of {@link VehicleObject}s.
+     * The Grid to be used for spatial search of {@link VehicleObject}s. Searches don't block each other,
+     * so that the perception of many vehicles can be processed in parallel.
      */
-    private Grid<VehicleObject> vehicleGrid;
+    private ConcurrentGrid<VehicleObject> vehicleGrid;
 
     public VehicleGrid(double cellWidth, double cellHeight) {
         this.cellWidth = cellWidth;
@@ -56,7 +57,7 @@ public class VehicleGrid extends VehicleIndex {
         CartesianRectangle bounds = SimulationKernel.SimulationKernel.getCentralPerceptionComponent().getScenarioBounds();
         BoundingBox boundingArea = new BoundingBox();
         boundingArea.add(bounds.getA().toVector3d(), bounds.getB().toVector3d());
-        vehicleGrid = new Grid<>(new SpatialObjectAdapter<>(), cellWidth, cellHeight, boundingArea);
+        vehicleGrid = new ConcurrentGrid<>(new SpatialObjectAdapter<>(), cellWidth, cellHeight, boundingArea);
 
     }
 
@@ -105,6 +105,16 @@ public abstract class VehicleIndex {
      */
     abstract void onIndexUpdate();
 
+    /**
+     * Called for each vehicle whose data has been updated, before {@link #onIndexUpdate()} is called.
+     * Can be overridden by vehicle indexes which track the moved vehicles.
+     *
+     * @param vehicleObject the updated vehicle
+     */
+    void onVehicleUpdated(VehicleObject vehicleObject) {
+        // nop by default
+    }
+
     /**
      * Abstract method to be implemented by vehicle indexes.
      * Shall include functionality to remove a vehicle object from the specific index.
@@ -156,6 +166,7 @@ public abstract class VehicleIndex {
                 if (v.getRoadPosition() != null) {
                     vehicleObject.setEdgeAndLane(v.getRoadPosition().getConnectionId(), v.getRoadPosition().getLaneIndex());
                 }
+                onVehicleUpdated(vehicleObject);
             } else { // if not inside perception bounding area
                 VehicleObject vehicleObject = indexedVehicles.remove(v.getName());
                 if (vehicleObject != null) {
@@ -62,11 +62,10 @@ public class VehicleTree extends VehicleIndex {
      */
     @Override
     public void initialize() {
-        QuadTree.configure(splitSize, splitSize / 2, maxDepth);
         CartesianRectangle bounds = SimulationKernel.SimulationKernel.getCentralPerceptionComponent().getScenarioBounds();
         BoundingBox boundingArea = new BoundingBox();
         boundingArea.add(bounds.getA().toVector3d(), bounds.getB().toVector3d());
-        vehicleTree = new QuadTree<>(new SpatialObjectAdapter<>(), boundingArea);
+        vehicleTree = new QuadTree<>(new SpatialObjectAdapter<>(), boundingArea, splitSize, splitSize / 2, maxDepth);
     }
 
     @Override
@@ -79,9 +78,14 @@ public class VehicleTree extends VehicleIndex {
         vehicleTree.addItem(vehicleObject);
     }
 
+    @Override
+    void onVehicleUpdated(VehicleObject vehicleObject) {
+        vehicleTree.markMoved(vehicleObject);
+    }
+
     @Override
     void onIndexUpdate() {
-        vehicleTree.updateTree();
+        vehicleTree.updateMovedItems();
     }
 
     @Override
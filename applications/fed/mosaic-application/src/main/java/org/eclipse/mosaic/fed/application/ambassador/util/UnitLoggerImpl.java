@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.application.ambassador.util;
 
 import org.eclipse.mosaic.fed.application.app.api.OperatingSystemAccess;
 import org.eclipse.mosaic.fed.application.app.api.os.OperatingSystem;
+import org.eclipse.mosaic.fed.application.config.CUnitLogging;
 import org.eclipse.mosaic.rti.TIME;
 
 import ch.qos.logback.classic.sift.SiftingAppender;
@@ -27,6 +28,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -39,6 +42,10 @@ import javax.annotation.Nullable;
  * <p></p>
  * http://logback.qos.ch/manual/mdc.html set the unitId for the discriminator
  * (Mapped Diagnostic Context)
+ * <p></p>
+ * Log lines are filtered by the {@link CUnitLogging.CLogPolicy} of the logger before they are formatted. If
+ * asynchronous logging is enabled (see {@link UnitLogging}), accepted log lines are collected in a ring buffer
+ * per logger and written in batches, which requires to switch the MDC only once per batch.
  */
 public class UnitLoggerImpl implements UnitLogger {
 
@@ -60,6 +67,23 @@ public class UnitLoggerImpl implements UnitLogger {
      */
     private final String mdcPath;
 
+    /**
+     * The minimum level of log lines to write according to the {@link CUnitLogging.CLogPolicy}.
+     */
+    private final int minimumLevel;
+
+    /**
+     * The share of log lines below {@code WARN} to write.
+     */
+    private final double sampling;
+
+    private double sampleCredit;
+
+    /**
+     * The buffer of log lines to be written by the background thread, {@code null} if logging synchronously.
+     */
+    private final Buffer buffer;
+
     /**
      * Create a new unit logger based on an id.
      *
@@ -69,6 +93,14 @@ public class UnitLoggerImpl implements UnitLogger {
     public UnitLoggerImpl(final String unitId, final String loggerId) {
         this.log = LoggerFactory.getLogger(ROOT_LOGGER);
         this.mdcPath = unitId + File.separator + loggerId;
+
+        final CUnitLogging configuration = UnitLogging.getConfiguration();
+        final CUnitLogging.CLogPolicy policy = configuration.getPolicy(loggerId);
+        this.minimumLevel = policy.level != null ? policy.level.toInt() : Level.TRACE.toInt();
+        this.sampling = Math.max(0, policy.sampling);
+        // the first log line is always written
+        this.sampleCredit = 1 - Math.min(1, this.sampling);
+        this.buffer = configuration.asynchronous ? new Buffer(Math.max(1, configuration.bufferSize)) : null;
     }
 
     @Override
@@ -76,6 +108,96 @@ public class UnitLoggerImpl implements UnitLogger {
         return log.getName();
     }
 
+    /**
+     * Checks the level of the logger and the log policy, without consuming a sample.
+     */
+    private boolean isEnabled(Level level) {
+        return level.toInt() >= minimumLevel && log.isEnabledForLevel(level);
+    }
+
+    /**
+     * Decides if a log line of the given level is written. Only called once per log line, as lines below
+     * {@code WARN} are sampled. The sampling is not synchronized, as the events of a unit are processed
+     * by one thread at a time.
+     */
+    private boolean accept(Level level) {
+        if (!isEnabled(level)) {
+            return false;
+        }
+        if (sampling >= 1 || level.toInt() >= Level.WARN.toInt()) {
+            return true;
+        }
+        sampleCredit += sampling;
+        if (sampleCredit >= 1) {
+            sampleCredit -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    private void log(Level level, @Nullable Marker marker, String format, @Nullable Object[] arguments) {
+        if (accept(level)) {
+            dispatch(level, marker, format, arguments);
+        }
+    }
+
+    private void dispatch(Level level, @Nullable Marker marker, String format, @Nullable Object[] arguments) {
+        if (buffer != null) {
+            buffer.add(level, marker, format, arguments);
+        } else {
+            redirect(() -> write(level, marker, format, arguments));
+        }
+    }
+
+    /**
+     * Writes all buffered log lines of this logger.
+     */
+    void drain() {
+        if (buffer != null) {
+            buffer.drain();
+        }
+    }
+
+    private void write(Level level, @Nullable Marker marker, String format, @Nullable Object[] arguments) {
+        switch (level) {
+            case TRACE:
+                if (marker != null) {
+                    log.trace(marker, format, arguments);
+                } else {
+                    log.trace(format, arguments);
+                }
+                break;
+            case DEBUG:
+                if (marker != null) {
+                    log.debug(marker, format, arguments);
+                } else {
+                    log.debug(format, arguments);
+                }
+                break;
+            case INFO:
+                if (marker != null) {
+                    log.info(marker, format, arguments);
+                } else {
+                    log.info(format, arguments);
+                }
+                break;
+            case WARN:
+                if (marker != null) {
+                    log.warn(marker, format, arguments);
+                } else {
+                    log.warn(format, arguments);
+                }
+                break;
+            default:
+                if (marker != null) {
+                    log.error(marker, format, arguments);
+                } else {
+                    log.error(format, arguments);
+                }
+                break;
+        }
+    }
+
     private void redirect(Runnable logCall) {
         String beforeMdcPath = MDC.get("path");
         try {
@@ -88,322 +210,325 @@ public class UnitLoggerImpl implements UnitLogger {
 
     @Override
     public boolean isTraceEnabled() {
-        return log.isTraceEnabled();
+        return isEnabled(Level.TRACE);
     }
 
     @Override
     public boolean isTraceEnabled(Marker marker) {
-        return log.isTraceEnabled(marker);
+        return isEnabled(Level.TRACE) && log.isTraceEnabled(marker);
     }
 
     @Override
     public void trace(String msg) {
-        redirect(() -> log.trace(msg));
+        log(Level.TRACE, null, msg, null);
     }
 
     @Override
     public void trace(String format, Object arg) {
-        redirect(() -> log.trace(format, arg));
+        log(Level.TRACE, null, format, new Object[]{arg});
     }
 
     @Override
     public void trace(String format, Object arg1, Object arg2) {
-        redirect(() -> log.trace(format, arg1, arg2));
+        log(Level.TRACE, null, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void trace(String format, Object... arguments) {
-        redirect(() -> log.trace(format, arguments));
+        log(Level.TRACE, null, format, arguments);
     }
 
     @Override
     public void trace(String msg, Throwable t) {
-        redirect(() -> log.trace(msg, t));
+        log(Level.TRACE, null, msg, new Object[]{t});
     }
 
     @Override
     public void trace(Marker marker, String msg) {
-        redirect(() -> log.trace(marker, msg));
+        log(Level.TRACE, marker, msg, null);
     }
 
     @Override
     public void trace(Marker marker, String format, Object arg) {
-        redirect(() -> log.trace(marker, format, arg));
+        log(Level.TRACE, marker, format, new Object[]{arg});
     }
 
     @Override
     public void trace(Marker marker, String format, Object arg1, Object arg2) {
-        redirect(() -> log.trace(marker, format, arg1, arg2));
+        log(Level.TRACE, marker, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void trace(Marker marker, String format, Object... argArray) {
-        redirect(() -> log.trace(marker, format, argArray));
+        log(Level.TRACE, marker, format, argArray);
     }
 
     @Override
     public void trace(Marker marker, String msg, Throwable t) {
-        redirect(() -> log.trace(marker, msg, t));
+        log(Level.TRACE, marker, msg, new Object[]{t});
     }
 
     @Override
     public boolean isDebugEnabled() {
-        return log.isDebugEnabled();
+        return isEnabled(Level.DEBUG);
     }
 
     @Override
     public boolean isDebugEnabled(Marker marker) {
-        return log.isDebugEnabled(marker);
+        return isEnabled(Level.DEBUG) && log.isDebugEnabled(marker);
     }
 
     @Override
     public void debug(String msg) {
-        redirect(() -> log.debug(msg));
+        log(Level.DEBUG, null, msg, null);
     }
 
     @Override
     public void debug(String format, Object arg) {
-        redirect(() -> log.debug(format, arg));
+        log(Level.DEBUG, null, format, new Object[]{arg});
     }
 
     @Override
     public void debug(String format, Object arg1, Object arg2) {
-        redirect(() -> log.debug(format, arg1, arg2));
+        log(Level.DEBUG, null, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void debug(String format, Object... arguments) {
-        redirect(() -> log.debug(format, arguments));
+        log(Level.DEBUG, null, format, arguments);
     }
 
     @Override
     public void debug(String msg, Throwable t) {
-        redirect(() -> log.debug(msg, t));
+        log(Level.DEBUG, null, msg, new Object[]{t});
     }
 
     @Override
     public void debug(Marker marker, String msg) {
-        redirect(() -> log.debug(marker, msg));
+        log(Level.DEBUG, marker, msg, null);
     }
 
     @Override
     public void debug(Marker marker, String format, Object arg) {
-        redirect(() -> log.debug(marker, format, arg));
+        log(Level.DEBUG, marker, format, new Object[]{arg});
     }
 
     @Override
     public void debug(Marker marker, String format, Object arg1, Object arg2) {
-        redirect(() -> log.debug(marker, format, arg1, arg2));
+        log(Level.DEBUG, marker, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void debug(Marker marker, String format, Object... argArray) {
-        redirect(() -> log.debug(marker, format, argArray));
+        log(Level.DEBUG, marker, format, argArray);
     }
 
     @Override
     public void debug(Marker marker, String msg, Throwable t) {
-        redirect(() -> log.debug(marker, msg, t));
+        log(Level.DEBUG, marker, msg, new Object[]{t});
     }
 
     @Override
     public boolean isInfoEnabled() {
-        return log.isInfoEnabled();
+        return isEnabled(Level.INFO);
     }
 
     @Override
     public boolean isInfoEnabled(Marker marker) {
-        return log.isInfoEnabled(marker);
+        return isEnabled(Level.INFO) && log.isInfoEnabled(marker);
     }
 
     @Override
     public void info(String msg) {
-        redirect(() -> log.info(msg));
+        log(Level.INFO, null, msg, null);
     }
 
     @Override
     public void info(String format, Object arg) {
-        redirect(() -> log.info(format, arg));
+        log(Level.INFO, null, format, new Object[]{arg});
     }
 
     @Override
     public void info(String format, Object arg1, Object arg2) {
-        redirect(() -> log.info(format, arg1, arg2));
+        log(Level.INFO, null, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void info(String format, Object... arguments) {
-        redirect(() -> log.info(format, arguments));
+        log(Level.INFO, null, format, arguments);
     }
 
     @Override
     public void info(String msg, Throwable t) {
-        redirect(() -> log.info(msg, t));
+        log(Level.INFO, null, msg, new Object[]{t});
     }
 
     @Override
     public void info(Marker marker, String msg) {
-        redirect(() -> log.info(marker, msg));
+        log(Level.INFO, marker, msg, null);
     }
 
     @Override
     public void info(Marker marker, String format, Object arg) {
-        redirect(() -> log.info(marker, format, arg));
+        log(Level.INFO, marker, format, new Object[]{arg});
     }
 
     @Override
     public void info(Marker marker, String format, Object arg1, Object arg2) {
-        redirect(() -> log.info(marker, format, arg1, arg2));
+        log(Level.INFO, marker, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void info(Marker marker, String format, Object... argArray) {
-        redirect(() -> log.info(marker, format, argArray));
+        log(Level.INFO, marker, format, argArray);
     }
 
     @Override
     public void info(Marker marker, String msg, Throwable t) {
-        redirect(() -> log.info(marker, msg, t));
+        log(Level.INFO, marker, msg, new Object[]{t});
     }
 
     @Override
     public boolean isWarnEnabled() {
-        return log.isWarnEnabled();
+        return isEnabled(Level.WARN);
     }
 
     @Override
     public boolean isWarnEnabled(Marker marker) {
-        return log.isWarnEnabled(marker);
+        return isEnabled(Level.WARN) && log.isWarnEnabled(marker);
     }
 
     @Override
     public void warn(String msg) {
-        redirect(() -> log.warn(msg));
+        log(Level.WARN, null, msg, null);
     }
 
     @Override
     public void warn(String format, Object arg) {
-        redirect(() -> log.warn(format, arg));
+        log(Level.WARN, null, format, new Object[]{arg});
     }
 
     @Override
     public void warn(String format, Object arg1, Object arg2) {
-        redirect(() -> log.warn(format, arg1, arg2));
+        log(Level.WARN, null, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void warn(String format, Object... arguments) {
-        redirect(() -> log.warn(format, arguments));
+        log(Level.WARN, null, format, arguments);
     }
 
     @Override
     public void warn(String msg, Throwable t) {
-        redirect(() -> log.warn(msg, t));
+        log(Level.WARN, null, msg, new Object[]{t});
     }
 
     @Override
     public void warn(Marker marker, String msg) {
-        redirect(() -> log.warn(marker, msg));
+        log(Level.WARN, marker, msg, null);
     }
 
     @Override
     public void warn(Marker marker, String format, Object arg) {
-        redirect(() -> log.warn(marker, format, arg));
+        log(Level.WARN, marker, format, new Object[]{arg});
     }
 
     @Override
     public void warn(Marker marker, String format, Object arg1, Object arg2) {
-        redirect(() -> log.warn(marker, format, arg1, arg2));
+        log(Level.WARN, marker, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void warn(Marker marker, String format, Object... argArray) {
-        redirect(() -> log.warn(marker, format, argArray));
+        log(Level.WARN, marker, format, argArray);
     }
 
     @Override
     public void warn(Marker marker, String msg, Throwable t) {
-        redirect(() -> log.warn(marker, msg, t));
+        log(Level.WARN, marker, msg, new Object[]{t});
     }
 
     @Override
     public boolean isErrorEnabled() {
-        return log.isErrorEnabled();
+        return isEnabled(Level.ERROR);
     }
 
     @Override
     public boolean isErrorEnabled(Marker marker) {
-        return log.isErrorEnabled(marker);
+        return isEnabled(Level.ERROR) && log.isErrorEnabled(marker);
     }
 
     @Override
     public void error(String msg) {
-        redirect(() -> log.error(msg));
+        log(Level.ERROR, null, msg, null);
     }
 
     @Override
     public void error(String format, Object arg) {
-        redirect(() -> log.error(format, arg));
+        log(Level.ERROR, null, format, new Object[]{arg});
     }
 
     @Override
     public void error(String format, Object arg1, Object arg2) {
-        redirect(() -> log.error(format, arg1, arg2));
+        log(Level.ERROR, null, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void error(String format, Object... arguments) {
-        redirect(() -> log.error(format, arguments));
+        log(Level.ERROR, null, format, arguments);
     }
 
     @Override
     public void error(String msg, Throwable t) {
-        redirect(() -> log.error(msg, t));
+        log(Level.ERROR, null, msg, new Object[]{t});
     }
 
     @Override
     public void error(Marker marker, String msg) {
-        redirect(() -> log.error(marker, msg));
+        log(Level.ERROR, marker, msg, null);
     }
 
     @Override
     public void error(Marker marker, String format, Object arg) {
-        redirect(() -> log.error(marker, format, arg));
+        log(Level.ERROR, marker, format, new Object[]{arg});
     }
 
     @Override
     public void error(Marker marker, String format, Object arg1, Object arg2) {
-        redirect(() -> log.error(marker, format, arg1, arg2));
+        log(Level.ERROR, marker, format, new Object[]{arg1, arg2});
     }
 
     @Override
     public void error(Marker marker, String format, Object... argArray) {
-        redirect(() -> log.error(marker, format, argArray));
+        log(Level.ERROR, marker, format, argArray);
     }
 
     @Override
     public void error(Marker marker, String msg, Throwable t) {
-        redirect(() -> log.error(marker, msg, t));
+        log(Level.ERROR, marker, msg, new Object[]{t});
     }
 
     @Override
     public void infoSimTime(OperatingSystemAccess<? extends OperatingSystem> osAccess, String format, Object... arguments) {
-        if (isInfoEnabled()) {
-            info(format + SIMTIME_LOG_POSTFIX, extendArgumentsWithTime(osAccess.getOperatingSystem().getSimulationTime(), arguments));
+        if (accept(Level.INFO)) {
+            dispatch(Level.INFO, null, format + SIMTIME_LOG_POSTFIX,
+                    extendArgumentsWithTime(osAccess.getOperatingSystem().getSimulationTime(), arguments));
         }
     }
 
     @Override
     public void debugSimTime(OperatingSystemAccess<? extends OperatingSystem> osAccess, String format, Object... arguments) {
-        if (isDebugEnabled()) {
-            debug(format + SIMTIME_LOG_POSTFIX, extendArgumentsWithTime(osAccess.getOperatingSystem().getSimulationTime(), arguments));
+        if (accept(Level.DEBUG)) {
+            dispatch(Level.DEBUG, null, format + SIMTIME_LOG_POSTFIX,
+                    extendArgumentsWithTime(osAccess.getOperatingSystem().getSimulationTime(), arguments));
         }
     }
 
     @Override
     public void warnSimTime(OperatingSystemAccess<? extends OperatingSystem> osAccess, String format, Object... arguments) {
-        if (isWarnEnabled()) {
-            warn(format + SIMTIME_LOG_POSTFIX, extendArgumentsWithTime(osAccess.getOperatingSystem().getSimulationTime(), arguments));
+        if (accept(Level.WARN)) {
+            dispatch(Level.WARN, null, format + SIMTIME_LOG_POSTFIX,
+                    extendArgumentsWithTime(osAccess.getOperatingSystem().getSimulationTime(), arguments));
         }
     }
 
@@ -438,4 +563,85 @@ public class UnitLoggerImpl implements UnitLogger {
         }
         return null;
     }
+
+    /**
+     * Ring buffer of log lines of one logger. Arguments which are not immutable are
+     * converted to strings when added, as they could be changed until the line is written.
+     */
+    private final class Buffer {
+
+        private final Level[] levels;
+        private final Marker[] markers;
+        private final String[] formats;
+        private final Object[][] arguments;
+
+        private int head;
+        private int size;
+        private boolean scheduled;
+
+        private Buffer(int capacity) {
+            levels = new Level[capacity];
+            markers = new Marker[capacity];
+            formats = new String[capacity];
+            arguments = new Object[capacity][];
+        }
+
+        private synchronized void add(Level level, Marker marker, String format, Object[] lineArguments) {
+            if (size == levels.length) {
+                // buffer is full, write the buffered lines in the logging thread
+                writeAll();
+            }
+            final int index = (head + size) % levels.length;
+            levels[index] = level;
+            markers[index] = marker;
+            formats[index] = format;
+            arguments[index] = snapshot(lineArguments);
+            size++;
+            if (!scheduled) {
+                scheduled = true;
+                UnitLogging.schedule(UnitLoggerImpl.this);
+            }
+        }
+
+        private synchronized void drain() {
+            scheduled = false;
+            writeAll();
+        }
+
+        private void writeAll() {
+            if (size == 0) {
+                return;
+            }
+            redirect(() -> {
+                while (size > 0) {
+                    write(levels[head], markers[head], formats[head], arguments[head]);
+                    markers[head] = null;
+                    formats[head] = null;
+                    arguments[head] = null;
+                    head = (head + 1) % levels.length;
+                    size--;
+                }
+            });
+            head = 0;
+        }
+
+        private Object[] snapshot(Object[] lineArguments) {
+            if (lineArguments == null) {
+                return null;
+            }
+            final Object[] result = new Object[lineArguments.length];
+            for (int i = 0; i < lineArguments.length; i++) {
+                final Object argument = lineArguments[i];
+                if (argument == null || argument instanceof String || argument instanceof Throwable
+                        || argument instanceof Enum || argument instanceof Boolean || argument instanceof Character
+                        || argument instanceof Integer || argument instanceof Long || argument instanceof Double
+                        || argument instanceof Float || argument instanceof Short || argument instanceof Byte) {
+                    result[i] = argument;
+                } else {
+                    result[i] = MessageFormatter.format("{}", argument).getMessage();
+                }
+            }
+            return result;
+        }
+    }
 }
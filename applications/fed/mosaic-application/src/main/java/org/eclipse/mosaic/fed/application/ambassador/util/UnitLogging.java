@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.util;
+
+import org.eclipse.mosaic.fed.application.config.CUnitLogging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the {@link CUnitLogging} configuration of all {@link UnitLoggerImpl}s and, if asynchronous logging
+ * is enabled, the background thread which writes the buffered log lines. Only loggers with buffered
+ * lines are visited by the background thread.
+ */
+public final class UnitLogging {
+
+    private final static Logger log = LoggerFactory.getLogger(UnitLogging.class);
+
+    private static volatile CUnitLogging configuration = new CUnitLogging();
+
+    private final static Queue<UnitLoggerImpl> pending = new ConcurrentLinkedQueue<>();
+
+    private static ScheduledExecutorService writer;
+
+    private UnitLogging() {
+        // static methods only
+    }
+
+    /**
+     * Applies the given configuration to all unit loggers created afterwards.
+     */
+    public static synchronized void configure(CUnitLogging configuration) {
+        shutdown();
+        UnitLogging.configuration = configuration;
+        if (configuration.asynchronous) {
+            writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "UnitLogWriter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            writer.scheduleWithFixedDelay(
+                    UnitLogging::flush, configuration.flushInterval, configuration.flushInterval, TimeUnit.NANOSECONDS
+            );
+        }
+    }
+
+    static CUnitLogging getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Registers the given logger, which has buffered log lines to be written.
+     */
+    static void schedule(UnitLoggerImpl logger) {
+        pending.add(logger);
+    }
+
+    /**
+     * Writes all buffered log lines in the calling thread.
+     */
+    public static void flush() {
+        UnitLoggerImpl logger;
+        while ((logger = pending.poll()) != null) {
+            try {
+                logger.drain();
+            } catch (RuntimeException e) {
+                log.error("Could not write unit log", e);
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread, if any, and writes all remaining log lines.
+     */
+    public static synchronized void shutdown() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+        flush();
+    }
+}
@@ -31,7 +31,8 @@ public class CApplicationAmbassador implements Serializable {
 
     /**
      * To free some memory, use a time limit for cached V2XMessages.
-     * Default value is {@code 30} seconds.
+     * Default value is {@code 30} seconds. Messages are removed in time buckets of a tenth
+     * of this limit, i.e. up to {@code 33} seconds after they have been sent by default.
      * Use {@code 0} for an infinity cache. Unit: [ns].
      */
     @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
@@ -53,6 +54,35 @@ public class CApplicationAmbassador implements Serializable {
      */
     public int eventSchedulerThreads = 1;
 
+    /**
+     * If set to {@code true} and more than one {@link #eventSchedulerThreads} are configured, the
+     * {@link org.eclipse.mosaic.lib.util.scheduling.ConcurrentEventScheduler} is used instead of the
+     * {@link MultiThreadedEventScheduler}, which adds events without a global lock and processes
+     * them on a work-stealing pool.
+     */
+    public boolean concurrentEventScheduler = false;
+
+    /**
+     * If set to {@code true} and only one {@link #eventSchedulerThreads} is configured, the
+     * {@link org.eclipse.mosaic.lib.util.scheduling.CalendarEventScheduler} is used, which
+     * performs better than the default scheduler if most events are executed periodically.
+     */
+    public boolean calendarEventScheduler = false;
+
+    /**
+     * If set to {@code true}, the ambassador does not request a time advance from the RTI for each
+     * added event. Instead, it requests only the time of its earliest pending event, once after
+     * processing an interaction or a time advance grant, and only if this time has not yet been requested.
+     */
+    public boolean coalesceTimeAdvanceRequests = false;
+
+    /**
+     * If set to {@code true}, the added and updated vehicles of a {@code VehicleUpdates} interaction are
+     * dispatched to their units in batches, instead of scheduling one event per vehicle. If more than one
+     * {@link #eventSchedulerThreads} are configured, the vehicles are split into one batch per thread.
+     */
+    public boolean batchVehicleUpdates = false;
+
     /**
      * Class containing the information for the configuration of the
      * Routing/Navigation (CentralNavigationComponent).
@@ -79,4 +109,9 @@ public class CApplicationAmbassador implements Serializable {
      * to determine surrounding vehicles.
      */
     public CPerception perceptionConfiguration = new CPerception();
+
+    /**
+     * Configuration of the log output of simulation units and their applications.
+     */
+    public CUnitLogging unitLogging = new CUnitLogging();
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.config;
+
+import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.gson.annotations.JsonAdapter;
+import org.slf4j.event.Level;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the log output of simulation units and their applications.
+ */
+public class CUnitLogging implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * If set to {@code true}, the log lines of each unit logger are collected in a buffer and written
+     * in batches by a background thread. Arguments of log lines which are not immutable are converted
+     * to strings already when logging, the remaining formatting is done by the background thread.
+     */
+    public boolean asynchronous = false;
+
+    /**
+     * Number of log lines buffered per unit logger if {@link #asynchronous} is enabled. If the buffer
+     * is full, the logging thread writes the buffered lines itself.
+     */
+    public int bufferSize = 256;
+
+    /**
+     * Interval in which the background thread writes the buffered log lines, if {@link #asynchronous}
+     * is enabled. This is real time, not simulation time. Unit: [ns].
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long flushInterval = 200 * TIME.MILLI_SECOND;
+
+    /**
+     * The log policy of all unit loggers without a dedicated entry in {@link #policies}.
+     */
+    public CLogPolicy defaultPolicy = new CLogPolicy();
+
+    /**
+     * Log policies by the name of the logger, which is the simple class name of
+     * the application, or {@code OperatingSystem} for the log of the unit itself.
+     */
+    public Map<String, CLogPolicy> policies = new HashMap<>();
+
+    /**
+     * Filters the log lines of a unit logger before they are formatted.
+     */
+    public static class CLogPolicy implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The minimum level of written log lines, in addition to the level configured for the
+         * {@code ApplicationLogDelegate} logger in {@code logback.xml}.
+         */
+        public Level level = Level.TRACE;
+
+        /**
+         * The share of log lines below {@code WARN} to write, within [0, 1]. The sampling is deterministic,
+         * e.g. with a value of {@code 0.1} the first and then every tenth log line is written.
+         */
+        public double sampling = 1.0;
+    }
+
+    public CLogPolicy getPolicy(String loggerId) {
+        final CLogPolicy policy = policies != null ? policies.get(loggerId) : null;
+        return policy != null ? policy : defaultPolicy;
+    }
+}
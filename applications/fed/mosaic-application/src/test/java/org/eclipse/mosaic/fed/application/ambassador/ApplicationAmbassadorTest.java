@@ -27,7 +27,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.fed.application.ambassador.eventresources.StartApplications;
+import org.eclipse.mosaic.fed.application.ambassador.eventresources.UpdateVehicles;
 import org.eclipse.mosaic.fed.application.ambassador.navigation.CentralNavigationComponent;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.VehicleUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.ReceivedAcknowledgement;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.CentralPerceptionComponent;
 import org.eclipse.mosaic.fed.application.app.TestApplicationWithSpy;
@@ -65,6 +67,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.junit.TestUtils;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
@@ -73,6 +76,7 @@ import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
 import com.google.common.collect.Lists;
+import org.apache.commons.io.FileUtils;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -85,6 +89,7 @@ import org.mockito.stubbing.Answer;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -437,6 +442,47 @@ public class ApplicationAmbassadorTest {
         Mockito.verify(app.getApplicationSpy()).onShutdown();
     }
 
+    /**
+     * Tests, if the added vehicles of a VehicleUpdates interaction are dispatched in one batch
+     * per event scheduler thread, and if each vehicle unit receives its vehicle data.
+     */
+    @Test
+    public void processInteraction_VehicleUpdates_batched() throws Exception {
+        final File configuration = tmpFolder.newFile();
+        FileUtils.writeStringToFile(configuration, "{ \"batchVehicleUpdates\": true, \"eventSchedulerThreads\": 2 }", StandardCharsets.UTF_8);
+        final ApplicationAmbassador ambassador = createAmbassador(configuration);
+        ambassador.initialize(0L, END_TIME);
+
+        final List<VehicleData> vehicles = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ambassador.processInteraction(
+                    InteractionTestHelper.createVehicleRegistrationInteraction("veh_" + i, 5, TestVehicleApplication.class)
+            );
+            final VehicleData vehInfo = mock(VehicleData.class);
+            when(vehInfo.getTime()).thenReturn(5 * TIME.SECOND);
+            when(vehInfo.getName()).thenReturn("veh_" + i);
+            when(vehInfo.getPosition()).thenReturn(GeoPoint.lonLat(13, 53 + i));
+            vehicles.add(vehInfo);
+        }
+
+        addedEvents = new ArrayList<>();
+        ambassador.processInteraction(new VehicleUpdates(5 * TIME.SECOND, vehicles, Collections.emptyList(), Collections.emptyList()));
+
+        // two batches instead of one event per vehicle
+        assertEquals(2, addedEvents.stream().filter(e -> e.getResource() instanceof UpdateVehicles).count());
+
+        ambassador.processTimeAdvanceGrant(5 * TIME.SECOND);
+
+        for (int i = 0; i < 3; i++) {
+            final VehicleUnit unit = (VehicleUnit) UnitSimulator.UnitSimulator.getUnitFromId("veh_" + i);
+            assertSame(vehicles.get(i), unit.getVehicleData());
+            assertEquals(GeoPoint.lonLat(13, 53 + i), unit.getNavigationModule().getCurrentPosition());
+        }
+
+        ambassador.processTimeAdvanceGrant(END_TIME);
+        ambassador.finishSimulation();
+    }
+
     /**
      * Tests, if a BatteryData is set on the correct vehicle.
      */
@@ -985,23 +1031,64 @@ public class ApplicationAmbassadorTest {
         return i;
     }
 
+    /**
+     * Tests, if only the earliest pending event time is requested from the RTI, if time advance requests are coalesced.
+     */
+    @Test
+    public void coalescedTimeAdvanceRequests() throws Exception {
+        final File configuration = tmpFolder.newFile();
+        FileUtils.writeStringToFile(configuration, "{ \"coalesceTimeAdvanceRequests\": true }", StandardCharsets.UTF_8);
+        final ApplicationAmbassador ambassador = createAmbassador(configuration);
+
+        ambassador.initialize(0L, END_TIME);
+        Mockito.verify(rtiAmbassador).requestAdvanceTime(END_TIME);
+
+        final EventProcessor processor = mock(EventProcessor.class);
+        when(processor.canProcessEvent()).thenReturn(true);
+        ambassador.addEvent(new Event(5 * TIME.SECOND, processor));
+        ambassador.addEvent(new Event(5 * TIME.SECOND, processor));
+        ambassador.addEvent(new Event(3 * TIME.SECOND, processor));
+        ambassador.addEvent(new Event(7 * TIME.SECOND, processor));
+        ambassador.addEvent(new Event(7 * TIME.SECOND, processor));
+        // nothing is requested while adding events
+        Mockito.verify(rtiAmbassador, times(1)).requestAdvanceTime(ArgumentMatchers.anyLong());
+
+        ambassador.processTimeAdvanceGrant(0L);
+        assertEquals(3 * TIME.SECOND, recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(3 * TIME.SECOND);
+        assertEquals(5 * TIME.SECOND, recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(5 * TIME.SECOND);
+        assertEquals(7 * TIME.SECOND, recentAdvanceTime);
+
+        // the earliest time is not requested again until it has been granted
+        ambassador.processTimeAdvanceGrant(6 * TIME.SECOND);
+        Mockito.verify(rtiAmbassador, times(1)).requestAdvanceTime(7 * TIME.SECOND);
+        Mockito.verify(rtiAmbassador, times(4)).requestAdvanceTime(ArgumentMatchers.anyLong());
+        Mockito.verify(processor, times(3)).processEvent(any());
+    }
+
     private ApplicationAmbassador createAmbassador() throws IOException {
-        AmbassadorParameter applicationParams;
+        File configuration;
         try {
-            applicationParams = new AmbassadorParameter("application", tmpFolder.newFile());
-            ApplicationAmbassador ambassador = new ApplicationAmbassador(applicationParams) {
-                public void addEvent(@Nonnull Event event) {
-                    super.addEvent(event);
-                    // store the latest event in order to
-                    ApplicationAmbassadorTest.this.addedEvents.add(event);
-                }
-            };
-            ambassador.setRtiAmbassador(rtiAmbassador);
-            return ambassador;
+            configuration = tmpFolder.newFile();
         } catch (IOException e) {
             Assert.fail("Initialize the ambassador");
             throw e;
         }
+        return createAmbassador(configuration);
+    }
+
+    private ApplicationAmbassador createAmbassador(File configuration) {
+        AmbassadorParameter applicationParams = new AmbassadorParameter("application", configuration);
+        ApplicationAmbassador ambassador = new ApplicationAmbassador(applicationParams) {
+            public void addEvent(@Nonnull Event event) {
+                super.addEvent(event);
+                // store the latest event in order to
+                ApplicationAmbassadorTest.this.addedEvents.add(event);
+            }
+        };
+        ambassador.setRtiAmbassador(rtiAmbassador);
+        return ambassador;
     }
 
 }
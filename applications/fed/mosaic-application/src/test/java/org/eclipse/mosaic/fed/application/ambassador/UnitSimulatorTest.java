@@ -17,13 +17,23 @@ package org.eclipse.mosaic.fed.application.ambassador;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.fed.application.ambassador.eventresources.RemoveVehicles;
+import org.eclipse.mosaic.fed.application.ambassador.eventresources.UpdateVehicles;
 import org.eclipse.mosaic.fed.application.ambassador.navigation.CentralNavigationComponent;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.AbstractSimulationUnit;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.VehicleUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.CentralPerceptionComponent;
 import org.eclipse.mosaic.fed.application.app.TestApplicationWithSpy;
 import org.eclipse.mosaic.fed.application.app.TestVehicleApplication;
@@ -40,6 +50,7 @@ import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.lib.junit.IpResolverRule;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
 import org.eclipse.mosaic.rti.TIME;
@@ -51,6 +62,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Vector;
@@ -408,6 +420,37 @@ public class UnitSimulatorTest {
         assertEquals(0, sim.getRoadSideUnits().size());
     }
 
+    /**
+     * Processes a batch of vehicle updates, in which the first unit fails. The
+     * remaining units must still receive their update.
+     */
+    @Test
+    public void updateVehiclesFailureOfOneUnit() throws Exception {
+        UnitSimulator sim = UnitSimulator.UnitSimulator;
+
+        VehicleUnit failingUnit = mock(VehicleUnit.class);
+        when(failingUnit.getId()).thenReturn("veh_0");
+        when(failingUnit.canProcessEvent()).thenReturn(true);
+        doThrow(new IllegalStateException()).when(failingUnit).processVehicleData(any(), anyLong());
+        VehicleUnit unit = mock(VehicleUnit.class);
+        when(unit.canProcessEvent()).thenReturn(true);
+        VehicleData vehicleData = mock(VehicleData.class);
+
+        UpdateVehicles updateVehicles = new UpdateVehicles(
+                Arrays.asList(failingUnit, unit), Arrays.asList(mock(VehicleData.class), vehicleData)
+        );
+        try {
+            sim.processEvent(new Event(5 * TIME.SECOND, sim, updateVehicles));
+            fail("Expected exception of failing unit");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("veh_0"));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        verify(unit).processVehicleData(same(vehicleData), anyLong());
+        verify(unit, never()).processEvent(any());
+    }
+
 
     @SuppressWarnings("unchecked")
     private <SPY_APP_CLASS extends Application> SPY_APP_CLASS addAndLoadSingleUnit(UnitSimulator sim, String id) {
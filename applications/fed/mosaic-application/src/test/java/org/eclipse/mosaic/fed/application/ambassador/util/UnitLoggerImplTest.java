@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.application.app.api.OperatingSystemAccess;
+import org.eclipse.mosaic.fed.application.app.api.os.OperatingSystem;
+import org.eclipse.mosaic.fed.application.config.CUnitLogging;
+import org.eclipse.mosaic.rti.TIME;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class UnitLoggerImplTest {
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private final CUnitLogging configuration = new CUnitLogging();
+
+    @Before
+    public void setup() {
+        appender.start();
+        ((Logger) LoggerFactory.getLogger("ApplicationLogDelegate")).addAppender(appender);
+    }
+
+    @After
+    public void tearDown() {
+        UnitLogging.configure(new CUnitLogging());
+        ((Logger) LoggerFactory.getLogger("ApplicationLogDelegate")).detachAppender(appender);
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(Collectors.toList());
+    }
+
+    @Test
+    public void logLevelPolicy() {
+        final CUnitLogging.CLogPolicy policy = new CUnitLogging.CLogPolicy();
+        policy.level = Level.WARN;
+        configuration.policies.put("TestApp", policy);
+        UnitLogging.configure(configuration);
+
+        final UnitLoggerImpl filtered = new UnitLoggerImpl("veh_0", "TestApp");
+        final UnitLoggerImpl other = new UnitLoggerImpl("veh_0", "OtherApp");
+
+        assertFalse(filtered.isInfoEnabled());
+        assertTrue(filtered.isWarnEnabled());
+        assertTrue(other.isInfoEnabled());
+
+        filtered.info("info {}", 1);
+        filtered.warn("warn {}", 2);
+        other.info("info {}", 3);
+
+        assertEquals(List.of("warn 2", "info 3"), messages());
+    }
+
+    @Test
+    public void sampling() {
+        configuration.defaultPolicy.sampling = 0.25;
+        UnitLogging.configure(configuration);
+
+        final UnitLoggerImpl logger = new UnitLoggerImpl("veh_0", "TestApp");
+        for (int i = 0; i < 8; i++) {
+            logger.info("line {}", i);
+        }
+        logger.error("error");
+
+        assertEquals(List.of("line 0", "line 4", "error"), messages());
+    }
+
+    @Test
+    public void infoSimTimeIsNotFormattedIfNotSampled() {
+        configuration.defaultPolicy.sampling = 0.5;
+        UnitLogging.configure(configuration);
+
+        final OperatingSystem os = mock(OperatingSystem.class);
+        when(os.getSimulationTime()).thenReturn(2 * TIME.SECOND);
+        @SuppressWarnings("unchecked") final OperatingSystemAccess<OperatingSystem> osAccess = mock(OperatingSystemAccess.class);
+        when(osAccess.getOperatingSystem()).thenReturn(os);
+
+        final Object argument = new Object() {
+            int calls = 0;
+
+            @Override
+            public String toString() {
+                return "arg" + (calls++);
+            }
+        };
+
+        final UnitLoggerImpl logger = new UnitLoggerImpl("veh_0", "TestApp");
+        logger.infoSimTime(osAccess, "message {}", argument);
+        logger.infoSimTime(osAccess, "message {}", argument);
+        logger.infoSimTime(osAccess, "message {}", argument);
+
+        final String time = " (at simulation time " + TIME.format(2 * TIME.SECOND) + ")";
+        assertEquals(List.of("message arg0" + time, "message arg1" + time), messages());
+    }
+
+    @Test
+    public void asynchronousLogging() {
+        configuration.asynchronous = true;
+        configuration.bufferSize = 4;
+        configuration.flushInterval = TIME.HOUR;
+        UnitLogging.configure(configuration);
+
+        final UnitLoggerImpl logger = new UnitLoggerImpl("veh_0", "TestApp");
+        final StringBuilder mutable = new StringBuilder("before");
+        logger.info("line {}", mutable);
+        mutable.replace(0, mutable.length(), "after");
+        logger.info("line {}", 2);
+
+        // nothing written before the flush
+        assertTrue(appender.list.isEmpty());
+
+        UnitLogging.flush();
+        assertEquals(List.of("line before", "line 2"), messages());
+
+        // a full buffer is written by the logging thread
+        for (int i = 0; i < 5; i++) {
+            logger.info("burst {}", i);
+        }
+        assertEquals(6, appender.list.size());
+
+        UnitLogging.shutdown();
+        assertEquals(7, appender.list.size());
+    }
+}
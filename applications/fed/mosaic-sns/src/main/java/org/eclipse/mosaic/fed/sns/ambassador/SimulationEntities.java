@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.sns.ambassador;
 
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 
 import java.util.HashMap;
@@ -36,6 +37,16 @@ enum SimulationEntities {
      */
     private final HashMap<String, CartesianPoint> offlineNodes = new HashMap<>();
 
+    /**
+     * The edge length of the cells of the spatial index [m].
+     */
+    private static final double GRID_CELL_SIZE = 250;
+
+    /**
+     * Spatial index of all online nodes, which is kept in sync with {@link #onlineNodes}.
+     */
+    private final SimulationNodeGrid onlineNodesGrid = new SimulationNodeGrid(GRID_CELL_SIZE);
+
     /**
      * Gets all nodes currently known as online (initialized, Wifi enabled) in the simulation.
      *
@@ -54,6 +65,29 @@ enum SimulationEntities {
         return onlineNodes.get(nodeName);
     }
 
+    /**
+     * Collects all nodes currently known as online which are located within the given area.
+     * Uses a spatial index instead of iterating over all online nodes.
+     *
+     * @param area the area to search in
+     * @return a new map containing all online nodes within the given area
+     */
+    public Map<String, SimulationNode> getOnlineNodesInArea(Area<CartesianPoint> area) {
+        return onlineNodesGrid.getNodesInArea(area, new HashMap<>());
+    }
+
+    /**
+     * Collects all nodes of the given map which are located within the given area. All nodes of the
+     * map must be known as online, since the spatial index of the online nodes is used for the search.
+     *
+     * @param nodes a subset of all online nodes
+     * @param area  the area to search in
+     * @return a new map containing the nodes of the given map within the given area
+     */
+    public Map<String, SimulationNode> getOnlineNodesInArea(Map<String, SimulationNode> nodes, Area<CartesianPoint> area) {
+        return onlineNodesGrid.getNodesInArea(area, nodes, new HashMap<>());
+    }
+
     public boolean isNodeSimulated(String nodeName) {
         return onlineNodes.containsKey(nodeName) || offlineNodes.containsKey(nodeName);
     }
@@ -79,6 +113,7 @@ enum SimulationEntities {
             nodeData.setPosition(position);
             nodeData.setRadius(radius);
             onlineNodes.put(nodeName, nodeData);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
         } else {
             throw new RuntimeException("Unable to move node=" + nodeName + " to position=" + position);
         }
@@ -92,7 +127,9 @@ enum SimulationEntities {
      */
     public void updateOnlineNode(String nodeName, CartesianPoint position) {
         if (nodeName != null && position != null) {
-            onlineNodes.get(nodeName).setPosition(position);
+            SimulationNode nodeData = onlineNodes.get(nodeName);
+            nodeData.setPosition(position);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
         } else {
             throw new RuntimeException("Unable to update node=" + nodeName + " to position=" + position);
         }
@@ -117,6 +154,7 @@ enum SimulationEntities {
      */
     public void removeNode(String nodeId) {
         onlineNodes.remove(nodeId);
+        onlineNodesGrid.remove(nodeId);
         offlineNodes.remove(nodeId);
     }
 
@@ -132,6 +170,7 @@ enum SimulationEntities {
             nodeData.setPosition(offlineNodes.get(nodeName));
             nodeData.setRadius(communicationRadius);
             onlineNodes.put(nodeName, nodeData);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
             offlineNodes.remove(nodeName);
         } else {
             onlineNodes.get(nodeName).setRadius(communicationRadius);
@@ -147,6 +186,7 @@ enum SimulationEntities {
         if (isNodeOnline(nodeName)) {
             offlineNodes.put(nodeName, onlineNodes.get(nodeName).getPosition());
             onlineNodes.remove(nodeName);
+            onlineNodesGrid.remove(nodeName);
         }
     }
 
@@ -155,6 +195,7 @@ enum SimulationEntities {
      */
     public void reset() {
         onlineNodes.clear();
+        onlineNodesGrid.clear();
         offlineNodes.clear();
     }
 }
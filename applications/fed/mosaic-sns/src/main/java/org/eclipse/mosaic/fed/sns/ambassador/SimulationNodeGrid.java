@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spatial index for {@link SimulationNode}s using an unbounded grid of square cells. Only non-empty cells
+ * are stored, hence the grid does not need to know the dimensions of the simulation area in advance.
+ * Range queries visit the cells overlapping with the bounding box of the requested area only, instead
+ * of all nodes in the simulation.
+ * Note: This class is not thread-safe, as the SNS processes all interactions sequentially.
+ */
+class SimulationNodeGrid {
+
+    private final double cellSize;
+
+    /**
+     * All non-empty cells, the key is composed of the column and row of the cell.
+     */
+    private final Map<Long, GridCell> cells = new HashMap<>();
+
+    /**
+     * The entries of all indexed nodes, in order to find their current cell.
+     */
+    private final Map<String, NodeEntry> entries = new HashMap<>();
+
+    SimulationNodeGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adds the node to the grid, or moves it to the cell matching its current position if already present.
+     *
+     * @param nodeName the name of the node
+     * @param node     the node, which must have a position
+     */
+    void addOrUpdate(String nodeName, SimulationNode node) {
+        final CartesianPoint position = node.getPosition();
+        final long cellKey = toCellKey(toCell(position.getX()), toCell(position.getY()));
+        NodeEntry entry = entries.get(nodeName);
+        if (entry == null) {
+            entry = new NodeEntry(nodeName, node);
+            entries.put(nodeName, entry);
+        } else if (entry.cellKey == cellKey) {
+            entry.node = node;
+            return;
+        } else {
+            removeFromCell(entry);
+            entry.node = node;
+        }
+        entry.cellKey = cellKey;
+        cells.computeIfAbsent(cellKey, k -> new GridCell()).add(entry);
+    }
+
+    /**
+     * Removes the node from the grid, if present.
+     */
+    void remove(String nodeName) {
+        NodeEntry entry = entries.remove(nodeName);
+        if (entry != null) {
+            removeFromCell(entry);
+        }
+    }
+
+    void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Collects all indexed nodes within the given area.
+     *
+     * @param area   the area to search in
+     * @param result the map to add the found nodes to
+     * @return the given result map
+     */
+    Map<String, SimulationNode> getNodesInArea(Area<CartesianPoint> area, Map<String, SimulationNode> result) {
+        return getNodesInArea(area, null, result);
+    }
+
+    /**
+     * Collects all indexed nodes within the given area, which are also contained in the given map of candidates.
+     *
+     * @param area       the area to search in
+     * @param candidates if not {@code null}, only nodes with a name in this map are collected
+     * @param result     the map to add the found nodes to
+     * @return the given result map
+     */
+    Map<String, SimulationNode> getNodesInArea(Area<CartesianPoint> area, Map<String, SimulationNode> candidates,
+                                               Map<String, SimulationNode> result) {
+        final Bounds<CartesianPoint> bounds = area.getBounds();
+        final int minCol = toCell(bounds.getSideD());
+        final int maxCol = toCell(bounds.getSideB());
+        final int minRow = toCell(bounds.getSideA());
+        final int maxRow = toCell(bounds.getSideC());
+
+        // the area may cover more cells than there are non-empty ones, e.g. for geocasts into large areas
+        if ((long) (maxCol - minCol + 1) * (maxRow - minRow + 1) > cells.size()) {
+            for (GridCell cell : cells.values()) {
+                collect(cell, area, candidates, result);
+            }
+            return result;
+        }
+
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                GridCell cell = cells.get(toCellKey(col, row));
+                if (cell != null) {
+                    collect(cell, area, candidates, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void collect(GridCell cell, Area<CartesianPoint> area, Map<String, SimulationNode> candidates,
+                         Map<String, SimulationNode> result) {
+        for (int i = 0; i < cell.size(); i++) {
+            NodeEntry entry = cell.get(i);
+            if ((candidates == null || candidates.containsKey(entry.nodeName)) && area.contains(entry.node.getPosition())) {
+                result.put(entry.nodeName, entry.node);
+            }
+        }
+    }
+
+    private void removeFromCell(NodeEntry entry) {
+        GridCell cell = cells.get(entry.cellKey);
+        if (cell == null) {
+            return;
+        }
+        int index = cell.indexOf(entry);
+        if (index >= 0) {
+            // swap with last element to avoid shifting the remaining entries
+            int last = cell.size() - 1;
+            cell.set(index, cell.get(last));
+            cell.remove(last);
+        }
+        if (cell.isEmpty()) {
+            cells.remove(entry.cellKey);
+        }
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long toCellKey(int col, int row) {
+        return ((long) col << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private static class GridCell extends ArrayList<NodeEntry> {
+        // marker class for better readability
+    }
+
+    private static class NodeEntry {
+        private final String nodeName;
+        private SimulationNode node;
+        private long cellKey;
+
+        private NodeEntry(String nodeName, SimulationNode node) {
+            this.nodeName = nodeName;
+            this.node = node;
+        }
+    }
+}
@@ -42,8 +42,10 @@ import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -75,6 +77,16 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
      */
     private VehicleUpdates latestVehicleUpdates;
 
+    /**
+     * If {@code true}, transmissions of the same simulation time are collected and simulated as a batch.
+     */
+    private boolean batchTransmissions;
+
+    /**
+     * Transmissions of the current time step, which have not been simulated yet (batch mode only).
+     */
+    private final List<V2xMessageTransmission> pendingTransmissions = new ArrayList<>();
+
     /**
      * Construct the Ambassador.
      *
@@ -99,6 +111,7 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                 log.info("Detected GammaSpeedDelay for. The SNS is currently ignoring speed of entities in its evaluation of delay values");
             }
             this.singlehopRadius = configuration.singlehopRadius;
+            this.batchTransmissions = configuration.batchTransmissions;
             final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
             transmissionSimulator = new TransmissionSimulator(rng, configuration);
         } catch (InstantiationException e) {
@@ -111,6 +124,10 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
     @Override
     protected void processInteraction(Interaction interaction) throws InternalFederateException {
         try {
+            if (!interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
+                // any other interaction may change the state of the nodes, which the pending transmissions rely on
+                flushPendingTransmissions();
+            }
             if (interaction.getTypeId().startsWith(RsuRegistration.TYPE_ID)) {
                 this.process((RsuRegistration) interaction);
             } else if (interaction.getTypeId().startsWith(TrafficLightRegistration.TYPE_ID)) {
@@ -212,12 +229,40 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         if (type != DestinationType.AD_HOC_GEOCAST && type != DestinationType.AD_HOC_TOPOCAST) {
             return;
         }
+        if (batchTransmissions) {
+            if (!pendingTransmissions.isEmpty() && pendingTransmissions.get(0).getTime() != interaction.getTime()) {
+                flushPendingTransmissions();
+            }
+            pendingTransmissions.add(interaction);
+            return;
+        }
         // Calculate transmission
         Map<String, TransmissionResult> transmissionResults = transmissionSimulator.preProcessInteraction(interaction);
         // send transmission results to rti
         prepareV2xMessageReceptions(transmissionResults, interaction);
     }
 
+    /**
+     * Simulates all pending transmissions at once and sends the resulting receptions to the rti.
+     */
+    private void flushPendingTransmissions() throws InternalFederateException {
+        if (pendingTransmissions.isEmpty()) {
+            return;
+        }
+        final List<V2xMessageTransmission> transmissions = new ArrayList<>(pendingTransmissions);
+        pendingTransmissions.clear();
+
+        final List<Map<String, TransmissionResult>> transmissionResults = transmissionSimulator.preProcessInteractions(transmissions);
+        for (int i = 0; i < transmissions.size(); i++) {
+            prepareV2xMessageReceptions(transmissionResults.get(i), transmissions.get(i));
+        }
+    }
+
+    @Override
+    protected void processTimeAdvanceGrant(long time) throws InternalFederateException {
+        flushPendingTransmissions();
+    }
+
     /**
      * Adds or Updates vehicles positions (which is the same from the view of SNS - mainly new positions).
      *
@@ -35,8 +35,10 @@ import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class TransmissionSimulator {
@@ -64,6 +66,11 @@ public class TransmissionSimulator {
      */
     private final RandomNumberGenerator randomNumberGenerator;
 
+    /**
+     * Nodes within the single hop range of each sender of the currently simulated batch of transmissions,
+     * including the sender itself. Is {@code null} if no batch is being simulated.
+     */
+    private Map<String, Map<String, SimulationNode>> batchReceiversCache;
 
     /**
      * Constructor for {@link TransmissionSimulator}, sets the configuration, transmission models & RNG.
@@ -119,6 +126,29 @@ public class TransmissionSimulator {
         return transmissionResults;
     }
 
+    /**
+     * Simulates a batch of transmissions sent at the same simulation time. As the positions of all nodes
+     * remain unchanged within the batch, the single hop neighbours of each sender are looked up only once.
+     * The transmissions are simulated in the given order, hence the results are identical to calling
+     * {@link #preProcessInteraction} for each transmission.
+     *
+     * @param interactions the transmissions of the current time step
+     * @return the transmission results, in the same order as the given transmissions (with {@code null} for
+     *         transmissions which could not be simulated)
+     */
+    List<Map<String, TransmissionResult>> preProcessInteractions(List<V2xMessageTransmission> interactions) {
+        final List<Map<String, TransmissionResult>> results = new ArrayList<>(interactions.size());
+        batchReceiversCache = new HashMap<>();
+        try {
+            for (int i = 0; i < interactions.size(); i++) {
+                results.add(preProcessInteraction(interactions.get(i)));
+            }
+        } finally {
+            batchReceiversCache = null;
+        }
+        return results;
+    }
+
     /**
      * This method will check if a potential sender qualifies as one.
      *
@@ -170,7 +200,7 @@ public class TransmissionSimulator {
         SimulationNode sender = SimulationEntities.INSTANCE.getOnlineNode(senderName);
         Map<String, SimulationNode> allPotentialReceivers;
         if (destinationAddress.isBroadcast()) { // SingleHopBroadCast
-            allPotentialReceivers = getPotentialBroadcastReceivers(getTopocastDestinationArea(sender));
+            allPotentialReceivers = getSinglehopReceivers(senderName, sender);
             // remove sender as single radios could not transmit and receive at the same time
             allPotentialReceivers.remove(senderName);
         } else { // SingleHopUniCast
@@ -239,6 +269,25 @@ public class TransmissionSimulator {
         return new CartesianCircle(nodeData.getPosition(), nodeData.getRadius());
     }
 
+    /**
+     * Collects all nodes within the single hop range of the sender, including the sender itself. If a batch of
+     * transmissions is being simulated, the result is cached per sender and a copy is returned.
+     */
+    private Map<String, SimulationNode> getSinglehopReceivers(String senderName, SimulationNode sender) {
+        if (batchReceiversCache == null) {
+            return getPotentialBroadcastReceivers(getTopocastDestinationArea(sender));
+        }
+        final Map<String, SimulationNode> receivers = batchReceiversCache.computeIfAbsent(
+                senderName, name -> getPotentialBroadcastReceivers(getTopocastDestinationArea(sender))
+        );
+        // transmission models may modify the receivers, copy entry by entry to keep the same iteration order
+        final Map<String, SimulationNode> copy = new HashMap<>();
+        for (Map.Entry<String, SimulationNode> receiver : receivers.entrySet()) {
+            copy.put(receiver.getKey(), receiver.getValue());
+        }
+        return copy;
+    }
+
     /**
      * Collects all nodes within the specified destination area.
      *
@@ -246,12 +295,14 @@ public class TransmissionSimulator {
      * @return a map containing the
      */
     private Map<String, SimulationNode> getPotentialBroadcastReceivers(Area<CartesianPoint> destinationArea) {
-        return getEntitiesInArea(SimulationEntities.INSTANCE.getAllOnlineNodes(), destinationArea);
+        return SimulationEntities.INSTANCE.getOnlineNodesInArea(destinationArea);
     }
 
     /**
      * This method collects all entities, that are within the given {@link GeoArea}.
      * It is static because it is also required in some of the {@link AdhocTransmissionModel}s.
+     * If the given map is the map of all online nodes, the spatial index of {@link SimulationEntities} is used
+     * instead of checking each entity.
      *
      * @param relevantEntities a map of all entities and their names, which should be checked against the area
      * @param range            the {@link GeoArea} within which the entities should be.
@@ -260,6 +311,9 @@ public class TransmissionSimulator {
      */
     public static Map<String, SimulationNode> getEntitiesInArea(
             Map<String, SimulationNode> relevantEntities, Area<CartesianPoint> range) {
+        if (relevantEntities == SimulationEntities.INSTANCE.getAllOnlineNodes()) {
+            return SimulationEntities.INSTANCE.getOnlineNodesInArea(range);
+        }
         Map<String, SimulationNode> results = new HashMap<>();
 
         for (Map.Entry<String, SimulationNode> entityEntry : relevantEntities.entrySet()) {
@@ -270,6 +324,24 @@ public class TransmissionSimulator {
         return results;
     }
 
+    /**
+     * This method collects all entities of the given map, that are within the given area. In contrast
+     * to {@link #getEntitiesInArea(Map, Area)}, the spatial index of {@link SimulationEntities} is used
+     * if {@code currentNodes} is the map of all online nodes, which the relevant entities are part of.
+     *
+     * @param relevantEntities a map of all entities and their names, which should be checked against the area
+     * @param currentNodes     a reference to all currently online nodes
+     * @param range            the area within which the entities should be
+     * @return A map of the given entities, which are in the destination area.
+     */
+    public static Map<String, SimulationNode> getEntitiesInArea(
+            Map<String, SimulationNode> relevantEntities, Map<String, SimulationNode> currentNodes, Area<CartesianPoint> range) {
+        if (currentNodes == SimulationEntities.INSTANCE.getAllOnlineNodes()) {
+            return SimulationEntities.INSTANCE.getOnlineNodesInArea(relevantEntities, range);
+        }
+        return getEntitiesInArea(relevantEntities, range);
+    }
+
     /**
      * Returns the addressed receiver, if it is known inside the destination area (more specific check compared to broadcast).
      * Note: The resulting Map will always contain 0 or 1 elements.
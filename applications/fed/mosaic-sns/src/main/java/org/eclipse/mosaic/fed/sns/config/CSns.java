@@ -58,4 +58,12 @@ public class CSns {
      * Transmission configuration for a single hop.
      */
     public CTransmission singlehopTransmission = new CTransmission();
+
+    /**
+     * If {@code true}, all {@link org.eclipse.mosaic.interactions.communication.V2xMessageTransmission}s
+     * of the same simulation time are collected and simulated together at the end of the time step,
+     * sharing the neighbour lookups of the senders. The transmissions are still simulated in the order
+     * of their arrival, hence the results are identical to the non-batched mode.
+     */
+    public boolean batchTransmissions = false;
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.model;
+
+import org.eclipse.mosaic.fed.sns.ambassador.SimulationNode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Flooding of a geocast, which expands each hop frontier in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>In contrast to the sequential flooding, all forwarders of a hop try to reach the receivers which have
+ * not been reached before this hop, independent of each other. Each forwarder uses its own random number
+ * stream, which is derived from a seed drawn once from the {@link RandomNumberGenerator} of the transmission.
+ * Afterwards, the outcomes are merged in the order of the forwarders' indices, hence the results only depend
+ * on the seed and not on the number of threads or their scheduling.</p>
+ *
+ * <p>Receivers are addressed by their index in an array instead of their name, and the set of unsatisfied
+ * receivers is held in a {@link BitSet}.</p>
+ */
+class ParallelFlooding {
+
+    /**
+     * Index of the original sender, which is not part of the receivers.
+     */
+    private static final int SENDER = -1;
+
+    /**
+     * Frontiers with less forwarders are expanded in the calling thread.
+     */
+    private static final int MIN_FORWARDERS_PER_TASK = 4;
+
+    private final AdhocTransmissionModel model;
+    private final TransmissionParameter transmissionParameter;
+    private final SimulationNode sender;
+    private final String[] names;
+    private final SimulationNode[] nodes;
+
+    ParallelFlooding(AdhocTransmissionModel model, TransmissionParameter transmissionParameter,
+                     SimulationNode sender, Map<String, SimulationNode> receivers) {
+        this.model = model;
+        this.transmissionParameter = transmissionParameter;
+        this.sender = sender;
+        this.names = new String[receivers.size()];
+        this.nodes = new SimulationNode[receivers.size()];
+        int index = 0;
+        for (Map.Entry<String, SimulationNode> receiver : receivers.entrySet()) {
+            names[index] = receiver.getKey();
+            nodes[index] = receiver.getValue();
+            index++;
+        }
+    }
+
+    /**
+     * Simulates the flooding from the sender to all receivers.
+     *
+     * @return the transmission results for all receivers
+     */
+    Map<String, TransmissionResult> flood() {
+        final long seed = transmissionParameter.randomNumberGenerator.nextLong(0, Long.MAX_VALUE);
+        final TransmissionResult[] results = new TransmissionResult[nodes.length];
+
+        final BitSet unsatisfied = new BitSet(nodes.length);
+        unsatisfied.set(0, nodes.length);
+
+        int[] frontier = {SENDER};
+        int currentDepth = 0;
+        while (!unsatisfied.isEmpty() && frontier.length > 0 && currentDepth < transmissionParameter.ttl) {
+            ++currentDepth;
+
+            final HopTask task = new HopTask(seed, frontier, unsatisfied, 0, frontier.length);
+            if (frontier.length < MIN_FORWARDERS_PER_TASK * 2) {
+                task.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(task);
+            }
+            frontier = merge(task.outcomes, frontier, results, unsatisfied);
+        }
+
+        final Map<String, TransmissionResult> resultMap = new HashMap<>();
+        for (int i = 0; i < nodes.length; i++) {
+            resultMap.put(names[i], results[i] != null ? results[i] : new TransmissionResult(false, 0));
+        }
+        return resultMap;
+    }
+
+    /**
+     * Applies the outcomes of all forwarders of a hop in the order of the frontier. A receiver is satisfied
+     * by the first forwarder which reached it successfully.
+     *
+     * @return the forwarders of the next hop, in ascending order
+     */
+    private int[] merge(Outcome[] outcomes, int[] frontier, TransmissionResult[] results, BitSet unsatisfied) {
+        final BitSet nextFrontier = new BitSet(nodes.length);
+        for (int k = 0; k < frontier.length; k++) {
+            final Outcome outcome = outcomes[k];
+            final int previousNumberOfHops = frontier[k] == SENDER ? 0 : results[frontier[k]].numberOfHops;
+            final long previousDelay = frontier[k] == SENDER ? 0 : results[frontier[k]].delay;
+            for (int j = 0; j < outcome.size; j++) {
+                final int receiver = outcome.receivers[j];
+                if (unsatisfied.get(receiver)) {
+                    unsatisfied.clear(receiver);
+                    final TransmissionResult transmissionResult = outcome.results[j];
+                    transmissionResult.numberOfHops = previousNumberOfHops + 1;
+                    transmissionResult.delay += previousDelay;
+                    results[receiver] = transmissionResult;
+                    nextFrontier.set(receiver);
+                }
+            }
+        }
+        return nextFrontier.stream().toArray();
+    }
+
+    /**
+     * Simulates the transmissions of a single forwarder to all receivers in its range, which were
+     * unsatisfied at the beginning of the hop.
+     */
+    private Outcome expand(long seed, int forwarder, BitSet unsatisfied) {
+        final SimulationNode forwardingNode = forwarder == SENDER ? sender : nodes[forwarder];
+        final CartesianPoint position = forwardingNode.getPosition();
+        final double radius = forwardingNode.getRadius();
+        final RandomNumberGenerator rng = new DefaultRandomNumberGenerator(deriveSeed(seed, forwarder));
+
+        final Outcome outcome = new Outcome();
+        for (int i = unsatisfied.nextSetBit(0); i >= 0; i = unsatisfied.nextSetBit(i + 1)) {
+            if (position.distanceTo(nodes[i].getPosition()) <= radius) {
+                TransmissionResult transmissionResult =
+                        model.simulateTransmission(rng, transmissionParameter.delay, transmissionParameter.transmission);
+                if (transmissionResult.success) {
+                    outcome.add(i, transmissionResult);
+                }
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Derives the seed of the random number stream of a forwarder (SplitMix64 finalizer).
+     */
+    static long deriveSeed(long seed, int forwarder) {
+        long z = seed + (forwarder + 2L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Expands a range of the frontier, splitting it into sub tasks as long as it is large enough.
+     */
+    private class HopTask extends RecursiveAction {
+
+        private final long seed;
+        private final int[] frontier;
+        private final BitSet unsatisfied;
+        private final int from;
+        private final int to;
+        private final Outcome[] outcomes;
+
+        private HopTask(long seed, int[] frontier, BitSet unsatisfied, int from, int to) {
+            this(seed, frontier, unsatisfied, from, to, new Outcome[frontier.length]);
+        }
+
+        private HopTask(long seed, int[] frontier, BitSet unsatisfied, int from, int to, Outcome[] outcomes) {
+            this.seed = seed;
+            this.frontier = frontier;
+            this.unsatisfied = unsatisfied;
+            this.from = from;
+            this.to = to;
+            this.outcomes = outcomes;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_FORWARDERS_PER_TASK) {
+                for (int k = from; k < to; k++) {
+                    outcomes[k] = expand(seed, frontier[k], unsatisfied);
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(
+                    new HopTask(seed, frontier, unsatisfied, from, middle, outcomes),
+                    new HopTask(seed, frontier, unsatisfied, middle, to, outcomes)
+            );
+        }
+    }
+
+    /**
+     * The successful transmissions of a single forwarder.
+     */
+    private static class Outcome {
+        private int[] receivers = new int[16];
+        private TransmissionResult[] results = new TransmissionResult[16];
+        private int size;
+
+        private void add(int receiver, TransmissionResult result) {
+            if (size == receivers.length) {
+                receivers = Arrays.copyOf(receivers, size * 2);
+                results = Arrays.copyOf(results, size * 2);
+            }
+            receivers[size] = receiver;
+            results[size] = result;
+            size++;
+        }
+    }
+}
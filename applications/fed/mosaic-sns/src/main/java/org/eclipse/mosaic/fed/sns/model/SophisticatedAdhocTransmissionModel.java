@@ -34,6 +34,14 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
 
     private final static Logger log = LoggerFactory.getLogger(SimpleAdhocTransmissionModel.class);
 
+    /**
+     * If {@code true}, the hops of a flooding are expanded in parallel, with each forwarder using its own
+     * random number stream derived from the {@link org.eclipse.mosaic.lib.math.RandomNumberGenerator} of the
+     * transmission. Results are reproducible for a given seed, but differ from the sequential flooding, as
+     * all forwarders of a hop address the receivers not reached before this hop.
+     */
+    public boolean parallelFlooding = false;
+
     @Override
     public Map<String, TransmissionResult> simulateTopocast(String senderName, Map<String, SimulationNode> receivers,
                                                             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
@@ -99,6 +107,9 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
     private Map<String, TransmissionResult> flooding(
             String senderName, Map<String, SimulationNode> receivers,
             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
+        if (parallelFlooding) {
+            return new ParallelFlooding(this, transmissionParameter, currentNodes.get(senderName), receivers).flood();
+        }
         Map<String, TransmissionResult> results = new HashMap<>();
         receivers.forEach((receiverName, receiver) -> results.put(receiverName, new TransmissionResult(false, 0)));
 
@@ -126,7 +137,7 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
                         floodingEntityEntry.getValue().getRadius()
                 );
                 // only search for unsatisfied receivers
-                entitiesInReach = TransmissionSimulator.getEntitiesInArea(receiversUnsatisfied, singleHopReachArea);
+                entitiesInReach = TransmissionSimulator.getEntitiesInArea(receiversUnsatisfied, currentNodes, singleHopReachArea);
 
                 // simulate transmission for unsatisfied receivers in reach
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the receiver lookup of a single hop broadcast using the spatial index of {@link SimulationEntities}
+ * with the linear search over all online nodes. Nodes are distributed with constant density, i.e. the
+ * simulation area grows with the number of nodes, as it is the case when scaling a scenario.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulationEntitiesBenchmark {
+
+    /**
+     * Number of nodes per square kilometer.
+     */
+    private static final double DENSITY = 500;
+
+    private static final double RADIUS = 300;
+
+    @Param({"100", "1000", "5000", "20000"})
+    public int nodes;
+
+    private final Random random = new Random(42L);
+
+    private double edgeLength;
+
+    private String[] nodeNames;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        edgeLength = Math.sqrt(nodes / DENSITY) * 1000;
+        nodeNames = new String[nodes];
+        for (int i = 0; i < nodes; i++) {
+            nodeNames[i] = "veh_" + i;
+            SimulationEntities.INSTANCE.createOnlineNode(nodeNames[i], randomPosition(), RADIUS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Benchmark
+    public Map<String, SimulationNode> broadcastIndexed() {
+        return SimulationEntities.INSTANCE.getOnlineNodesInArea(randomReach());
+    }
+
+    @Benchmark
+    public Map<String, SimulationNode> broadcastLinear() {
+        CartesianCircle area = randomReach();
+        Map<String, SimulationNode> result = new HashMap<>();
+        for (Map.Entry<String, SimulationNode> entry : SimulationEntities.INSTANCE.getAllOnlineNodes().entrySet()) {
+            if (area.contains(entry.getValue().getPosition())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void updatePosition() {
+        SimulationEntities.INSTANCE.updateOnlineNode(nodeNames[random.nextInt(nodes)], randomPosition());
+    }
+
+    private CartesianCircle randomReach() {
+        return new CartesianCircle(randomPosition(), RADIUS);
+    }
+
+    private CartesianPoint randomPosition() {
+        return CartesianPoint.xy(random.nextDouble() * edgeLength, random.nextDouble() * edgeLength);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(SimulationEntitiesBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests the spatial index of {@link SimulationEntities} against a linear search over all online nodes.
+ */
+public class SimulationEntitiesTest {
+
+    private final Random random = new Random(1337L);
+
+    @After
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Test
+    public void getOnlineNodesInArea_equalsLinearSearch() {
+        for (int i = 0; i < 500; i++) {
+            SimulationEntities.INSTANCE.createOnlineNode("veh_" + i, randomPosition(), 300);
+        }
+        assertEqualsLinearSearch();
+
+        // move, disable and remove some nodes
+        for (int i = 0; i < 500; i += 2) {
+            SimulationEntities.INSTANCE.updateOnlineNode("veh_" + i, randomPosition());
+        }
+        for (int i = 0; i < 500; i += 7) {
+            SimulationEntities.INSTANCE.disableWifi("veh_" + i);
+        }
+        for (int i = 0; i < 500; i += 11) {
+            SimulationEntities.INSTANCE.removeNode("veh_" + i);
+        }
+        assertEqualsLinearSearch();
+
+        // enable wifi again
+        for (int i = 0; i < 500; i += 7) {
+            if (SimulationEntities.INSTANCE.isNodeOffline("veh_" + i)) {
+                SimulationEntities.INSTANCE.enableWifi("veh_" + i, 300);
+            }
+        }
+        assertEqualsLinearSearch();
+    }
+
+    @Test
+    public void getOnlineNodesInArea_negativeCoordinatesAndLargeAreas() {
+        SimulationEntities.INSTANCE.createOnlineNode("veh_0", CartesianPoint.xy(-10, -10), 300);
+        SimulationEntities.INSTANCE.createOnlineNode("veh_1", CartesianPoint.xy(10, 10), 300);
+        SimulationEntities.INSTANCE.createOnlineNode("veh_2", CartesianPoint.xy(100000, 100000), 300);
+
+        assertEquals(2, SimulationEntities.INSTANCE.getOnlineNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 20)).size());
+        assertEquals(3, SimulationEntities.INSTANCE.getOnlineNodesInArea(
+                new CartesianRectangle(CartesianPoint.xy(-1e7, -1e7), CartesianPoint.xy(1e7, 1e7))).size()
+        );
+    }
+
+    @Test
+    public void getEntitiesInArea_subsetOfOnlineNodes() {
+        for (int i = 0; i < 100; i++) {
+            SimulationEntities.INSTANCE.createOnlineNode("veh_" + i, CartesianPoint.xy(i * 10, 0), 300);
+        }
+        Map<String, SimulationNode> subset = new HashMap<>();
+        for (int i = 0; i < 100; i += 2) {
+            subset.put("veh_" + i, SimulationEntities.INSTANCE.getOnlineNode("veh_" + i));
+        }
+        CartesianCircle area = new CartesianCircle(CartesianPoint.xy(0, 0), 195);
+
+        Map<String, SimulationNode> result =
+                TransmissionSimulator.getEntitiesInArea(subset, SimulationEntities.INSTANCE.getAllOnlineNodes(), area);
+
+        assertEquals(TransmissionSimulator.getEntitiesInArea(subset, area), result);
+        assertEquals(10, result.size());
+        assertTrue(result.keySet().stream().allMatch(subset::containsKey));
+    }
+
+    private void assertEqualsLinearSearch() {
+        for (int i = 0; i < 50; i++) {
+            CartesianCircle area = new CartesianCircle(randomPosition(), random.nextDouble() * 1000);
+            Map<String, SimulationNode> expected = new HashMap<>();
+            SimulationEntities.INSTANCE.getAllOnlineNodes().forEach((name, node) -> {
+                if (area.contains(node.getPosition())) {
+                    expected.put(name, node);
+                }
+            });
+            assertEquals(expected, SimulationEntities.INSTANCE.getOnlineNodesInArea(area));
+            assertEquals(expected, TransmissionSimulator.getEntitiesInArea(SimulationEntities.INSTANCE.getAllOnlineNodes(), area));
+        }
+    }
+
+    private CartesianPoint randomPosition() {
+        return CartesianPoint.xy(random.nextDouble() * 4000 - 1000, random.nextDouble() * 4000 - 1000);
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.sns.ambassador;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
@@ -58,6 +59,8 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -181,6 +184,52 @@ public class SnsAmbassadorTest {
 
     }
 
+    @Test
+    public void topoBroadcast_batchedTransmissions() throws Exception {
+        //PREPARE
+        useConfiguration("{\"singlehopRadius\": 700, \"batchTransmissions\": true}");
+        addVehicle("veh_0");
+        addVehicle("veh_1");
+        addVehicle("veh_2");
+        configureAdHoc("veh_0", 1337d);
+        configureAdHoc("veh_1", 700d);
+        configureAdHoc("veh_2", 250d);
+
+        moveVehicle("veh_0", GeoPoint.latLon(52.31, 13.41));
+        moveVehicle("veh_1", GeoPoint.latLon(52.31, 13.40));
+        moveVehicle("veh_2", GeoPoint.latLon(52.31, 13.39));
+
+        //RUN
+        messagesSent.clear();
+        transmitMessage(new AdHocMessageRoutingBuilder("veh_0", vehToPosition.get("veh_0")).viaChannel(AdHocChannel.CCH).topoBroadCast());
+        transmitMessage(new AdHocMessageRoutingBuilder("veh_1", vehToPosition.get("veh_1")).viaChannel(AdHocChannel.CCH).topoBroadCast());
+        transmitMessage(new AdHocMessageRoutingBuilder("veh_0", vehToPosition.get("veh_0")).viaChannel(AdHocChannel.CCH).topoBroadCast());
+
+        //ASSERT transmissions are simulated not until the end of the time step
+        assertTrue(messagesSent.isEmpty());
+
+        ambassador.advanceTime(200 * TIME.NANO_SECOND);
+        assertEquals(4, messagesSent.size());
+        assertEquals("veh_1", messagesSent.get(0).getReceiverName());
+        assertEquals("veh_1", messagesSent.get(3).getReceiverName());
+        assertReceivedMessages("veh_0", "veh_1", "veh_2");
+
+        //RUN + ASSERT vehicle updates flush all transmissions before positions change
+        messagesSent.clear();
+        transmitMessage(new AdHocMessageRoutingBuilder("veh_0", vehToPosition.get("veh_0")).viaChannel(AdHocChannel.CCH).topoBroadCast());
+        moveVehicle("veh_1", GeoPoint.latLon(52.31, 13.43));
+        assertFalse(messagesSent.isEmpty());
+        assertReceivedMessages("veh_1");
+    }
+
+    private void useConfiguration(String configuration) throws Exception {
+        final File configurationFile = temporaryFolder.newFile("sns_config.json");
+        Files.write(configurationFile.toPath(), configuration.getBytes(StandardCharsets.UTF_8));
+        ambassador = new SnsAmbassador(new AmbassadorParameter("sns", configurationFile));
+        ambassador.setRtiAmbassador(rtiMock);
+        ambassador.initialize(0, 1000 * TIME.SECOND);
+    }
+
     private void assertReceivedMessages(String... vehicleNames) {
         Set<String> sent = new HashSet<>();
         for (V2xMessageReception message : messagesSent) {
@@ -195,7 +244,11 @@ public class SnsAmbassadorTest {
 
     private void sendMessage(MessageRouting routing) throws InternalFederateException {
         messagesSent.clear();
+        transmitMessage(routing);
+        ambassador.advanceTime(200 * TIME.NANO_SECOND); // advance time so processTimeAdvanceGrant is called
+    }
 
+    private void transmitMessage(MessageRouting routing) throws InternalFederateException {
         V2xMessage v2xMessage = new V2xMessage(routing) {
             @Nonnull
             @Override
@@ -205,7 +258,6 @@ public class SnsAmbassadorTest {
         };
         V2xMessageTransmission v2xMessageTransmission = new V2xMessageTransmission(0, v2xMessage);
         ambassador.processInteraction(v2xMessageTransmission);
-        ambassador.advanceTime(200 * TIME.NANO_SECOND); // advance time so processTimeAdvanceGrant is called
     }
 
     private void configureAdHoc(String vehicleName, Double radius) throws InternalFederateException {
@@ -193,6 +193,67 @@ public class AdhocTransmissionModelTest {
         assertEquals(4, floodingTransmissionResults.get("27").delay);
     }
 
+    @Test
+    public void simulateGeoBroadcast_parallelFlooding_allReceiversReachable_noPacketLoss() {
+        // SETUP
+        SophisticatedAdhocTransmissionModel parallelTransmissionModel = new SophisticatedAdhocTransmissionModel();
+        parallelTransmissionModel.parallelFlooding = true;
+        TransmissionParameter transmissionParameter = generateTransmissionParameter_NoLoss(4);
+
+        // RUN
+        Map<String, TransmissionResult> floodingTransmissionResults =
+                parallelTransmissionModel
+                        .simulateGeocast("30", getAllRandomlyDistributedEntitiesRemoveSender("30"), transmissionParameter, allNodes);
+
+        // ASSERT same flooding steps as the sequential flooding without packet loss
+        assertEquals(9, floodingTransmissionResults.size());
+        for (Map.Entry<String, TransmissionResult> transmissionResultEntry : floodingTransmissionResults.entrySet()) {
+            assertTrue(transmissionResultEntry.getValue().success);
+            assertEquals(transmissionResultEntry.getValue().delay, transmissionResultEntry.getValue().numberOfHops);
+        }
+        assertEquals(1, floodingTransmissionResults.get("29").delay);
+        assertEquals(2, floodingTransmissionResults.get("22").delay);
+        assertEquals(2, floodingTransmissionResults.get("23").delay);
+        assertEquals(3, floodingTransmissionResults.get("21").delay);
+        assertEquals(3, floodingTransmissionResults.get("24").delay);
+        assertEquals(3, floodingTransmissionResults.get("28").delay);
+        assertEquals(4, floodingTransmissionResults.get("25").delay);
+        assertEquals(4, floodingTransmissionResults.get("26").delay);
+        assertEquals(4, floodingTransmissionResults.get("27").delay);
+    }
+
+    @Test
+    public void simulateGeoBroadcast_parallelFlooding_reproducibleWithPacketLoss() {
+        // SETUP
+        SophisticatedAdhocTransmissionModel parallelTransmissionModel = new SophisticatedAdhocTransmissionModel();
+        parallelTransmissionModel.parallelFlooding = true;
+        ConstantDelay constantDelay = new ConstantDelay();
+        constantDelay.delay = 1;
+        CTransmission transmission = new CTransmission();
+        transmission.lossProbability = 0.5d;
+        transmission.maxRetries = 0;
+
+        // RUN
+        Map<String, TransmissionResult> firstResults = parallelTransmissionModel.simulateGeocast("30",
+                getAllRandomlyDistributedEntitiesRemoveSender("30"),
+                new TransmissionParameter(new DefaultRandomNumberGenerator(4711L), constantDelay, transmission, 10),
+                allNodes
+        );
+        Map<String, TransmissionResult> secondResults = parallelTransmissionModel.simulateGeocast("30",
+                getAllRandomlyDistributedEntitiesRemoveSender("30"),
+                new TransmissionParameter(new DefaultRandomNumberGenerator(4711L), constantDelay, transmission, 10),
+                allNodes
+        );
+
+        // ASSERT
+        assertEquals(firstResults.keySet(), secondResults.keySet());
+        for (Map.Entry<String, TransmissionResult> result : firstResults.entrySet()) {
+            assertEquals(result.getValue().success, secondResults.get(result.getKey()).success);
+            assertEquals(result.getValue().delay, secondResults.get(result.getKey()).delay);
+            assertEquals(result.getValue().numberOfHops, secondResults.get(result.getKey()).numberOfHops);
+        }
+    }
+
     /**
      * This test limits the transmission radius of entities, so that not all receivers can be reached.
      */
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * {@link ConcurrentGrid} stores spatial objects on the 2D X,Z plane using a fixed grid of cells, like the {@link Grid}.
+ * In contrast to the {@link Grid}, searching for objects is lock-free and can be done by many threads in parallel.
+ * Modifications are applied to a working copy of the cells, and the changed cells are published as a new snapshot
+ * after {@link #updateGrid()}, or by the first search after an item has been added or removed.
+ * Items are identified by {@link SpatialItemAdapter#getItemHash} without creating a key object.
+ */
+public class ConcurrentGrid<T> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final SpatialItemAdapter<T> adapter;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int colAmount;
+    private final int rowAmount;
+    private final double minX;
+    private final double maxX;
+    private final double minZ;
+    private final double maxZ;
+
+    /**
+     * The published cells, indexed by {@code col * rowAmount + row}. The arrays are never modified after publishing.
+     */
+    private volatile Object[][] snapshot;
+
+    /**
+     * Whether items have been added or removed since the last snapshot.
+     */
+    private volatile boolean modified = false;
+
+    // all following fields are only accessed while holding the lock of this grid
+    private final WorkingCell[] cells;
+    private final boolean[] dirty;
+    private int[] dirtyCells = new int[16];
+    private int dirtyAmount = 0;
+
+    /**
+     * The items of the grid, their hashes, and their current cell and position within the cell.
+     */
+    private Object[] items = new Object[16];
+    private int[] itemHashes = new int[16];
+    private int[] itemCells = new int[16];
+    private int[] itemSlots = new int[16];
+    private int itemAmount = 0;
+
+    /**
+     * Open addressing hash table with linear probing from the item hash to its index plus one, 0 marks an empty slot.
+     */
+    private int[] tableHashes = new int[32];
+    private int[] tableIndices = new int[32];
+
+    public ConcurrentGrid(final SpatialItemAdapter<T> adapter, double cellWidth, double cellHeight, final BoundingBox gridBounds) {
+        this(adapter, cellWidth, cellHeight, gridBounds.min.x, gridBounds.max.x, gridBounds.min.z, gridBounds.max.z);
+    }
+
+    public ConcurrentGrid(final SpatialItemAdapter<T> adapter, double cellWidth, double cellHeight,
+                          double minX, double maxX, double minZ, double maxZ) {
+        this.adapter = adapter;
+
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        colAmount = (int) Math.ceil((maxX - minX) / cellWidth);
+        rowAmount = (int) Math.ceil((maxZ - minZ) / cellHeight);
+
+        cells = new WorkingCell[colAmount * rowAmount];
+        dirty = new boolean[cells.length];
+        snapshot = new Object[cells.length][];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = new WorkingCell();
+            snapshot[cell] = EMPTY;
+        }
+    }
+
+    /**
+     * Searches all objects within the given bounding area.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @return the list of results
+     */
+    public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter) {
+        return getItemsInBoundingArea(area, filter, new ArrayList<>());
+    }
+
+    /**
+     * Searches all objects within the given bounding area. This method does not block,
+     * and can be called by several threads at once.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @param result the list of results
+     * @return the list of results
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter, List<T> result) {
+        final Object[][] published = modified ? publish() : snapshot;
+        final int minCol = toCol(Math.max(area.min.x, minX));
+        final int maxCol = toCol(Math.min(area.max.x, maxX));
+        final int minRow = toRow(Math.max(area.min.z, minZ));
+        final int maxRow = toRow(Math.min(area.max.z, maxZ));
+
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                final Object[] cell = published[col * rowAmount + row];
+                for (int i = 0; i < cell.length; i++) {
+                    T item = (T) cell[i];
+                    if (area.contains(adapter.getCenterX(item), adapter.getCenterY(item), adapter.getCenterZ(item))
+                            && (filter == null || filter.test(item))) {
+                        result.add(item);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds or updates an item in the grid.
+     *
+     * @param item the item to be added
+     * @return true if the item has been added to the grid, false if it has already been present in the grid
+     */
+    public synchronized boolean addItem(T item) {
+        final int hash = adapter.getItemHash(item);
+        final int cell = toCell(adapter.getCenterX(item), adapter.getCenterZ(item));
+        final int slot = find(hash);
+        if (slot >= 0) {
+            final int index = tableIndices[slot] - 1;
+            removeFromCell(index);
+            items[index] = item;
+            addToCell(index, cell);
+            modified = true;
+            return false;
+        }
+        if (itemAmount == items.length) {
+            items = Arrays.copyOf(items, itemAmount * 2);
+            itemHashes = Arrays.copyOf(itemHashes, itemAmount * 2);
+            itemCells = Arrays.copyOf(itemCells, itemAmount * 2);
+            itemSlots = Arrays.copyOf(itemSlots, itemAmount * 2);
+        }
+        final int index = itemAmount++;
+        items[index] = item;
+        itemHashes[index] = hash;
+        if (itemAmount * 2 > tableHashes.length) {
+            resizeTable(tableHashes.length * 2);
+            insert(hash, index);
+        } else {
+            tableHashes[~slot] = hash;
+            tableIndices[~slot] = index + 1;
+        }
+        addToCell(index, cell);
+        modified = true;
+        return true;
+    }
+
+    /**
+     * Moves all items into the cells of their current position, and publishes the changed cells.
+     */
+    public synchronized void updateGrid() {
+        for (int index = 0; index < itemAmount; index++) {
+            @SuppressWarnings("unchecked") final T item = (T) items[index];
+            final int cell = toCell(adapter.getCenterX(item), adapter.getCenterZ(item));
+            if (cell != itemCells[index]) {
+                removeFromCell(index);
+                addToCell(index, cell);
+            }
+        }
+        publish();
+    }
+
+    public synchronized void removeItem(T item) {
+        final int slot = find(adapter.getItemHash(item));
+        if (slot < 0) {
+            return;
+        }
+        final int index = tableIndices[slot] - 1;
+        removeFromCell(index);
+        delete(slot);
+
+        // move the last item into the free index
+        final int last = --itemAmount;
+        if (index != last) {
+            items[index] = items[last];
+            itemHashes[index] = itemHashes[last];
+            itemCells[index] = itemCells[last];
+            itemSlots[index] = itemSlots[last];
+            cells[itemCells[index]].indices[itemSlots[index]] = index;
+            tableIndices[find(itemHashes[index])] = index + 1;
+        }
+        items[last] = null;
+        modified = true;
+    }
+
+    /**
+     * Copies all changed cells into a new snapshot and publishes it.
+     */
+    private synchronized Object[][] publish() {
+        if (dirtyAmount == 0) {
+            modified = false;
+            return snapshot;
+        }
+        final Object[][] next = snapshot.clone();
+        for (int i = 0; i < dirtyAmount; i++) {
+            final int cell = dirtyCells[i];
+            final WorkingCell workingCell = cells[cell];
+            next[cell] = workingCell.size == 0 ? EMPTY : Arrays.copyOf(workingCell.items, workingCell.size);
+            dirty[cell] = false;
+        }
+        dirtyAmount = 0;
+        snapshot = next;
+        modified = false;
+        return next;
+    }
+
+    private void addToCell(int index, int cell) {
+        itemCells[index] = cell;
+        itemSlots[index] = cells[cell].add(items[index], index);
+        markDirty(cell);
+    }
+
+    private void removeFromCell(int index) {
+        final WorkingCell cell = cells[itemCells[index]];
+        final int moved = cell.remove(itemSlots[index]);
+        if (moved >= 0) {
+            itemSlots[moved] = itemSlots[index];
+        }
+        markDirty(itemCells[index]);
+    }
+
+    private void markDirty(int cell) {
+        if (!dirty[cell]) {
+            dirty[cell] = true;
+            if (dirtyAmount == dirtyCells.length) {
+                dirtyCells = Arrays.copyOf(dirtyCells, dirtyAmount * 2);
+            }
+            dirtyCells[dirtyAmount++] = cell;
+        }
+    }
+
+    private int toCell(double x, double z) {
+        return toCol(x) * rowAmount + toRow(z);
+    }
+
+    private int toCol(double x) {
+        // also looking at special case where item is directly on the max borders
+        return x < minX ? 0 : x >= maxX ? colAmount - 1 : (int) ((x - minX) / cellWidth);
+    }
+
+    private int toRow(double z) {
+        return z < minZ ? 0 : z >= maxZ ? rowAmount - 1 : (int) ((z - minZ) / cellHeight);
+    }
+
+    /**
+     * Returns the table slot of the given hash, or the bitwise complement of the free slot it would be put into.
+     */
+    private int find(int hash) {
+        final int mask = tableHashes.length - 1;
+        int slot = mix(hash) & mask;
+        while (tableIndices[slot] != 0) {
+            if (tableHashes[slot] == hash) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    private void insert(int hash, int index) {
+        final int slot = ~find(hash);
+        tableHashes[slot] = hash;
+        tableIndices[slot] = index + 1;
+    }
+
+    /**
+     * Removes the entry of the given slot and shifts the following entries of its probe sequence back.
+     */
+    private void delete(int slot) {
+        final int mask = tableHashes.length - 1;
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (tableIndices[next] != 0) {
+            final int home = mix(tableHashes[next]) & mask;
+            // move the entry, if its home slot is not within (free, next]
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                tableHashes[free] = tableHashes[next];
+                tableIndices[free] = tableIndices[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        tableIndices[free] = 0;
+    }
+
+    private void resizeTable(int capacity) {
+        final int[] oldHashes = tableHashes;
+        final int[] oldIndices = tableIndices;
+        tableHashes = new int[capacity];
+        tableIndices = new int[capacity];
+        for (int i = 0; i < oldIndices.length; i++) {
+            if (oldIndices[i] != 0) {
+                insert(oldHashes[i], oldIndices[i] - 1);
+            }
+        }
+    }
+
+    private static int mix(int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The items of a cell in a dense array, together with their index in the grid. Items are removed by
+     * moving the last item of the cell into the free slot.
+     */
+    private static class WorkingCell {
+
+        private Object[] items = EMPTY;
+        private int[] indices = new int[0];
+        private int size = 0;
+
+        private int add(Object item, int index) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, Math.max(4, size * 2));
+                indices = Arrays.copyOf(indices, items.length);
+            }
+            items[size] = item;
+            indices[size] = index;
+            return size++;
+        }
+
+        /**
+         * Removes the item of the given slot.
+         *
+         * @return the index of the item which has been moved into the slot, or -1 if none has been moved
+         */
+        private int remove(int slot) {
+            final int last = --size;
+            int moved = -1;
+            if (slot != last) {
+                items[slot] = items[last];
+                indices[slot] = indices[last];
+                moved = indices[slot];
+            }
+            items[last] = null;
+            return moved;
+        }
+    }
+}
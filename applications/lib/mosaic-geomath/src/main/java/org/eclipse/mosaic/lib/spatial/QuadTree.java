@@ -18,6 +18,8 @@ package org.eclipse.mosaic.lib.spatial;
 import org.eclipse.mosaic.lib.math.Vector3d;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +29,11 @@ import java.util.function.Predicate;
  * Implements a spatial index for 2-dimensional objects (on the X,Z plane) based on Quad-Tree implementation. Each leaf can store multiple objects, allowing
  * them to be moved inside the bounds of its quad tile without removing and adding them to the tree again.
  * <p/>
+ * The split size, join size and maximum depth are configured per tree. A tree can be bulk loaded with {@link #addItems},
+ * and {@link #updateTree()} re-inserts moved objects starting from the smallest node which still contains them. If only
+ * a few objects move at a time, mark them with {@link #markMoved} and call {@link #updateMovedItems()} instead, which
+ * only visits the marked objects.
+ * <p/>
  * Note: Currently works only for point-based spatial items.
  *
  * @param <T> the item type to store inside the tree
@@ -37,13 +44,19 @@ public class QuadTree<T> {
     private static int JOIN_SIZE = 10;
     private static int MAX_DEPTH = 12;
 
+    private final int splitSize;
+    private final int joinSize;
+    private final int maxDepth;
+
     private final TreeNode root;
 
     private final Map<Integer, ObjectAndNode> objects = new HashMap<>();
+    private final List<ObjectAndNode> movedObjects = new ArrayList<>();
     private final SpatialItemAdapter<T> adapter;
 
     /**
-     * Creates a Quad-Tree for indexing objects of type T covering the given area.
+     * Creates a Quad-Tree for indexing objects of type T covering the given area,
+     * using the split size, join size and maximum depth set by {@link #configure}.
      *
      * @param adapter    the adapter used to determine center coordinates of any object of type T
      * @param treeBounds the bound of the area this tree should cover (on the X,Z plane)
@@ -52,6 +65,19 @@ public class QuadTree<T> {
         this(adapter, treeBounds.min.x, treeBounds.max.x, treeBounds.min.z, treeBounds.max.z);
     }
 
+    /**
+     * Creates a Quad-Tree for indexing objects of type T covering the given area.
+     *
+     * @param adapter    the adapter used to determine center coordinates of any object of type T
+     * @param treeBounds the bound of the area this tree should cover (on the X,Z plane)
+     * @param splitSize  the maximum amount of objects in one leaf before it gets split into four leaves
+     * @param joinSize   the amount of objects in a node at which its child leaves are joined
+     * @param maxDepth   the maximum depth of the tree
+     */
+    public QuadTree(final SpatialItemAdapter<T> adapter, final BoundingBox treeBounds, int splitSize, int joinSize, int maxDepth) {
+        this(adapter, treeBounds.min.x, treeBounds.max.x, treeBounds.min.z, treeBounds.max.z, splitSize, joinSize, maxDepth);
+    }
+
 
     /**
      * Creates a Quad-Tree for indexing objects of type T covering the given area.
@@ -63,7 +89,28 @@ public class QuadTree<T> {
      * @param maxZ    the bounds of the area this tree should cover (on the X,Z plane)
      */
     public QuadTree(final SpatialItemAdapter<T> adapter, double minX, double maxX, double minZ, double maxZ) {
-        root = new TreeNode(0, minX, maxX, minZ, maxZ);
+        this(adapter, minX, maxX, minZ, maxZ, SPLIT_SIZE, JOIN_SIZE, MAX_DEPTH);
+    }
+
+    /**
+     * Creates a Quad-Tree for indexing objects of type T covering the given area.
+     *
+     * @param adapter   the adapter used to determine center coordinates of any object of type T
+     * @param minX      the bounds of the area this tree should cover (on the X,Z plane)
+     * @param maxX      the bounds of the area this tree should cover (on the X,Z plane)
+     * @param minZ      the bounds of the area this tree should cover (on the X,Z plane)
+     * @param maxZ      the bounds of the area this tree should cover (on the X,Z plane)
+     * @param splitSize the maximum amount of objects in one leaf before it gets split into four leaves
+     * @param joinSize  the amount of objects in a node at which its child leaves are joined
+     * @param maxDepth  the maximum depth of the tree
+     */
+    public QuadTree(final SpatialItemAdapter<T> adapter, double minX, double maxX, double minZ, double maxZ,
+                    int splitSize, int joinSize, int maxDepth) {
+        validate(splitSize, joinSize, maxDepth);
+        this.splitSize = splitSize;
+        this.joinSize = joinSize;
+        this.maxDepth = maxDepth;
+        root = new TreeNode(this, null, 0, minX, maxX, minZ, maxZ);
         this.adapter = adapter;
     }
 
@@ -159,6 +206,31 @@ public class QuadTree<T> {
         return QuadTreeTraversal.getNearestObject(this, center, filter);
     }
 
+    /**
+     * Search for the k nearest objects for the given point.
+     *
+     * @param center the point to find the nearest objects
+     * @param k      the maximum amount of objects to find
+     * @param filter a predicate to exclude certain objects from the result list
+     * @param result the list to add the results to, the nearest object is added first
+     * @return the list of results
+     */
+    public List<T> getNearestObjects(Vector3d center, int k, Predicate<T> filter, List<T> result) {
+        QuadTreeTraversal.getNearestObjects(this, center, k, filter, result);
+        return result;
+    }
+
+    /**
+     * Search for the k nearest objects for the given point.
+     *
+     * @param center the point to find the nearest objects
+     * @param k      the maximum amount of objects to find
+     * @return the list of results, starting with the nearest object
+     */
+    public List<T> getNearestObjects(Vector3d center, int k) {
+        return getNearestObjects(center, k, null, new ArrayList<>());
+    }
+
     public int getSize() {
         return root.objectsCount;
     }
@@ -173,6 +245,33 @@ public class QuadTree<T> {
         return false;
     }
 
+    /**
+     * Adds all given items to the tree. If the tree is empty, the tree is built at once by partitioning the items
+     * into the quadrants of each node, instead of splitting the leaves repeatedly while adding the items.
+     *
+     * @param items the items to be added
+     * @return the amount of items added, i.e. the items within the bounds of the tree
+     */
+    public int addItems(Collection<? extends T> items) {
+        if (root.objectsCount > 0 || !root.isLeaf()) {
+            int added = 0;
+            for (T item : items) {
+                added += addItem(item) ? 1 : 0;
+            }
+            return added;
+        }
+        final List<QuadTree<?>.ObjectAndNode> inBounds = new ArrayList<>(items.size());
+        for (T item : items) {
+            ObjectAndNode oan = new ObjectAndNode(item);
+            if (root.isInBounds(oan.objectPos)) {
+                objects.put(adapter.getItemHash(item), oan);
+                inBounds.add(oan);
+            }
+        }
+        root.load(inBounds, 0, inBounds.size());
+        return inBounds.size();
+    }
+
     public void removeObject(T object) {
         ObjectAndNode oan = objects.remove(adapter.getItemHash(object));
         if (oan != null) {
@@ -182,11 +281,43 @@ public class QuadTree<T> {
 
     public void updateTree() {
         for (ObjectAndNode oan : objects.values()) {
+            oan.moved = false;
             oan.update();
         }
+        movedObjects.clear();
+    }
+
+    /**
+     * Marks the given item as moved, so that its position is updated with the next call of {@link #updateMovedItems()}.
+     *
+     * @param item the item which has changed its position
+     */
+    public void markMoved(T item) {
+        ObjectAndNode oan = objects.get(adapter.getItemHash(item));
+        if (oan != null && !oan.moved) {
+            oan.moved = true;
+            movedObjects.add(oan);
+        }
+    }
+
+    /**
+     * Updates the positions of all items marked by {@link #markMoved} since the last update. In contrast
+     * to {@link #updateTree()}, items which have not been marked are not visited.
+     */
+    public void updateMovedItems() {
+        for (ObjectAndNode oan : movedObjects) {
+            oan.moved = false;
+            // skip items which have been removed after they were marked
+            if (objects.get(adapter.getItemHash(oan.object)) == oan) {
+                oan.update();
+            }
+        }
+        movedObjects.clear();
     }
 
     public void clear() {
+        objects.clear();
+        movedObjects.clear();
         root.clear();
     }
 
@@ -194,7 +325,21 @@ public class QuadTree<T> {
         return root;
     }
 
+    /**
+     * Sets the split size, join size and maximum depth of all trees created afterwards without an explicit configuration.
+     *
+     * @deprecated configure each tree by its constructor instead
+     */
+    @Deprecated
     public static void configure(int splitSize, int joinSize, int maxDepth) {
+        validate(splitSize, joinSize, maxDepth);
+
+        SPLIT_SIZE = splitSize;
+        JOIN_SIZE = joinSize;
+        MAX_DEPTH = maxDepth;
+    }
+
+    private static void validate(int splitSize, int joinSize, int maxDepth) {
         if (splitSize < 1) {
             throw new IllegalArgumentException("Split size must be greater than 0");
         }
@@ -206,16 +351,13 @@ public class QuadTree<T> {
         if (maxDepth < 1) {
             throw new IllegalArgumentException("Max depth must be greater than 0");
         }
-
-        SPLIT_SIZE = splitSize;
-        JOIN_SIZE = joinSize;
-        MAX_DEPTH = maxDepth;
     }
 
 
     class ObjectAndNode {
         TreeNode node = null;
         final T object;
+        private boolean moved = false;
 
         final Vector3d objectPos = new Vector3d();
         private final Vector3d newPos = new Vector3d();
@@ -235,18 +377,23 @@ public class QuadTree<T> {
                     adapter.getCenterY(object),
                     adapter.getCenterZ(object)
             );
-            if (node != null) {
-                if (!node.isInBounds(newPos)) {
-                    root.removeObjectNode(this);
-                    objectPos.set(newPos);
-                    root.addObjectNode(this);
+            if (node != null && !node.isInBounds(newPos)) {
+                // re-insert the object below the smallest node which contains the old and the new position
+                TreeNode ancestor = node;
+                while (ancestor.parent != null && !ancestor.isInBounds(newPos)) {
+                    ancestor = ancestor.parent;
                 }
+                ancestor.removeObjectNode(this);
+                objectPos.set(newPos);
+                ancestor.addObjectNode(this);
             }
             objectPos.set(newPos);
         }
     }
 
     static class TreeNode {
+        final QuadTree<?> tree;
+        final TreeNode parent;
         final double minX;
         final double maxX;
         final double minZ;
@@ -257,7 +404,9 @@ public class QuadTree<T> {
         int objectsCount = 0;
         TreeNode[] childNodes = null;
 
-        private TreeNode(int depth, double minX, double maxX, double minZ, double maxZ) {
+        private TreeNode(QuadTree<?> tree, TreeNode parent, int depth, double minX, double maxX, double minZ, double maxZ) {
+            this.tree = tree;
+            this.parent = parent;
             this.depth = depth;
             this.minX = minX;
             this.maxX = maxX;
@@ -331,7 +480,7 @@ public class QuadTree<T> {
             if (isLeaf()) {
                 objects.add(item);
                 item.node = this;
-                if (objectsCount > SPLIT_SIZE && depth < MAX_DEPTH) {
+                if (objectsCount > tree.splitSize && depth < tree.maxDepth) {
                     split();
                 }
 
@@ -349,22 +498,69 @@ public class QuadTree<T> {
 
             } else {
                 childNodes[getChildIndex(item.objectPos)].removeObjectNode(item);
-                if (objectsCount <= JOIN_SIZE) {
+                if (objectsCount <= tree.joinSize) {
                     join();
                 }
             }
         }
 
-        private void split() {
+        /**
+         * Builds the subtree of this empty node for the given objects, by partitioning them into the quadrants
+         * of this node in place, and loading each quadrant into the respective child node.
+         */
+        private void load(List<QuadTree<?>.ObjectAndNode> items, int from, int to) {
+            objectsCount = to - from;
+            if (objectsCount <= tree.splitSize || depth >= tree.maxDepth) {
+                for (int i = from; i < to; i++) {
+                    QuadTree<?>.ObjectAndNode item = items.get(i);
+                    objects.add(item);
+                    item.node = this;
+                }
+                return;
+            }
+            createChildNodes();
+            // order the objects by child index, which is 2 * (x > cx) + (z > cz)
+            final int xSplit = partition(items, from, to, 2);
+            final int lowerZSplit = partition(items, from, xSplit, 1);
+            final int upperZSplit = partition(items, xSplit, to, 1);
+            childNodes[0].load(items, from, lowerZSplit);
+            childNodes[1].load(items, lowerZSplit, xSplit);
+            childNodes[2].load(items, xSplit, upperZSplit);
+            childNodes[3].load(items, upperZSplit, to);
+        }
+
+        /**
+         * Moves all objects which have the given bit set in their child index behind all others.
+         *
+         * @return the index of the first object with the bit set
+         */
+        private int partition(List<QuadTree<?>.ObjectAndNode> items, int from, int to, int bit) {
+            int lower = from;
+            int upper = to - 1;
+            while (lower <= upper) {
+                if ((getChildIndex(items.get(lower).objectPos) & bit) == 0) {
+                    lower++;
+                } else {
+                    Collections.swap(items, lower, upper--);
+                }
+            }
+            return lower;
+        }
+
+        private void createChildNodes() {
             double cx = (minX + maxX) / 2;
             double cz = (minZ + maxZ) / 2;
 
             childNodes = new TreeNode[]{
-                    new TreeNode(depth + 1, minX, cx, minZ, cz),
-                    new TreeNode(depth + 1, minX, cx, cz, maxZ),
-                    new TreeNode(depth + 1, cx, maxX, minZ, cz),
-                    new TreeNode(depth + 1, cx, maxX, cz, maxZ)
+                    new TreeNode(tree, this, depth + 1, minX, cx, minZ, cz),
+                    new TreeNode(tree, this, depth + 1, minX, cx, cz, maxZ),
+                    new TreeNode(tree, this, depth + 1, cx, maxX, minZ, cz),
+                    new TreeNode(tree, this, depth + 1, cx, maxX, cz, maxZ)
             };
+        }
+
+        private void split() {
+            createChildNodes();
             for (int i = 0; i < objects.size(); i++) {
                 QuadTree<?>.ObjectAndNode object = objects.get(i);
                 childNodes[getChildIndex(object.objectPos)].addObjectNode(object);
@@ -374,11 +570,24 @@ public class QuadTree<T> {
 
         private void join() {
             for (int i = 0; i <= 3; i++) {
-                objects.addAll(childNodes[i].objects);
+                childNodes[i].collectObjects(this);
             }
             childNodes = null;
         }
 
+        private void collectObjects(TreeNode target) {
+            if (isLeaf()) {
+                for (int i = 0; i < objects.size(); i++) {
+                    objects.get(i).node = target;
+                }
+                target.objects.addAll(objects);
+            } else {
+                for (int i = 0; i <= 3; i++) {
+                    childNodes[i].collectObjects(target);
+                }
+            }
+        }
+
         private void clear() {
             if (childNodes != null) {
                 for (int i = 0; i < 4; i++) {
@@ -386,6 +595,7 @@ public class QuadTree<T> {
                 }
                 childNodes = null;
             }
+            objects.clear();
             objectsCount = 0;
         }
     }
@@ -17,7 +17,10 @@ package org.eclipse.mosaic.lib.spatial;
 
 import org.eclipse.mosaic.lib.math.Vector3d;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.function.Predicate;
 
 class QuadTreeTraversal {
@@ -108,7 +111,7 @@ class QuadTreeTraversal {
                 int bestI = 0;
                 double minD = Double.MAX_VALUE;
                 for (int j = 0; j < 4; j++) {
-                    double childDist = node.childNodes[i].distanceSqrToPoint(center);
+                    double childDist = node.childNodes[j].distanceSqrToPoint(center);
                     if (childDist < minD && (childDist > prevChildDist || (childDist == prevChildDist && j > prevI))) {
                         minD = childDist;
                         bestI = j;
@@ -133,4 +136,61 @@ class QuadTreeTraversal {
         return o;
     }
 
+    /**
+     * Searches the k nearest objects by visiting the nodes in the order of their distance to the center,
+     * until the next node is further away than the k-th nearest object found so far. The objects found are
+     * appended to the given result list, starting with the nearest object.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void getNearestObjects(QuadTree<T> tree, Vector3d center, int k, Predicate<T> filter, List<T> result) {
+        if (k < 1) {
+            return;
+        }
+        final PriorityQueue<Candidate> nodes = new PriorityQueue<>(Comparator.comparingDouble(c -> c.distanceSqr));
+        // the nearest objects found so far, with the furthest one at the head
+        final PriorityQueue<Candidate> nearest = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b.distanceSqr, a.distanceSqr));
+        nodes.add(new Candidate(tree.getRoot(), tree.getRoot().distanceSqrToPoint(center)));
+
+        Candidate next;
+        while ((next = nodes.poll()) != null) {
+            if (nearest.size() == k && next.distanceSqr >= nearest.peek().distanceSqr) {
+                break;
+            }
+            final QuadTree.TreeNode node = (QuadTree.TreeNode) next.element;
+            if (node.isLeaf()) {
+                for (int i = 0; i < node.objects.size(); i++) {
+                    QuadTree<T>.ObjectAndNode oan = (QuadTree<T>.ObjectAndNode) node.objects.get(i);
+                    double d = center.distanceSqrTo(oan.objectPos);
+                    if ((nearest.size() < k || d < nearest.peek().distanceSqr) && (filter == null || filter.test(oan.object))) {
+                        nearest.add(new Candidate(oan.object, d));
+                        if (nearest.size() > k) {
+                            nearest.poll();
+                        }
+                    }
+                }
+            } else {
+                for (int i = 0; i < 4; i++) {
+                    nodes.add(new Candidate(node.childNodes[i], node.childNodes[i].distanceSqrToPoint(center)));
+                }
+            }
+        }
+
+        final int start = result.size();
+        while (!nearest.isEmpty()) {
+            result.add((T) nearest.poll().element);
+        }
+        // the furthest object has been added first
+        Collections.reverse(result.subList(start, result.size()));
+    }
+
+    private static class Candidate {
+
+        private final Object element;
+        private final double distanceSqr;
+
+        private Candidate(Object element, double distanceSqr) {
+            this.element = element;
+            this.distanceSqr = distanceSqr;
+        }
+    }
 }
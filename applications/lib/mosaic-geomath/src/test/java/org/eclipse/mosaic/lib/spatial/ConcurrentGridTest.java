@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.math.Vector3d;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ConcurrentGridTest {
+
+    private ConcurrentGrid<Vector3d> grid;
+
+    @Before
+    public void setup() {
+        // the hash of a Vector3d changes with its position, therefore the identity is used
+        SpatialItemAdapter<Vector3d> adapter = new SpatialItemAdapter.PointAdapter<Vector3d>() {
+            @Override
+            public int getItemHash(Vector3d item) {
+                return System.identityHashCode(item);
+            }
+        };
+        grid = new ConcurrentGrid<>(adapter, 10, 10, 0, 100, 0, 100);
+    }
+
+    @Test
+    public void addAndSearchItems() {
+        Vector3d inside = new Vector3d(15, 0, 15);
+        Vector3d outside = new Vector3d(55, 0, 55);
+        assertTrue(grid.addItem(inside));
+        assertTrue(grid.addItem(outside));
+        assertFalse(grid.addItem(inside));
+
+        List<Vector3d> result = grid.getItemsInBoundingArea(area(10, 30), null);
+        assertEquals(1, result.size());
+        assertTrue(result.contains(inside));
+
+        assertEquals(2, grid.getItemsInBoundingArea(area(0, 100), null).size());
+        assertEquals(1, grid.getItemsInBoundingArea(area(0, 100), item -> item.x > 50).size());
+    }
+
+    @Test
+    public void updateGridMovesItems() {
+        Vector3d moving = new Vector3d(15, 0, 15);
+        Vector3d resting = new Vector3d(18, 0, 18);
+        grid.addItem(moving);
+        grid.addItem(resting);
+
+        moving.set(75, 0, 75);
+        grid.updateGrid();
+
+        assertEquals(1, grid.getItemsInBoundingArea(area(10, 30), null).size());
+        List<Vector3d> result = grid.getItemsInBoundingArea(area(70, 80), null);
+        assertEquals(1, result.size());
+        assertTrue(result.contains(moving));
+    }
+
+    @Test
+    public void removeItems() {
+        List<Vector3d> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Vector3d item = new Vector3d(i % 10 + 0.5, 0, i / 10 + 0.5);
+            items.add(item);
+            grid.addItem(item);
+        }
+        // removes items of the same cell in different order, and the last added item
+        for (int i = 0; i < 100; i += 3) {
+            grid.removeItem(items.get(i));
+        }
+        grid.removeItem(items.get(99));
+        grid.removeItem(items.get(99));
+
+        List<Vector3d> result = grid.getItemsInBoundingArea(area(0, 10), null);
+        assertEquals(66, result.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 3 != 0 && i != 99, result.contains(items.get(i)));
+        }
+
+        // removed items can be added again
+        assertTrue(grid.addItem(items.get(0)));
+        assertEquals(67, grid.getItemsInBoundingArea(area(0, 10), null).size());
+    }
+
+    @Test
+    public void parallelSearches() throws Exception {
+        for (int x = 0; x < 100; x++) {
+            for (int z = 0; z < 100; z++) {
+                grid.addItem(new Vector3d(x + 0.5, 0, z + 0.5));
+            }
+        }
+        grid.updateGrid();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                final int offset = i;
+                futures.add(executor.submit(() -> grid.getItemsInBoundingArea(area(offset, offset + 20), null).size()));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(400, (int) future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static BoundingBox area(double min, double max) {
+        BoundingBox area = new BoundingBox();
+        area.add(new Vector3d(min, 0, min), new Vector3d(max, 0, max));
+        return area;
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.lib.spatial;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.math.Vector3d;
@@ -27,7 +28,10 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @RunWith(MockitoJUnitRunner.class)
 public class QuadTreeTest {
@@ -38,11 +42,10 @@ public class QuadTreeTest {
     @Before
     public void setup() {
         // setup new tree for each test
-        QuadTree.configure(2, 1, 3);
         BoundingBox treeBounds = new BoundingBox();
         treeBounds.add(new Vector3d(0, 0, 0));
         treeBounds.add(new Vector3d(100, 0, 100));
-        tree = new QuadTree<>(new SpatialItemAdapter.PointAdapter<>(), treeBounds);
+        tree = new QuadTree<>(new SpatialItemAdapter.PointAdapter<>(), treeBounds, 2, 1, 3);
     }
 
     @Test
@@ -122,4 +125,133 @@ public class QuadTreeTest {
         assertTrue(tree.getRoot().isLeaf());
 
     }
+
+    @Test
+    public void bulkLoad_SameResultsAsAddingItems() {
+        List<Vector3d> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(new Vector3d(i % 20 * 5 + 0.5, 0, i / 20 * 10 + 0.5));
+        }
+        items.add(new Vector3d(150, 0, 50));
+        assertEquals(200, tree.addItems(items));
+        assertEquals(200, tree.getSize());
+        assertFalse(tree.getRoot().isLeaf());
+
+        BoundingBox treeBounds = new BoundingBox();
+        treeBounds.add(new Vector3d(0, 0, 0));
+        treeBounds.add(new Vector3d(100, 0, 100));
+        QuadTree<Vector3d> incremental = new QuadTree<>(new SpatialItemAdapter.PointAdapter<>(), treeBounds, 2, 1, 3);
+        items.forEach(incremental::addItem);
+
+        BoundingBox queryRange = new BoundingBox();
+        queryRange.add(new Vector3d(20, 0, 30));
+        queryRange.add(new Vector3d(60, 0, 45));
+        Set<Vector3d> expected = new HashSet<>(incremental.getObjectsInBoundingArea(queryRange));
+        assertEquals(16, expected.size());
+        assertEquals(expected, new HashSet<>(tree.getObjectsInBoundingArea(queryRange)));
+
+        expected = new HashSet<>(incremental.getObjectsInRadius(new Vector3d(50, 0, 50), 25));
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, new HashSet<>(tree.getObjectsInRadius(new Vector3d(50, 0, 50), 25)));
+    }
+
+    @Test
+    public void updateTree_MovedObjectIsFound() {
+        // the hash of a Vector3d changes with its position, therefore the identity is used
+        BoundingBox treeBounds = new BoundingBox();
+        treeBounds.add(new Vector3d(0, 0, 0));
+        treeBounds.add(new Vector3d(100, 0, 100));
+        tree = new QuadTree<>(new SpatialItemAdapter.PointAdapter<Vector3d>() {
+            @Override
+            public int getItemHash(Vector3d item) {
+                return System.identityHashCode(item);
+            }
+        }, treeBounds, 2, 1, 3);
+        Vector3d moving = new Vector3d(5, 0, 5);
+        tree.addItem(moving);
+        tree.addItem(new Vector3d(6, 0, 6));
+        tree.addItem(new Vector3d(7, 0, 7));
+        tree.addItem(new Vector3d(60, 0, 60));
+
+        moving.set(90, 0, 90);
+        tree.updateTree();
+
+        assertEquals(4, tree.getSize());
+        assertEquals(moving, tree.getNearestObject(new Vector3d(95, 0, 95)));
+        assertEquals(2, tree.getObjectsInRadius(new Vector3d(5, 0, 5), 5).size());
+
+        tree.removeObject(moving);
+        assertEquals(3, tree.getSize());
+        assertEquals(new Vector3d(60, 0, 60), tree.getNearestObject(new Vector3d(95, 0, 95)));
+    }
+
+    @Test
+    public void updateMovedItems_OnlyMarkedObjectsAreUpdated() {
+        BoundingBox treeBounds = new BoundingBox();
+        treeBounds.add(new Vector3d(0, 0, 0));
+        treeBounds.add(new Vector3d(100, 0, 100));
+        tree = new QuadTree<>(new SpatialItemAdapter.PointAdapter<Vector3d>() {
+            @Override
+            public int getItemHash(Vector3d item) {
+                return System.identityHashCode(item);
+            }
+        }, treeBounds, 2, 1, 3);
+        Vector3d marked = new Vector3d(5, 0, 5);
+        Vector3d unmarked = new Vector3d(6, 0, 6);
+        tree.addItem(marked);
+        tree.addItem(unmarked);
+        tree.addItem(new Vector3d(7, 0, 7));
+        tree.addItem(new Vector3d(60, 0, 60));
+
+        marked.set(90, 0, 90);
+        unmarked.set(80, 0, 80);
+        tree.markMoved(marked);
+        tree.markMoved(marked);
+        tree.updateMovedItems();
+
+        assertEquals(4, tree.getSize());
+        assertEquals(marked, tree.getNearestObject(new Vector3d(95, 0, 95)));
+        // the unmarked object is still indexed at its old position
+        assertTrue(tree.getObjectsInRadius(new Vector3d(80, 0, 80), 5).isEmpty());
+
+        tree.markMoved(unmarked);
+        tree.updateMovedItems();
+        assertEquals(2, tree.getObjectsInRadius(new Vector3d(85, 0, 85), 8).size());
+    }
+
+    @Test
+    public void getNearestObjects_OrderedByDistance() {
+        for (int i = 0; i < 50; i++) {
+            tree.addItem(new Vector3d(i * 2, 0, i * 2));
+        }
+
+        List<Vector3d> nearest = tree.getNearestObjects(new Vector3d(41, 0, 40), 3);
+        assertEquals(3, nearest.size());
+        assertEquals(new Vector3d(40, 0, 40), nearest.get(0));
+        assertEquals(new Vector3d(42, 0, 42), nearest.get(1));
+        assertEquals(new Vector3d(38, 0, 38), nearest.get(2));
+
+        nearest = tree.getNearestObjects(new Vector3d(41, 0, 40), 2, item -> item.x > 45, new ArrayList<>());
+        assertEquals(new Vector3d(46, 0, 46), nearest.get(0));
+        assertEquals(new Vector3d(48, 0, 48), nearest.get(1));
+
+        assertEquals(50, tree.getNearestObjects(new Vector3d(0, 0, 0), 100).size());
+        assertTrue(tree.getNearestObjects(new Vector3d(0, 0, 0), 0).isEmpty());
+    }
+
+    @Test
+    public void getNearestObjects_AppendedToResult() {
+        for (int i = 0; i < 50; i++) {
+            tree.addItem(new Vector3d(i * 2, 0, i * 2));
+        }
+        final Vector3d existing = new Vector3d(-1, 0, -1);
+        final List<Vector3d> result = new ArrayList<>(Collections.singletonList(existing));
+
+        tree.getNearestObjects(new Vector3d(41, 0, 40), 2, null, result);
+
+        assertEquals(3, result.size());
+        assertSame(existing, result.get(0));
+        assertEquals(new Vector3d(40, 0, 40), result.get(1));
+        assertEquals(new Vector3d(42, 0, 42), result.get(2));
+    }
 }
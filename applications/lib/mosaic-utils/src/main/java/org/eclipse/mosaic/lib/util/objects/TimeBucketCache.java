@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.objects;
+
+import com.google.common.primitives.Ints;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A time based cache like the {@link TimeCache}, which stores the objects by their primitive id and
+ * sorts them into buckets of a fixed duration by the time they have been put. The garbage collection
+ * drops whole buckets without scanning the remaining objects, so an object is removed at most one bucket
+ * duration later than by the {@link TimeCache}.
+ * <p>
+ * Example usage: Network simulators couldn't provide the information when a V2XMessage is
+ * expired. V2XMessages must be removed after a certain time to save memory.
+ * </p>
+ */
+@ThreadSafe
+public class TimeBucketCache<T extends Identifiable> {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long bucketDuration;
+
+    /**
+     * Open addressing hash table with linear probing. An empty slot has no value.
+     */
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private long[] times = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * The ids put into the cache, by the index of their time bucket. An id is listed in each bucket
+     * it has been put into, and is removed only with the bucket of its latest time.
+     */
+    private final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+    private Bucket latestBucket;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param bucketDuration the time span covered by each bucket
+     */
+    public TimeBucketCache(long bucketDuration) {
+        Validate.isTrue(bucketDuration > 0, "Bucket duration must be greater than 0.");
+        this.bucketDuration = bucketDuration;
+    }
+
+    /**
+     * Returns a cached object based on its id.
+     *
+     * @param id the id of the cached object.
+     * @return the cached object, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public final synchronized T getItem(int id) {
+        final int slot = find(id);
+        return slot < 0 ? null : (T) values[slot];
+    }
+
+    /**
+     * Put a {@link T} object in the cache. If an object with the same id is cached already,
+     * it is replaced and the given time is associated with it.
+     *
+     * @param time   the time the object is associated with
+     * @param object the object to cache.
+     */
+    public final synchronized void putItem(final long time, final T object) {
+        final int id = object.getId();
+        int slot = find(id);
+        if (slot < 0) {
+            if ((size + 1) * 2 > values.length) {
+                resize(values.length * 2);
+                slot = find(id);
+            }
+            slot = ~slot;
+            ids[slot] = id;
+            size++;
+        }
+        times[slot] = time;
+        values[slot] = object;
+        getBucket(Math.floorDiv(time, bucketDuration)).add(id);
+    }
+
+    /**
+     * Returns the number of cached objects.
+     */
+    public final synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Removes all buckets which contain only objects associated with a time before the given time.
+     *
+     * @param time the time until the cache is valid.
+     * @return the ids of the removed objects
+     */
+    public final synchronized Collection<Integer> garbageCollection(final long time) {
+        if (time <= 0) {
+            return Collections.emptyList();
+        }
+        final long validBucket = Math.floorDiv(time, bucketDuration);
+        int[] removedIds = new int[0];
+        int removed = 0;
+        Map.Entry<Long, Bucket> oldest;
+        while ((oldest = buckets.firstEntry()) != null && oldest.getKey() < validBucket) {
+            final long bucket = oldest.getKey();
+            final Bucket expired = buckets.pollFirstEntry().getValue();
+            if (expired == latestBucket) {
+                latestBucket = null;
+            }
+            if (removedIds.length < removed + expired.size) {
+                removedIds = Arrays.copyOf(removedIds, removed + expired.size);
+            }
+            for (int i = 0; i < expired.size; i++) {
+                final int slot = find(expired.ids[i]);
+                // skip ids which have been put again into a later bucket, or listed twice in this bucket
+                if (slot >= 0 && Math.floorDiv(times[slot], bucketDuration) == bucket) {
+                    removedIds[removed++] = expired.ids[i];
+                    delete(slot);
+                }
+            }
+        }
+        return removed == 0 ? Collections.emptyList() : Ints.asList(Arrays.copyOf(removedIds, removed));
+    }
+
+    private Bucket getBucket(long index) {
+        if (latestBucket == null || latestBucket.index != index) {
+            latestBucket = buckets.computeIfAbsent(index, Bucket::new);
+        }
+        return latestBucket;
+    }
+
+    /**
+     * Returns the slot of the given id, or the bitwise complement of the free slot it would be put into.
+     */
+    private int find(int id) {
+        final int mask = values.length - 1;
+        int slot = mix(id) & mask;
+        while (values[slot] != null) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    /**
+     * Removes the entry of the given slot and shifts the following entries of its probe sequence back.
+     */
+    private void delete(int slot) {
+        final int mask = values.length - 1;
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (values[next] != null) {
+            final int home = mix(ids[next]) & mask;
+            // move the entry, if its home slot is not within (free, next]
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                ids[free] = ids[next];
+                times[free] = times[next];
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[free] = null;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        final int[] oldIds = ids;
+        final long[] oldTimes = times;
+        final Object[] oldValues = values;
+        ids = new int[capacity];
+        times = new long[capacity];
+        values = new Object[capacity];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                final int slot = ~find(oldIds[i]);
+                ids[slot] = oldIds[i];
+                times[slot] = oldTimes[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int id) {
+        final int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Bucket {
+
+        private final long index;
+        private int[] ids = new int[16];
+        private int size = 0;
+
+        private Bucket(long index) {
+            this.index = index;
+        }
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
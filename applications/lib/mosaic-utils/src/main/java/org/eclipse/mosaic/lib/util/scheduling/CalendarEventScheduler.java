@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+/**
+ * Sequential implementation of the {@link EventScheduler} based on a calendar queue. Events are grouped
+ * into time slots, one per distinct event time, which are distributed over a ring of buckets
+ * ("days") of a fixed width. Adding an event and taking the next event from a time slot are
+ * O(1) amortized for workloads in which many events share the same time, e.g. applications
+ * which are executed periodically on a fixed grid.
+ *
+ * <p>Events are processed in the same order as by the {@link DefaultEventScheduler},
+ * i.e. by time, nice value, and the order in which they were added.</p>
+ */
+public class CalendarEventScheduler implements EventScheduler {
+
+    private final static AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Default width of a bucket, which is 10 ms. Unit: [ns].
+     */
+    private final static long DEFAULT_BUCKET_WIDTH = 10_000_000L;
+
+    private final static int DEFAULT_BUCKETS = 256;
+
+    private final long bucketWidth;
+
+    private TimeSlots[] buckets;
+
+    private int bucketMask;
+
+    /**
+     * The number of time slots held by all buckets.
+     */
+    private int slots;
+
+    /**
+     * A lower bound for the time of all events in the queue, from where the search for the next event starts.
+     */
+    private long lowerBound = Long.MAX_VALUE;
+
+    /**
+     * The time slot holding the next events, or {@code null} if it has to be searched.
+     */
+    private TimeSlot next;
+
+    /**
+     * The last scheduled time.
+     */
+    private long scheduledTime = Long.MIN_VALUE;
+
+    public CalendarEventScheduler() {
+        this(DEFAULT_BUCKET_WIDTH, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Creates a new calendar queue. For best performance, the width of the buckets should be in the
+     * order of the typical interval between two distinct event times.
+     *
+     * @param bucketWidth    the time span covered by a bucket. Unit: [ns]
+     * @param initialBuckets the initial number of buckets, will be rounded up to the next power of two
+     */
+    public CalendarEventScheduler(long bucketWidth, int initialBuckets) {
+        if (bucketWidth <= 0 || initialBuckets <= 0) {
+            throw new IllegalArgumentException("Bucket width and number of buckets must be positive.");
+        }
+        this.bucketWidth = bucketWidth;
+        createBuckets(Integer.highestOneBit(Math.max(1, initialBuckets - 1)) << 1);
+    }
+
+    @Override
+    public void addEvent(@Nonnull final Event event) {
+        if (event.getTime() < getScheduledTime()) {
+            throw new IllegalArgumentException("Event lies in the past.");
+        }
+        event.seqNr = SEQUENCE.getAndIncrement();
+
+        final long time = event.getTime();
+        TimeSlot slot = next != null && next.time == time ? next : bucketOf(time).find(time);
+        if (slot == null) {
+            slot = new TimeSlot(time);
+            bucketOf(time).add(slot);
+            if (++slots > buckets.length * 2) {
+                createBuckets(buckets.length * 2);
+            }
+        }
+        slot.add(event);
+
+        if (time < lowerBound) {
+            lowerBound = time;
+        }
+        if (next != null && time < next.time) {
+            next = slot;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return slots == 0;
+    }
+
+    @Override
+    public long getNextEventTime() {
+        if (isEmpty()) {
+            throw new IllegalStateException("No event in the queue.");
+        }
+        return nextSlot().time;
+    }
+
+    @Override
+    public long getScheduledTime() {
+        return scheduledTime;
+    }
+
+    @Override
+    @Nonnull
+    public int scheduleEvents(final long time) {
+        scheduledTime = time;
+        if (isEmpty()) {
+            return 0;
+        }
+        final TimeSlot slot = nextSlot();
+        if (slot.time < time) {
+            throw new RuntimeException("Scheduled event lies in the past.");
+        } else if (slot.time > time) {
+            return 0;
+        }
+
+        int processedEvents = 0;
+        // events added while processing are sorted into the same slot
+        while (!slot.isEmpty()) {
+            processedEvents += slot.poll().execute();
+        }
+        bucketOf(time).remove(slot);
+        slots--;
+        next = null;
+        lowerBound = time;
+        return processedEvents;
+    }
+
+    @Override
+    @Nonnull
+    public Set<Event> getAllEvents() {
+        final Set<Event> allEvents = new TreeSet<>();
+        for (TimeSlots bucket : buckets) {
+            for (int i = 0; i < bucket.size(); i++) {
+                bucket.get(i).addTo(allEvents);
+            }
+        }
+        return Collections.unmodifiableSet(allEvents);
+    }
+
+    /**
+     * Searches the slot with the smallest time, starting at the bucket of the lower bound. If no slot
+     * is found within one cycle of the calendar, the slot is searched directly among all buckets.
+     */
+    private TimeSlot nextSlot() {
+        if (next != null) {
+            return next;
+        }
+        long day = Math.floorDiv(lowerBound, bucketWidth);
+        for (int i = 0; i < buckets.length; i++, day++) {
+            final TimeSlot slot = buckets[(int) day & bucketMask].getEarliest(day * bucketWidth, (day + 1) * bucketWidth);
+            if (slot != null) {
+                return setNext(slot);
+            }
+        }
+        TimeSlot earliest = null;
+        for (TimeSlots bucket : buckets) {
+            final TimeSlot slot = bucket.getEarliest(Long.MIN_VALUE, Long.MAX_VALUE);
+            if (slot != null && (earliest == null || slot.time < earliest.time)) {
+                earliest = slot;
+            }
+        }
+        return setNext(earliest);
+    }
+
+    private TimeSlot setNext(TimeSlot slot) {
+        next = slot;
+        lowerBound = slot.time;
+        return slot;
+    }
+
+    private TimeSlots bucketOf(long time) {
+        return buckets[(int) Math.floorDiv(time, bucketWidth) & bucketMask];
+    }
+
+    private void createBuckets(int numberOfBuckets) {
+        final TimeSlots[] previous = buckets;
+        buckets = new TimeSlots[numberOfBuckets];
+        bucketMask = numberOfBuckets - 1;
+        for (int i = 0; i < numberOfBuckets; i++) {
+            buckets[i] = new TimeSlots();
+        }
+        if (previous != null) {
+            for (TimeSlots bucket : previous) {
+                for (int i = 0; i < bucket.size(); i++) {
+                    bucketOf(bucket.get(i).time).add(bucket.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * The time slots of a single bucket. Usually, a bucket holds only a few slots.
+     */
+    private static class TimeSlots extends ArrayList<TimeSlot> {
+
+        private TimeSlot find(long time) {
+            for (int i = 0; i < size(); i++) {
+                if (get(i).time == time) {
+                    return get(i);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the slot with the smallest time within [from, to), or {@code null} if there is none.
+         */
+        private TimeSlot getEarliest(long from, long to) {
+            TimeSlot earliest = null;
+            for (int i = 0; i < size(); i++) {
+                final TimeSlot slot = get(i);
+                if (slot.time >= from && slot.time < to && (earliest == null || slot.time < earliest.time)) {
+                    earliest = slot;
+                }
+            }
+            return earliest;
+        }
+    }
+
+    /**
+     * All events of a single time, sorted by nice value and sequence number. Since events are usually added
+     * in the order of their sequence number, they are appended in most cases.
+     */
+    private static class TimeSlot {
+
+        private final long time;
+        private Event[] events = new Event[8];
+        private int head;
+        private int tail;
+
+        private TimeSlot(long time) {
+            this.time = time;
+        }
+
+        private void add(Event event) {
+            if (tail == events.length) {
+                if (head > 0) {
+                    // reclaim the space of already polled events
+                    System.arraycopy(events, head, events, 0, tail - head);
+                    Arrays.fill(events, tail - head, tail, null);
+                    tail -= head;
+                    head = 0;
+                }
+                if (tail == events.length) {
+                    events = Arrays.copyOf(events, events.length * 2);
+                }
+            }
+            if (head == tail || events[tail - 1].compareTo(event) < 0) {
+                events[tail++] = event;
+                return;
+            }
+            // binary search for the first event greater than the new one
+            int low = head;
+            int high = tail - 1;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (events[middle].compareTo(event) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            System.arraycopy(events, low, events, low + 1, tail - low);
+            events[low] = event;
+            tail++;
+        }
+
+        private Event poll() {
+            final Event event = events[head];
+            events[head++] = null;
+            return event;
+        }
+
+        private boolean isEmpty() {
+            return head == tail;
+        }
+
+        private void addTo(Set<Event> result) {
+            result.addAll(Arrays.asList(events).subList(head, tail));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+/**
+ * Multi-threaded implementation of the {@link EventScheduler}, which does not require a global lock
+ * when adding events. Events are stored in buckets per simulation time, which are held in a concurrent
+ * skip list, so that events can be added from worker threads while other events are being processed.
+ *
+ * <p>All events with the same time and nice value form a group, which is processed in parallel on a
+ * work-stealing {@link ForkJoinPool}. Groups are processed one after another in the order of their
+ * nice value. Events added for the current time while processing are considered for the following groups.
+ * As with the {@link MultiThreadedEventScheduler}, the order of events within a group is not deterministic.</p>
+ */
+public class ConcurrentEventScheduler implements EventScheduler {
+
+    private final static AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Groups with less events are processed in the calling thread.
+     */
+    private final static int MIN_PARALLEL_EVENTS = 2;
+
+    /**
+     * The number of tasks per thread a group is split into, to allow balancing by work-stealing.
+     */
+    private final static int TASKS_PER_THREAD = 4;
+
+    /**
+     * The buckets of events, one per simulation time.
+     */
+    private final ConcurrentSkipListMap<Long, Queue<Event>> buckets = new ConcurrentSkipListMap<>();
+
+    private final ForkJoinPool pool;
+
+    /**
+     * The events of the current time which have not been processed yet, sorted by nice value and sequence number.
+     * Reused for each call of {@link #scheduleEvents(long)}.
+     */
+    private final List<Event> pending = new ArrayList<>();
+
+    /**
+     * The events of the currently processed group. Reused for each group.
+     */
+    private final List<Event> group = new ArrayList<>();
+
+    /**
+     * The last scheduled time.
+     */
+    private volatile long scheduledTime = Long.MIN_VALUE;
+
+    /**
+     * Creates a new scheduler processing events on a work-stealing pool with the given number of threads.
+     *
+     * @param threads the parallelism of the pool
+     */
+    public ConcurrentEventScheduler(int threads) {
+        this(new ForkJoinPool(threads));
+    }
+
+    /**
+     * Creates a new scheduler processing events on the given pool.
+     *
+     * @param pool the pool to process the groups of events on
+     */
+    public ConcurrentEventScheduler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void addEvent(@Nonnull final Event event) {
+        if (event.getTime() < getScheduledTime()) {
+            throw new IllegalArgumentException("Event lies in the past.");
+        }
+        event.seqNr = SEQUENCE.getAndIncrement();
+        buckets.computeIfAbsent(event.getTime(), time -> new ConcurrentLinkedQueue<>()).add(event);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+    @Override
+    public long getNextEventTime() {
+        final Map.Entry<Long, Queue<Event>> first = buckets.firstEntry();
+        if (first == null) {
+            throw new IllegalStateException("No event in the queue.");
+        }
+        return first.getKey();
+    }
+
+    @Override
+    public long getScheduledTime() {
+        return scheduledTime;
+    }
+
+    @Override
+    @Nonnull
+    public int scheduleEvents(final long time) {
+        if (!buckets.isEmpty() && buckets.firstKey() < time) {
+            throw new RuntimeException("Scheduled event lies in the past.");
+        }
+        scheduledTime = time;
+        final Queue<Event> bucket = buckets.get(time);
+        if (bucket == null) {
+            return 0;
+        }
+
+        int processedEvents = 0;
+        try {
+            drain(bucket);
+            while (!pending.isEmpty()) {
+                // take all events with the lowest nice value
+                final long nice = pending.get(0).getNice();
+                int groupSize = 1;
+                while (groupSize < pending.size() && pending.get(groupSize).getNice() == nice) {
+                    groupSize++;
+                }
+                group.addAll(pending.subList(0, groupSize));
+                pending.subList(0, groupSize).clear();
+
+                processedEvents += executeGroup();
+                group.clear();
+
+                // consider events added for the current time while processing the group
+                drain(bucket);
+            }
+        } finally {
+            pending.clear();
+            group.clear();
+        }
+        // no events are processed anymore, hence no other thread may add events to the bucket at this point
+        buckets.remove(time);
+        return processedEvents;
+    }
+
+    /**
+     * Moves all events of the bucket to the pending events, keeping them sorted.
+     */
+    private void drain(Queue<Event> bucket) {
+        boolean added = false;
+        Event event;
+        while ((event = bucket.poll()) != null) {
+            pending.add(event);
+            added = true;
+        }
+        if (added) {
+            Collections.sort(pending);
+        }
+    }
+
+    private int executeGroup() {
+        if (group.size() < MIN_PARALLEL_EVENTS) {
+            int processedEvents = 0;
+            // small groups are executed on the calling thread, as handing them over to the pool costs more than it saves
+            for (int i = 0; i < group.size(); i++) {
+                processedEvents += group.get(i).execute();
+            }
+            return processedEvents;
+        }
+        final int eventsPerTask = Math.max(1, group.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        return pool.invoke(new GroupTask(group, eventsPerTask, 0, group.size()));
+    }
+
+    @Override
+    @Nonnull
+    public Set<Event> getAllEvents() {
+        final Set<Event> allEvents = new TreeSet<>();
+        for (Queue<Event> bucket : buckets.values()) {
+            allEvents.addAll(bucket);
+        }
+        return Collections.unmodifiableSet(allEvents);
+    }
+
+    /**
+     * Processes a range of events of a group, splitting it into sub tasks as long as it is large enough.
+     */
+    private static class GroupTask extends RecursiveTask<Integer> {
+
+        private final List<Event> events;
+        private final int eventsPerTask;
+        private final int from;
+        private final int to;
+
+        private GroupTask(List<Event> events, int eventsPerTask, int from, int to) {
+            this.events = events;
+            this.eventsPerTask = eventsPerTask;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= eventsPerTask) {
+                int processedEvents = 0;
+                for (int i = from; i < to; i++) {
+                    processedEvents += events.get(i).execute();
+                }
+                return processedEvents;
+            }
+            final int middle = (from + to) >>> 1;
+            final GroupTask right = new GroupTask(events, eventsPerTask, middle, to);
+            right.fork();
+            final int processedEvents = new GroupTask(events, eventsPerTask, from, middle).compute();
+            return processedEvents + right.join();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+public class TimeBucketCacheTest {
+
+    @Test
+    public void testSimpleAddAndGet() {
+        TimeBucketCache<Item> cache = new TimeBucketCache<>(10);
+        Item item = new Item(42);
+        cache.putItem(0, item);
+        assertSame(item, cache.getItem(42));
+        assertNull(cache.getItem(43));
+    }
+
+    @Test
+    public void testGarbageCollectionRemovesWholeBuckets() {
+        TimeBucketCache<Item> cache = new TimeBucketCache<>(10);
+        // buckets [0, 10), [10, 20), [20, 30)
+        Item[] items = new Item[30];
+        for (int i = 0; i < 30; i++) {
+            items[i] = new Item(i);
+            cache.putItem(i, items[i]);
+        }
+
+        // the bucket [10, 20) contains items newer than 15, and is kept
+        Collection<Integer> collected = cache.garbageCollection(15);
+        assertEquals(10, collected.size());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(collected.contains(i));
+            assertNull(cache.getItem(i));
+        }
+        assertEquals(20, cache.size());
+
+        collected = cache.garbageCollection(20);
+        assertEquals(10, collected.size());
+        assertSame(items[20], cache.getItem(20));
+        assertNull(cache.getItem(19));
+
+        assertTrue(cache.garbageCollection(20).isEmpty());
+        assertEquals(10, cache.garbageCollection(Long.MAX_VALUE).size());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testItemPutAgainIsKept() {
+        TimeBucketCache<Item> cache = new TimeBucketCache<>(10);
+        Item first = new Item(1);
+        Item second = new Item(2);
+        cache.putItem(0, first);
+        cache.putItem(5, second);
+        // sent again at later time
+        cache.putItem(25, second);
+
+        Collection<Integer> collected = cache.garbageCollection(20);
+        assertEquals(1, collected.size());
+        assertTrue(collected.contains(1));
+        assertSame(second, cache.getItem(2));
+
+        collected = cache.garbageCollection(30);
+        assertEquals(1, collected.size());
+        assertTrue(collected.contains(2));
+    }
+
+    @Test
+    public void testManyItems() {
+        TimeBucketCache<Item> cache = new TimeBucketCache<>(100);
+        // ids with colliding lower bits and negative ids
+        for (int i = 0; i < 10_000; i++) {
+            cache.putItem(i, new Item((i << 16) - 5_000));
+        }
+        assertEquals(10_000, cache.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals((i << 16) - 5_000, cache.getItem((i << 16) - 5_000).getId());
+        }
+
+        Set<Integer> collected = new HashSet<>(cache.garbageCollection(5_000));
+        assertEquals(5_000, collected.size());
+        for (int i = 0; i < 10_000; i++) {
+            Item item = cache.getItem((i << 16) - 5_000);
+            assertEquals(i < 5_000, collected.contains((i << 16) - 5_000));
+            assertEquals(i < 5_000, item == null);
+        }
+    }
+
+    private static class Item implements Identifiable {
+
+        private final int id;
+
+        private Item(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CalendarEventSchedulerTest {
+
+    /**
+     * Schedules the same random mix of periodic and one-shot events, which also spans multiple cycles
+     * of the calendar, with the {@link DefaultEventScheduler} and the {@link CalendarEventScheduler}
+     * and compares the order of processing.
+     */
+    @Test
+    public void sameOrderAsDefaultEventScheduler() {
+        final List<String> expected = run(new DefaultEventScheduler());
+        final List<String> actual = run(new CalendarEventScheduler(10, 4));
+
+        assertTrue(expected.size() > 1000);
+        assertEquals(expected, actual);
+    }
+
+    private List<String> run(EventScheduler eventScheduler) {
+        final List<String> processed = new ArrayList<>();
+        final Random random = new Random(1234L);
+
+        final EventProcessor processor = new EventProcessor() {
+            @Override
+            public void processEvent(Event event) {
+                processed.add(event.getTime() + "/" + event.getNice() + "/" + event.getResource());
+                if (random.nextDouble() < 0.3) {
+                    // one-shot event, possibly at the same time with a smaller nice value
+                    eventScheduler.addEvent(new Event(event.getTime() + random.nextInt(3) * random.nextInt(500),
+                            this, "once-" + processed.size(), random.nextInt(3)));
+                }
+            }
+
+            @Override
+            public boolean canProcessEvent() {
+                return true;
+            }
+        };
+        final EventProcessor periodic = new EventProcessor() {
+            @Override
+            public void processEvent(Event event) throws Exception {
+                processor.processEvent(event);
+                if (event.getTime() < 5000) {
+                    eventScheduler.addEvent(new Event(event.getTime() + 100, this, event.getResource(), event.getNice()));
+                }
+            }
+
+            @Override
+            public boolean canProcessEvent() {
+                return true;
+            }
+        };
+
+        for (int i = 0; i < 20; i++) {
+            eventScheduler.addEvent(new Event(random.nextInt(100), periodic, "periodic-" + i, random.nextInt(3)));
+        }
+        while (!eventScheduler.isEmpty()) {
+            eventScheduler.scheduleEvents(eventScheduler.getNextEventTime());
+        }
+        return processed;
+    }
+}
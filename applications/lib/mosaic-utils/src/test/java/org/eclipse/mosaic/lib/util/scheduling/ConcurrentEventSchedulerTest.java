@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentEventSchedulerTest {
+
+    private final ConcurrentEventScheduler eventScheduler = new ConcurrentEventScheduler(4);
+
+    private final AtomicInteger processedFirst = new AtomicInteger();
+    private final AtomicInteger processedFollowUp = new AtomicInteger();
+    private final AtomicInteger processedLater = new AtomicInteger();
+
+    /**
+     * Adds a follow-up event at the same time with a higher nice value, and one event in the future.
+     */
+    private final EventProcessor rescheduling = new EventProcessor() {
+        @Override
+        public void processEvent(Event event) {
+            processedFirst.incrementAndGet();
+            eventScheduler.addEvent(new Event(event.getTime(), followUp, null, event.getNice() + 1));
+            eventScheduler.addEvent(new Event(event.getTime() + 100, later));
+        }
+
+        @Override
+        public boolean canProcessEvent() {
+            return true;
+        }
+    };
+
+    private final EventProcessor followUp = new EventProcessor() {
+        @Override
+        public void processEvent(Event event) {
+            // all events of the lower nice value must have been processed before
+            assertEquals(1000, processedFirst.get());
+            processedFollowUp.incrementAndGet();
+        }
+
+        @Override
+        public boolean canProcessEvent() {
+            return true;
+        }
+    };
+
+    private final EventProcessor later = new EventProcessor() {
+        @Override
+        public void processEvent(Event event) {
+            processedLater.incrementAndGet();
+        }
+
+        @Override
+        public boolean canProcessEvent() {
+            return true;
+        }
+    };
+
+    @Test
+    public void scheduleEvents_addEventsFromWorkerThreads() {
+        // SETUP
+        for (int i = 0; i < 1000; i++) {
+            eventScheduler.addEvent(new Event(10, rescheduling));
+        }
+
+        // RUN
+        int processedEvents = eventScheduler.scheduleEvents(10);
+
+        // ASSERT
+        assertEquals(2000, processedEvents);
+        assertEquals(1000, processedFirst.get());
+        assertEquals(1000, processedFollowUp.get());
+        assertEquals(0, processedLater.get());
+        assertFalse(eventScheduler.isEmpty());
+        assertEquals(110, eventScheduler.getNextEventTime());
+        assertEquals(1000, eventScheduler.getAllEvents().size());
+
+        // RUN
+        processedEvents = eventScheduler.scheduleEvents(110);
+
+        // ASSERT
+        assertEquals(1000, processedEvents);
+        assertEquals(1000, processedLater.get());
+        assertTrue(eventScheduler.isEmpty());
+    }
+}
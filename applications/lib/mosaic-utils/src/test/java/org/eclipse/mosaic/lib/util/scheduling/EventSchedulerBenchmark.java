@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link DefaultEventScheduler} with the {@link CalendarEventScheduler} for a mix of events
+ * typical for the application simulator: each unit executes a periodic event every 100 ms, and a share of these
+ * events trigger one-shot events shortly after, e.g. the reception of a message sent by the unit.
+ * A single benchmark operation simulates one second.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventSchedulerBenchmark {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    private static final long PERIOD = 100 * MILLISECOND;
+
+    @Param({"default", "calendar"})
+    public String scheduler;
+
+    @Param({"100", "1000", "10000"})
+    public int units;
+
+    /**
+     * Share of periodic events which trigger a one-shot event.
+     */
+    @Param({"0.0", "0.5"})
+    public double oneShotShare;
+
+    private EventScheduler eventScheduler;
+
+    private final Random random = new Random(42L);
+
+    private final EventProcessor oneShot = new EventProcessor() {
+        @Override
+        public void processEvent(Event event) {
+            // nop
+        }
+
+        @Override
+        public boolean canProcessEvent() {
+            return true;
+        }
+    };
+
+    private final EventProcessor periodic = new EventProcessor() {
+        @Override
+        public void processEvent(Event event) {
+            eventScheduler.addEvent(new Event(event.getTime() + PERIOD, this, event.getResource()));
+            if (random.nextDouble() < oneShotShare) {
+                // e.g. a message reception with a delay between 0.1 ms and 5 ms
+                long delay = MILLISECOND / 10 + (long) (random.nextDouble() * 5 * MILLISECOND);
+                eventScheduler.addEvent(new Event(event.getTime() + delay, oneShot, null, 1));
+            }
+        }
+
+        @Override
+        public boolean canProcessEvent() {
+            return true;
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setup() {
+        eventScheduler = "calendar".equals(scheduler) ? new CalendarEventScheduler() : new DefaultEventScheduler();
+        for (int i = 0; i < units; i++) {
+            // units start at arbitrary full milliseconds, as they are added over time
+            eventScheduler.addEvent(new Event(random.nextInt(100) * MILLISECOND, periodic, i));
+        }
+    }
+
+    @Benchmark
+    public int simulateOneSecond() {
+        final long end = eventScheduler.getNextEventTime() + 1000 * MILLISECOND;
+        int processedEvents = 0;
+        while (eventScheduler.getNextEventTime() < end) {
+            processedEvents += eventScheduler.scheduleEvents(eventScheduler.getNextEventTime());
+        }
+        return processedEvents;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(EventSchedulerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -59,27 +59,34 @@ public class EventSchedulerTest {
 
     private final int eventSchedulerThreads;
 
+    private final String eventSchedulerType;
+
     /**
      * The event scheduler reference.
      */
     private EventScheduler eventScheduler;
 
-    public EventSchedulerTest(int eventSchedulerThreads) {
+    public EventSchedulerTest(int eventSchedulerThreads, String eventSchedulerType) {
         this.eventSchedulerThreads = eventSchedulerThreads;
+        this.eventSchedulerType = eventSchedulerType;
     }
 
     @Parameterized.Parameters
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
-                {1}, {2}
+                {1, "default"}, {1, "calendar"}, {2, "default"}, {2, "concurrent"}
         });
     }
 
     @Before
     public void setUp() {
         // create a new event scheduler
-        if (eventSchedulerThreads == 1) {
+        if (eventSchedulerThreads == 1 && "calendar".equals(eventSchedulerType)) {
+            eventScheduler = new CalendarEventScheduler();
+        } else if (eventSchedulerThreads == 1) {
             eventScheduler = new DefaultEventScheduler();
+        } else if ("concurrent".equals(eventSchedulerType)) {
+            eventScheduler = new ConcurrentEventScheduler(eventSchedulerThreads);
         } else {
             eventScheduler = new MultiThreadedEventScheduler(2);
         }
@@ -104,7 +104,9 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
         Interaction nextInteraction = interactionQueue.getNextInteraction(time);
         while (nextInteraction != null) {
             rti.getMonitor().onProcessInteraction(getId(), nextInteraction);
+            long startTime = System.nanoTime();
             processInteraction(nextInteraction);
+            rti.getMonitor().onEndProcessInteraction(getId(), nextInteraction, System.nanoTime() - startTime);
             nextInteraction = interactionQueue.getNextInteraction(time);
         }
         processTimeAdvanceGrant(time);
@@ -138,7 +140,9 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
             } else {
                 // not time constrained --> doesn't care about timestamps
                 rti.getMonitor().onProcessInteraction(getId(), interaction);
+                long startTime = System.nanoTime();
                 processInteraction(interaction);
+                rti.getMonitor().onEndProcessInteraction(getId(), interaction, System.nanoTime() - startTime);
                 // if fed is time regulating but not time constrained,
                 // it would have to request advance time before it may send
                 // any interaction to other federates
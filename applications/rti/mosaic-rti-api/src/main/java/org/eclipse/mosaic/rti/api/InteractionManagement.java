@@ -20,6 +20,7 @@ import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
 import com.google.common.collect.ImmutableCollection;
 
 import java.util.Collection;
+import javax.annotation.Nullable;
 
 /**
  * The <code>InteractionManagement</code> is responsible for the exchange of
@@ -54,6 +55,30 @@ public interface InteractionManagement {
      */
     ImmutableCollection<String> getSubscribedInteractions(String federateId);
 
+    /**
+     * Declares the interactions a federate may publish. Federates without such a declaration
+     * are considered to publish any interaction. The declaration is not enforced, but allows
+     * the time management to determine which federates can send interactions to each other.
+     *
+     * @param federateId     unique string identifying a federate
+     * @param interactionIds list of strings representing the interactions the federate may publish
+     * @throws IllegalArgumentException if the given federate is not known
+     */
+    default void declarePublications(String federateId, Collection<String> interactionIds) throws IllegalArgumentException {
+        // nop
+    }
+
+    /**
+     * Provides the interactions a federate has declared to publish.
+     *
+     * @param federateId unique string identifying a federate
+     * @return set of published interactions, or {@code null} if the federate may publish any interaction
+     */
+    @Nullable
+    default ImmutableCollection<String> getPublishedInteractions(String federateId) {
+        return null;
+    }
+
     /**
      * A published interaction is forwarded to each subscribed federate directly
      * after it has been published.
@@ -31,6 +31,17 @@ public interface Monitor {
         // nop
     }
 
+    /**
+     * Called after a federate has processed an interaction.
+     *
+     * @param id          the id of the federate which processed the interaction
+     * @param interaction the processed interaction
+     * @param durationNs  the wall-clock time spent for processing the interaction in nanoseconds
+     */
+    default void onEndProcessInteraction(String id, Interaction interaction, long durationNs) {
+        // nop
+    }
+
     default void onBeginSimulation(FederationManagement federationManagement, TimeManagement timeManagement, int numberOfThreads) {
         // nop
     }
@@ -26,6 +26,7 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.Collection;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * The federation handle is the description of a federate. If a federate is to
@@ -82,6 +83,11 @@ public class FederateDescriptor {
      */
     private Collection<InteractionDescriptor> interactions;
 
+    /**
+     * Interactions which a federate may publish, or {@code null} if it may publish any interaction.
+     */
+    private Collection<String> publications = null;
+
     /**
      * The priority assigned to the ambassador/federate. The lower the value,
      * the higher the priority of this ambassador/federate. Federates with an
@@ -146,6 +152,15 @@ public class FederateDescriptor {
         this.interactions = Validate.notNull(interactions, "The list of interactions for federate {} must not be null.", id);
     }
 
+    @Nullable
+    public Collection<String> getPublications() {
+        return publications;
+    }
+
+    public void setPublications(@Nullable Collection<String> publications) {
+        this.publications = publications;
+    }
+
     public Path getConfigTargetPath() {
         return this.configTargetPath;
     }
@@ -15,6 +15,8 @@
 
 package org.eclipse.mosaic.rti;
 
+import java.nio.file.Path;
+
 public class MosaicComponentParameters {
 
     /**
@@ -42,6 +44,23 @@ public class MosaicComponentParameters {
      */
     private int numberOfThreads = 1;
 
+    /**
+     * Defines whether the {@link org.eclipse.mosaic.rti.time.ConservativeTimeManagement} should be used
+     * instead of the default multi-threaded time management, if more than one thread is used.
+     */
+    private boolean conservativeTimeManagement = false;
+
+    /**
+     * The directory to write the results of the {@link org.eclipse.mosaic.rti.monitor.ProfilingMonitor} to.
+     * Profiling is disabled if not set.
+     */
+    private Path profilingDirectory;
+
+    /**
+     * The interval for writing profiling snapshots during the simulation. Unit: [ms]
+     */
+    private long profilingSnapshotInterval = 0;
+
     public String getFederationId() {
         return federationId;
     }
@@ -87,4 +106,31 @@ public class MosaicComponentParameters {
         return this;
     }
 
+    public boolean isConservativeTimeManagement() {
+        return conservativeTimeManagement;
+    }
+
+    public MosaicComponentParameters setConservativeTimeManagement(boolean conservativeTimeManagement) {
+        this.conservativeTimeManagement = conservativeTimeManagement;
+        return this;
+    }
+
+    public Path getProfilingDirectory() {
+        return profilingDirectory;
+    }
+
+    public MosaicComponentParameters setProfilingDirectory(Path profilingDirectory) {
+        this.profilingDirectory = profilingDirectory;
+        return this;
+    }
+
+    public long getProfilingSnapshotInterval() {
+        return profilingSnapshotInterval;
+    }
+
+    public MosaicComponentParameters setProfilingSnapshotInterval(long profilingSnapshotInterval) {
+        this.profilingSnapshotInterval = profilingSnapshotInterval;
+        return this;
+    }
+
 }
@@ -27,6 +27,8 @@ import org.eclipse.mosaic.rti.federation.DistributedFederationManagement;
 import org.eclipse.mosaic.rti.federation.LocalFederationManagement;
 import org.eclipse.mosaic.rti.interaction.TypeBasedInteractionManagement;
 import org.eclipse.mosaic.rti.monitor.ActivityLoggingMonitor;
+import org.eclipse.mosaic.rti.monitor.ProfilingMonitor;
+import org.eclipse.mosaic.rti.time.ConservativeTimeManagement;
 import org.eclipse.mosaic.rti.time.MultiThreadedTimeManagement;
 import org.eclipse.mosaic.rti.time.SequentialTimeManagement;
 
@@ -74,7 +76,9 @@ public class MosaicComponentProvider implements ComponentProvider {
     }
 
     protected TimeManagement createTimeManagement(MosaicComponentParameters componentParameters) {
-        if (componentParameters.getNumberOfThreads() > 1) {
+        if (componentParameters.getNumberOfThreads() > 1 && componentParameters.isConservativeTimeManagement()) {
+            return new ConservativeTimeManagement(this, componentParameters);
+        } else if (componentParameters.getNumberOfThreads() > 1) {
             return new MultiThreadedTimeManagement(this, componentParameters);
         } else {
             return new SequentialTimeManagement(this, componentParameters);
@@ -90,6 +94,9 @@ public class MosaicComponentProvider implements ComponentProvider {
     }
 
     protected Monitor createMonitor(MosaicComponentParameters componentParameters) {
+        if (componentParameters.getProfilingDirectory() != null) {
+            return new ProfilingMonitor(componentParameters.getProfilingDirectory(), componentParameters.getProfilingSnapshotInterval());
+        }
         Logger activityLog = LoggerFactory.getLogger("activities");
         if (activityLog != null && activityLog.isInfoEnabled()) {
             return new ActivityLoggingMonitor(activityLog);
@@ -36,11 +36,19 @@ import java.util.Map;
 
 /**
  * This implementation of {@link InteractionManagement} allows a type based message subscription.
+ *
+ * <p>Each subscribed interaction type is assigned an integer id when it is subscribed for the first time. Subscriptions
+ * are compiled into an immutable dispatch table, which holds the subscribed ambassadors sorted by priority at the index
+ * of the type id. The table is replaced as a whole whenever subscriptions change (copy-on-write), which usually only
+ * happens during the initialization of the federation. Therefore, publishing an interaction requires no synchronization,
+ * even if interactions are published by multiple threads.</p>
  */
 public class TypeBasedInteractionManagement implements InteractionManagement {
 
     private final static Logger LOG = LoggerFactory.getLogger(TypeBasedInteractionManagement.class);
 
+    private final static FederateAmbassador[] NO_SUBSCRIBERS = new FederateAmbassador[0];
+
     /**
      * mapping between an interaction type id and a list of subscribed ambassadors.
      */
@@ -48,12 +56,25 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
 
     protected final ComponentProvider federation;
 
+    /**
+     * mapping between a federate id and the interaction type ids the federate has declared to publish.
+     */
+    private final Map<String, ImmutableList<String>> publications = new HashMap<>();
+
+    /**
+     * mapping between an interaction type id and the integer id assigned on its first subscription.
+     */
+    private final Map<String, Integer> typeIndices = new HashMap<>();
+
+    private volatile DispatchTable dispatchTable = new DispatchTable(new HashMap<>(), new FederateAmbassador[0][]);
+
     public TypeBasedInteractionManagement(ComponentProvider federation) {
         this.federation = federation;
     }
 
     @Override
-    public void subscribeInteractions(String federateId, Collection<InteractionDescriptor> interactionIds) throws IllegalArgumentException {
+    public synchronized void subscribeInteractions(String federateId, Collection<InteractionDescriptor> interactionIds)
+            throws IllegalArgumentException {
         if (!federation.getFederationManagement().isFederateJoined(federateId)) {
             throw new IllegalArgumentException("Federate with id \"" + federateId + "\" is unknown.");
         }
@@ -61,32 +82,42 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
         final FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(federateId);
 
         for (InteractionDescriptor interaction : interactionIds) {
+            typeIndices.computeIfAbsent(interaction.interactionId, (k) -> typeIndices.size());
             List<FederateAmbassador> subscribedAmbassadors =
                     interactionAmbassadorMap.computeIfAbsent(interaction.interactionId, (k) -> new ArrayList<>());
 
             if (!subscribedAmbassadors.contains(ambassador)) {
                 subscribedAmbassadors.add(ambassador);
+                // sort order of ambassadors according to priority for each message
+                Collections.sort(subscribedAmbassadors);
             }
         }
-        // sort order of ambassadors according to priority for each message
-        for (List<FederateAmbassador> ambassadorMessageMapping : interactionAmbassadorMap.values()) {
-            Collections.sort(ambassadorMessageMapping);
-        }
+        updateDispatchTable();
     }
 
     @Override
-    public void cancelInteractionSubscription(String federateId, Collection<String> interactionIds) {
+    public synchronized void cancelInteractionSubscription(String federateId, Collection<String> interactionIds) {
         if (interactionIds != null) {
             for (String intId : interactionIds) {
                 if (interactionAmbassadorMap.containsKey(intId)) {
                     interactionAmbassadorMap.get(intId).remove(federation.getFederationManagement().getAmbassador(federateId));
                 }
             }
+            updateDispatchTable();
+        }
+    }
+
+    private void updateDispatchTable() {
+        final FederateAmbassador[][] subscribers = new FederateAmbassador[typeIndices.size()][];
+        for (Map.Entry<String, Integer> entry : typeIndices.entrySet()) {
+            final List<FederateAmbassador> ambassadors = interactionAmbassadorMap.get(entry.getKey());
+            subscribers[entry.getValue()] = ambassadors != null ? ambassadors.toArray(NO_SUBSCRIBERS) : NO_SUBSCRIBERS;
         }
+        dispatchTable = new DispatchTable(new HashMap<>(typeIndices), subscribers);
     }
 
     @Override
-    public ImmutableCollection<String> getSubscribedInteractions(String federateId) {
+    public synchronized ImmutableCollection<String> getSubscribedInteractions(String federateId) {
         final ArrayList<String> subscribedInteractions = new ArrayList<>();
         FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(federateId);
         for (Map.Entry<String, List<FederateAmbassador>> entry : interactionAmbassadorMap.entrySet()) {
@@ -98,16 +129,27 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
         return ImmutableList.copyOf(subscribedInteractions);
     }
 
+    @Override
+    public synchronized void declarePublications(String federateId, Collection<String> interactionIds)
+            throws IllegalArgumentException {
+        if (!federation.getFederationManagement().isFederateJoined(federateId)) {
+            throw new IllegalArgumentException("Federate with id \"" + federateId + "\" is unknown.");
+        }
+        publications.put(federateId, ImmutableList.copyOf(interactionIds));
+    }
+
+    @Override
+    public synchronized ImmutableCollection<String> getPublishedInteractions(String federateId) {
+        return publications.get(federateId);
+    }
+
     @Override
     public void publishInteraction(Interaction interaction) throws InternalFederateException {
         federation.getMonitor().onInteraction(interaction);
 
-        List<FederateAmbassador> ambassadors = this.interactionAmbassadorMap.get(interaction.getTypeId());
-        if (ambassadors == null || ambassadors.isEmpty()) {
-            return;
-        }
-
-        for (FederateAmbassador ambassador : ambassadors) {
+        final FederateAmbassador[] ambassadors = this.dispatchTable.getSubscribers(interaction.getTypeId());
+        for (int i = 0; i < ambassadors.length; i++) {
+            final FederateAmbassador ambassador = ambassadors[i];
             try {
                 federation.getMonitor().onReceiveInteraction(ambassador.getId(), interaction);
                 ambassador.receiveInteraction(interaction);
@@ -117,4 +159,30 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
             }
         }
     }
+
+    /**
+     * Immutable snapshot of all subscriptions, which is never modified after its creation.
+     */
+    private static final class DispatchTable {
+
+        /**
+         * mapping between an interaction type id and the index of its subscribers.
+         */
+        private final Map<String, Integer> typeIndices;
+
+        /**
+         * The subscribed ambassadors sorted by priority, indexed by the integer id of the interaction type.
+         */
+        private final FederateAmbassador[][] subscribers;
+
+        private DispatchTable(Map<String, Integer> typeIndices, FederateAmbassador[][] subscribers) {
+            this.typeIndices = typeIndices;
+            this.subscribers = subscribers;
+        }
+
+        private FederateAmbassador[] getSubscribers(String typeId) {
+            final Integer typeIndex = typeIndices.get(typeId);
+            return typeIndex != null ? subscribers[typeIndex] : NO_SUBSCRIBERS;
+        }
+    }
 }
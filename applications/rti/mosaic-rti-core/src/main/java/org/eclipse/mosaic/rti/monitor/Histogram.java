@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe histogram for non-negative values with exponentially growing buckets. The bucket with index i
+ * holds all values within [2^(i-1), 2^i), bucket 0 holds the value 0. Percentiles are therefore estimated
+ * with a relative error of at most a factor of two, whereas count, sum, minimum and maximum are exact.
+ */
+public class Histogram {
+
+    private final long[] buckets = new long[Long.SIZE];
+
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    /**
+     * Adds the given value to this histogram. Negative values are counted as 0.
+     *
+     * @param value the value to add
+     */
+    public synchronized void add(long value) {
+        value = Math.max(0, value);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getSum() {
+        return sum;
+    }
+
+    public synchronized long getMin() {
+        return count > 0 ? min : 0;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    public synchronized double getMean() {
+        return count > 0 ? (double) sum / count : 0;
+    }
+
+    /**
+     * Estimates the value below which the given share of all values lies, using the upper bound of the
+     * according bucket, but never exceeding the maximum value.
+     *
+     * @param percentile the percentile within [0, 1]
+     * @return the estimated value
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long accumulated = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            accumulated += buckets[i];
+            if (accumulated >= rank) {
+                return Math.min(max, i == 0 ? 0 : (1L << i) - 1);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns all non-empty buckets, mapping the lower bound of a bucket to the number of its values.
+     */
+    public synchronized Map<Long, Long> getBuckets() {
+        final Map<Long, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] > 0) {
+                result.put(i == 0 ? 0 : 1L << (i - 1), buckets[i]);
+            }
+        }
+        return result;
+    }
+}
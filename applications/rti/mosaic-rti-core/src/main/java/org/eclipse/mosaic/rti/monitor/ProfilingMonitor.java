@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the wall-clock time spent by each federate, as well as counts and processing times per interaction type,
+ * in order to identify the federate which slows down the simulation. The following files are written to the
+ * output directory at the end of the simulation:
+ * <ul>
+ *     <li>{@code profiling-federates.csv}: time advance and interaction processing times per federate</li>
+ *     <li>{@code profiling-interactions.csv}: counts and processing times per interaction type</li>
+ *     <li>{@code profiling.json}: all statistics including the histogram buckets</li>
+ * </ul>
+ * If a snapshot interval is given, the current statistics of each federate are additionally
+ * appended to {@code profiling-snapshots.csv} periodically during the simulation.
+ *
+ * <p>The queue depth of a federate is the number of interactions which have been delivered to the federate
+ * but not yet processed, sampled whenever a new interaction is delivered.</p>
+ */
+public class ProfilingMonitor implements Monitor {
+
+    private static final String DELIMITER = ";";
+
+    private static final Logger log = LoggerFactory.getLogger(ProfilingMonitor.class);
+
+    private final Path outputDirectory;
+
+    /**
+     * Interval for writing snapshots. Unit: [ms]. Snapshots are disabled if set to 0 or less.
+     */
+    private final long snapshotIntervalMs;
+
+    private final Map<String, FederateStatistics> federates = new ConcurrentHashMap<>();
+
+    private final Map<String, InteractionStatistics> interactions = new ConcurrentHashMap<>();
+
+    /**
+     * Start of each running activity, required to measure activities with nanosecond resolution.
+     */
+    private final Map<FederateEvent, Long> runningActivities = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private volatile long simulationTime;
+
+    private long startRealtimeNs;
+
+    private ScheduledExecutorService snapshotExecutor;
+
+    public ProfilingMonitor(Path outputDirectory, long snapshotIntervalMs) {
+        this.outputDirectory = outputDirectory;
+        this.snapshotIntervalMs = snapshotIntervalMs;
+    }
+
+    @Override
+    public void onBeginSimulation(FederationManagement federationManagement, TimeManagement timeManagement, int numberOfThreads) {
+        startRealtimeNs = System.nanoTime();
+        for (FederateAmbassador ambassador : federationManagement.getAmbassadors()) {
+            getFederate(ambassador.getId());
+        }
+        if (snapshotIntervalMs > 0) {
+            snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "ProfilingMonitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotExecutor.scheduleAtFixedRate(this::writeSnapshot, snapshotIntervalMs, snapshotIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void onEndSimulation(FederationManagement federationManagement, TimeManagement timeManagement, long durationInMs, int statusCode) {
+        if (snapshotExecutor != null) {
+            snapshotExecutor.shutdownNow();
+        }
+        try {
+            Files.createDirectories(outputDirectory);
+            writeFederatesCsv(outputDirectory.resolve("profiling-federates.csv"));
+            writeInteractionsCsv(outputDirectory.resolve("profiling-interactions.csv"));
+            writeJson(outputDirectory.resolve("profiling.json"), durationInMs);
+        } catch (IOException e) {
+            log.error("Could not write profiling results to {}", outputDirectory, e);
+        }
+    }
+
+    @Override
+    public void onBeginActivity(FederateEvent event) {
+        simulationTime = event.getRequestedTime();
+        runningActivities.put(event, System.nanoTime());
+    }
+
+    @Override
+    public void onEndActivity(FederateEvent event, long durationMs) {
+        final Long start = runningActivities.remove(event);
+        final long durationNs = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(durationMs);
+        getFederate(event.getFederateId()).activities.add(durationNs);
+    }
+
+    @Override
+    public void onInteraction(Interaction interaction) {
+        getInteraction(interaction.getTypeId()).sent.incrementAndGet();
+        if (interaction.getSenderId() != null) {
+            getFederate(interaction.getSenderId()).sent.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onReceiveInteraction(String id, Interaction interaction) {
+        getInteraction(interaction.getTypeId()).delivered.incrementAndGet();
+        final FederateStatistics federate = getFederate(id);
+        final long received = federate.received.incrementAndGet();
+        federate.queueDepth.add(received - federate.processed.get());
+    }
+
+    @Override
+    public void onEndProcessInteraction(String id, Interaction interaction, long durationNs) {
+        getInteraction(interaction.getTypeId()).processing.add(durationNs);
+        final FederateStatistics federate = getFederate(id);
+        federate.processed.incrementAndGet();
+        federate.processing.add(durationNs);
+    }
+
+    private FederateStatistics getFederate(String id) {
+        return federates.computeIfAbsent(id, k -> new FederateStatistics());
+    }
+
+    private InteractionStatistics getInteraction(String typeId) {
+        return interactions.computeIfAbsent(typeId, k -> new InteractionStatistics());
+    }
+
+    private void writeSnapshot() {
+        final Path file = outputDirectory.resolve("profiling-snapshots.csv");
+        try {
+            Files.createDirectories(outputDirectory);
+            final boolean writeHeader = !Files.exists(file);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (writeHeader) {
+                    writer.write(String.join(DELIMITER, "realtimeMs", "simulationTime", "federate", "activities",
+                            "activitiesTotalMs", "interactionsReceived", "interactionsProcessed", "queueDepth") + "\n");
+                }
+                final long realtimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startRealtimeNs);
+                for (Map.Entry<String, FederateStatistics> entry : new TreeMap<>(federates).entrySet()) {
+                    final FederateStatistics federate = entry.getValue();
+                    final long processed = federate.processed.get();
+                    writer.write(String.join(DELIMITER,
+                            Long.toString(realtimeMs),
+                            Long.toString(simulationTime),
+                            entry.getKey(),
+                            Long.toString(federate.activities.getCount()),
+                            toMs(federate.activities.getSum()),
+                            Long.toString(federate.received.get()),
+                            Long.toString(processed),
+                            Long.toString(Math.max(0, federate.received.get() - processed))
+                    ) + "\n");
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not write profiling snapshot to {}", file, e);
+        }
+    }
+
+    private void writeFederatesCsv(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(String.join(DELIMITER, "federate", "activities", "activitiesTotalMs", "activitiesMeanUs",
+                    "activitiesP50Us", "activitiesP95Us", "activitiesP99Us", "activitiesMaxUs", "interactionsSent",
+                    "interactionsReceived", "interactionsProcessed", "processingTotalMs", "processingMeanUs",
+                    "processingMaxUs", "queueDepthMean", "queueDepthMax") + "\n");
+            for (Map.Entry<String, FederateStatistics> entry : new TreeMap<>(federates).entrySet()) {
+                final FederateStatistics federate = entry.getValue();
+                writer.write(String.join(DELIMITER,
+                        entry.getKey(),
+                        Long.toString(federate.activities.getCount()),
+                        toMs(federate.activities.getSum()),
+                        toUs(federate.activities.getMean()),
+                        toUs(federate.activities.getPercentile(0.5)),
+                        toUs(federate.activities.getPercentile(0.95)),
+                        toUs(federate.activities.getPercentile(0.99)),
+                        toUs(federate.activities.getMax()),
+                        Long.toString(federate.sent.get()),
+                        Long.toString(federate.received.get()),
+                        Long.toString(federate.processed.get()),
+                        toMs(federate.processing.getSum()),
+                        toUs(federate.processing.getMean()),
+                        toUs(federate.processing.getMax()),
+                        String.format(Locale.ENGLISH, "%.2f", federate.queueDepth.getMean()),
+                        Long.toString(federate.queueDepth.getMax())
+                ) + "\n");
+            }
+        }
+    }
+
+    private void writeInteractionsCsv(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(String.join(DELIMITER, "interaction", "sent", "delivered", "processed", "processingTotalMs",
+                    "processingMeanUs", "processingP95Us", "processingMaxUs") + "\n");
+            for (Map.Entry<String, InteractionStatistics> entry : new TreeMap<>(interactions).entrySet()) {
+                final InteractionStatistics interaction = entry.getValue();
+                writer.write(String.join(DELIMITER,
+                        entry.getKey(),
+                        Long.toString(interaction.sent.get()),
+                        Long.toString(interaction.delivered.get()),
+                        Long.toString(interaction.processing.getCount()),
+                        toMs(interaction.processing.getSum()),
+                        toUs(interaction.processing.getMean()),
+                        toUs(interaction.processing.getPercentile(0.95)),
+                        toUs(interaction.processing.getMax())
+                ) + "\n");
+            }
+        }
+    }
+
+    private void writeJson(Path file, long durationInMs) throws IOException {
+        final Map<String, Object> federatesJson = new LinkedHashMap<>();
+        for (Map.Entry<String, FederateStatistics> entry : new TreeMap<>(federates).entrySet()) {
+            final FederateStatistics federate = entry.getValue();
+            final Map<String, Object> json = new LinkedHashMap<>();
+            json.put("activitiesNs", toJson(federate.activities));
+            json.put("processingNs", toJson(federate.processing));
+            json.put("queueDepth", toJson(federate.queueDepth));
+            json.put("interactionsSent", federate.sent.get());
+            json.put("interactionsReceived", federate.received.get());
+            json.put("interactionsProcessed", federate.processed.get());
+            federatesJson.put(entry.getKey(), json);
+        }
+        final Map<String, Object> interactionsJson = new LinkedHashMap<>();
+        for (Map.Entry<String, InteractionStatistics> entry : new TreeMap<>(interactions).entrySet()) {
+            final Map<String, Object> json = new LinkedHashMap<>();
+            json.put("sent", entry.getValue().sent.get());
+            json.put("delivered", entry.getValue().delivered.get());
+            json.put("processingNs", toJson(entry.getValue().processing));
+            interactionsJson.put(entry.getKey(), json);
+        }
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("durationMs", durationInMs);
+        result.put("simulationTime", simulationTime);
+        result.put("federates", federatesJson);
+        result.put("interactions", interactionsJson);
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(result, writer);
+        }
+    }
+
+    private static Map<String, Object> toJson(Histogram histogram) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("count", histogram.getCount());
+        json.put("sum", histogram.getSum());
+        json.put("min", histogram.getMin());
+        json.put("max", histogram.getMax());
+        json.put("mean", histogram.getMean());
+        json.put("p50", histogram.getPercentile(0.5));
+        json.put("p95", histogram.getPercentile(0.95));
+        json.put("p99", histogram.getPercentile(0.99));
+        json.put("buckets", histogram.getBuckets());
+        return json;
+    }
+
+    private static String toMs(long ns) {
+        return String.format(Locale.ENGLISH, "%.3f", ns / 1_000_000d);
+    }
+
+    private static String toUs(double ns) {
+        return String.format(Locale.ENGLISH, "%.3f", ns / 1_000d);
+    }
+
+    private static class FederateStatistics {
+        private final Histogram activities = new Histogram();
+        private final Histogram processing = new Histogram();
+        private final Histogram queueDepth = new Histogram();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong processed = new AtomicLong();
+    }
+
+    private static class InteractionStatistics {
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+        private final Histogram processing = new Histogram();
+    }
+}
@@ -36,9 +36,13 @@ import org.slf4j.LoggerFactory;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Observable;
 import java.util.Queue;
 import javax.annotation.Nonnull;
@@ -78,6 +82,14 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
      */
     protected final Queue<FederateEvent> events;
 
+    /**
+     * The pending requests of each federate, guarded by the lock of {@link #events}. A request of a time
+     * which is already pending for the same federate is discarded without creating a new {@link FederateEvent},
+     * so that each requested time is granted only once. Requests are released when their event is taken
+     * from the queue to be granted.
+     */
+    private final Map<String, List<FederateEvent>> pendingRequests = new HashMap<>();
+
     protected final ComponentProvider federation;
 
     /**
@@ -120,9 +132,61 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
             ));
         }
         synchronized (this.events) {
-            FederateEvent e = new FederateEvent(federateId, time, lookahead, priority);
-            if (!this.events.contains(e)) {
-                this.events.add(e);
+            final List<FederateEvent> pending = pendingRequests.computeIfAbsent(federateId, id -> new ArrayList<>());
+            for (int i = 0; i < pending.size(); i++) {
+                final FederateEvent previous = pending.get(i);
+                if (previous.getRequestedTime() != time) {
+                    continue;
+                }
+                if (lookahead >= previous.getLookahead()) {
+                    return;
+                }
+                // a smaller lookahead restricts the parallel execution, hence it replaces the pending request
+                removeEvent(previous);
+                pending.remove(i);
+                break;
+            }
+            final FederateEvent event = new FederateEvent(federateId, time, lookahead, priority);
+            pending.add(event);
+            addEvent(event);
+        }
+    }
+
+    /**
+     * Adds the given event, which has not been requested before, to the queue of events.
+     * Called while holding the lock of {@link #events}.
+     *
+     * @param event the event requested by a federate
+     */
+    protected void addEvent(FederateEvent event) {
+        this.events.add(event);
+    }
+
+    /**
+     * Removes the given event from the queue of events, as it has been replaced by another request.
+     * Called while holding the lock of {@link #events}.
+     *
+     * @param event the event to remove
+     */
+    protected void removeEvent(FederateEvent event) {
+        this.events.remove(event);
+    }
+
+    /**
+     * Releases the request of the given event, which has been taken from the queue to be granted. Afterwards,
+     * the federate may request the same time again. Called while holding the lock of {@link #events}.
+     *
+     * @param event the event taken from the queue
+     */
+    protected final void releaseRequest(FederateEvent event) {
+        final List<FederateEvent> pending = pendingRequests.get(event.getFederateId());
+        if (pending == null) {
+            return;
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            if (pending.get(i) == event) {
+                pending.remove(i);
+                return;
             }
         }
     }
@@ -164,6 +228,9 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
                 fed.finishSimulation();
             }
         } finally {
+            synchronized (this.events) {
+                this.pendingRequests.clear();
+            }
             PerformanceMonitor.getInstance().logSummary(logger);
             // always print simulation finished even if federate throws exception on finishing
             printSimulationFinished(durationMs, statusCode);
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Multi-threaded implementation of the {@link org.eclipse.mosaic.rti.api.TimeManagement} following a conservative
+ * synchronization approach. In each step, a window of events is determined which can be processed in parallel
+ * without any federate missing an interaction it would have received in a sequential execution.
+ *
+ * <p>The next event of a federate B at time t is added to the window, if no other federate A which may send
+ * interactions to B can be activated before B's event and send an interaction with a time stamp of t or lower. An
+ * interaction of A can reach B only, if A may publish at least one interaction B has subscribed to. Federates
+ * which have not declared their publications (see {@link InteractionManagement#getPublishedInteractions}) may
+ * publish any interaction. The earliest time stamp of interactions sent by A is the time of A's next
+ * activation plus its lookahead. The lookahead of a time regulating federate is the one it requested most recently,
+ * whereas federates which are not time regulating may send interactions at their current time, i.e. with a lookahead of 0.
+ * Activations are propagated along these dependencies, as an interaction may trigger a time advance
+ * of a federate which in turn sends interactions to B. As with the {@link MultiThreadedTimeManagement}, events
+ * of the same time and priority are considered as independent of each other.</p>
+ *
+ * <p>The events of each federate are kept in a separate queue, while {@link #events} only holds the next event
+ * of each federate. Thus, determining the window does not depend on the number of pending events.</p>
+ */
+public class ConservativeTimeManagement extends AbstractTimeManagement {
+
+    private final ExecutorService executorService;
+
+    private final int numberOfThreads;
+
+    /**
+     * The most recent lookahead requested by each federate.
+     */
+    private final Map<String, Long> lookaheads = new ConcurrentHashMap<>();
+
+    /**
+     * All pending events of each federate, guarded by the lock of {@link #events}.
+     */
+    private final Map<String, Queue<FederateEvent>> eventsByFederate = new HashMap<>();
+
+    /**
+     * The federates taken into account when determining the window, which is initialized
+     * after all federates have subscribed to their interactions and declared their publications.
+     */
+    private Map<String, FederateInfo> federates;
+
+    public ConservativeTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
+        super(federation, componentParameters);
+        this.numberOfThreads = componentParameters.getNumberOfThreads();
+        this.executorService = Executors.newFixedThreadPool(numberOfThreads);
+    }
+
+    @Override
+    public void requestAdvanceTime(String federateId, long time, long lookahead, byte priority) throws IllegalValueException {
+        lookaheads.put(federateId, lookahead);
+        super.requestAdvanceTime(federateId, time, lookahead, priority);
+    }
+
+    @Override
+    protected void addEvent(FederateEvent event) {
+        final Queue<FederateEvent> federateEvents =
+                eventsByFederate.computeIfAbsent(event.getFederateId(), id -> new PriorityQueue<>());
+        final FederateEvent previousNextEvent = federateEvents.peek();
+        federateEvents.add(event);
+        if (federateEvents.peek() == event) {
+            if (previousNextEvent != null) {
+                this.events.remove(previousNextEvent);
+            }
+            this.events.add(event);
+        }
+    }
+
+    @Override
+    protected void removeEvent(FederateEvent event) {
+        final Queue<FederateEvent> federateEvents = eventsByFederate.get(event.getFederateId());
+        final boolean nextEvent = federateEvents.peek() == event;
+        federateEvents.remove(event);
+        if (nextEvent) {
+            this.events.remove(event);
+            if (!federateEvents.isEmpty()) {
+                this.events.add(federateEvents.peek());
+            }
+        }
+    }
+
+    @Override
+    public void runSimulation() throws InternalFederateException, IllegalValueException {
+        federation.getMonitor().onBeginSimulation(federation.getFederationManagement(), this, numberOfThreads);
+
+        this.prepareSimulationRun();
+
+        final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
+        long currentRealtimeNs;
+
+        while (this.time <= getEndTime()) {
+            final List<FederateEvent> window = selectSafeEvents();
+            if (window.isEmpty()) {
+                this.logger.trace("No more messages in event queue. Finishing simulation run.");
+                this.time = getEndTime();
+                break;
+            }
+            this.time = window.get(0).getRequestedTime();
+
+            if (window.size() == 1) {
+                advanceTime(window.get(0));
+            } else {
+                advanceTimeInParallel(window);
+            }
+
+            currentRealtimeNs = System.nanoTime();
+
+            final PerformanceInformation performanceInformation =
+                    performanceCalculator.update(time, getEndTime(), currentRealtimeNs);
+
+            printProgress(currentRealtimeNs, performanceInformation);
+            updateWatchDog();
+        }
+
+        this.finishSimulationRun(STATUS_CODE_SUCCESS);
+    }
+
+    private void advanceTime(FederateEvent event) throws InternalFederateException {
+        final FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(event.getFederateId());
+        if (ambassador != null) {
+            federation.getMonitor().onBeginActivity(event);
+            long startTime = System.currentTimeMillis();
+            ambassador.advanceTime(event.getRequestedTime());
+            federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private void advanceTimeInParallel(List<FederateEvent> window) throws InternalFederateException {
+        final List<Callable<Void>> tasks = new ArrayList<>(window.size());
+        for (FederateEvent event : window) {
+            this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
+            tasks.add(() -> {
+                advanceTime(event);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : executorService.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalFederateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InternalFederateException) {
+                throw (InternalFederateException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new InternalFederateException((Exception) e.getCause());
+        }
+    }
+
+    /**
+     * Removes all events from the queue which can be processed in parallel, and returns them in the order of the queue.
+     *
+     * @return the events of the window, or an empty list if there is no event left until the end time
+     */
+    List<FederateEvent> selectSafeEvents() {
+        if (federates == null) {
+            federates = createFederateInfos();
+        }
+        synchronized (this.events) {
+            // only the next event of each federate is a candidate for the window
+            final FederateEvent[] candidates = this.events.toArray(new FederateEvent[0]);
+            Arrays.sort(candidates);
+
+            final Map<String, FederateEvent> nextEvents = new LinkedHashMap<>();
+            for (FederateEvent event : candidates) {
+                if (event.getRequestedTime() > getEndTime()) {
+                    break;
+                }
+                nextEvents.put(event.getFederateId(), event);
+            }
+
+            final List<FederateEvent> window = new ArrayList<>();
+            for (FederateEvent candidate : nextEvents.values()) {
+                if (window.isEmpty() || isSafe(candidate, nextEvents)) {
+                    window.add(candidate);
+                }
+            }
+            for (FederateEvent event : window) {
+                releaseRequest(event);
+                this.events.remove(event);
+                final Queue<FederateEvent> federateEvents = eventsByFederate.get(event.getFederateId());
+                federateEvents.poll();
+                if (!federateEvents.isEmpty()) {
+                    this.events.add(federateEvents.peek());
+                }
+            }
+            return window;
+        }
+    }
+
+    /**
+     * Checks if the given event can be processed without waiting for the next events of all other federates.
+     */
+    private boolean isSafe(FederateEvent candidate, Map<String, FederateEvent> nextEvents) {
+        // determine the earliest activation of all other federates, the candidate itself does not forward anything
+        final Map<String, Activation> activations = new HashMap<>();
+        for (FederateEvent event : nextEvents.values()) {
+            if (!event.getFederateId().equals(candidate.getFederateId())) {
+                activations.put(event.getFederateId(), new Activation(
+                        event.getRequestedTime(), event.getPriority(), getLookahead(event.getFederateId(), event.getLookahead())
+                ));
+            }
+        }
+        boolean changed = true;
+        for (int iteration = 0; changed && iteration < federates.size(); iteration++) {
+            changed = false;
+            for (Map.Entry<String, Activation> sender : new ArrayList<>(activations.entrySet())) {
+                final long outputTime = sender.getValue().getOutputTime();
+                if (outputTime > candidate.getRequestedTime()) {
+                    continue;
+                }
+                for (FederateInfo federate : federates.values()) {
+                    if (federate.id.equals(candidate.getFederateId()) || !canSend(sender.getKey(), federate.id)) {
+                        continue;
+                    }
+                    final Activation current = activations.get(federate.id);
+                    if (current == null || outputTime < current.time) {
+                        activations.put(federate.id, new Activation(
+                                outputTime, federate.priority, getLookahead(federate.id, lookaheads.getOrDefault(federate.id, 0L))
+                        ));
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<String, Activation> sender : activations.entrySet()) {
+            final Activation activation = sender.getValue();
+            if (canSend(sender.getKey(), candidate.getFederateId())
+                    && activation.precedes(candidate)
+                    && activation.getOutputTime() <= candidate.getRequestedTime()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the given sender may publish interactions the given receiver has subscribed to.
+     * Federates which are unknown to the federation management are considered to be connected to all others.
+     */
+    private boolean canSend(String senderId, String receiverId) {
+        final FederateInfo sender = federates.get(senderId);
+        return sender == null || !federates.containsKey(receiverId) || sender.receivers.contains(receiverId);
+    }
+
+    /**
+     * Returns the lookahead of the given federate. Federates which are not time regulating request their time
+     * advances without any lookahead, but may send interactions at their current time nevertheless.
+     */
+    private long getLookahead(String federateId, long requestedLookahead) {
+        final FederateInfo federate = federates.get(federateId);
+        return federate == null || federate.regulating ? requestedLookahead : 0;
+    }
+
+    private Map<String, FederateInfo> createFederateInfos() {
+        final InteractionManagement interactionManagement = federation.getInteractionManagement();
+        final Collection<FederateAmbassador> ambassadors = federation.getFederationManagement().getAmbassadors();
+
+        final Map<String, FederateInfo> result = new LinkedHashMap<>();
+        for (FederateAmbassador sender : ambassadors) {
+            final Set<String> receivers = new HashSet<>();
+            for (FederateAmbassador receiver : ambassadors) {
+                if (receiver != sender && isConnected(interactionManagement, sender.getId(), receiver.getId())) {
+                    receivers.add(receiver.getId());
+                }
+            }
+            result.put(sender.getId(), new FederateInfo(
+                    sender.getId(), sender.getPriority(), sender.isTimeRegulating(), receivers
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the sender has declared to publish at least one interaction the receiver has subscribed to. Without
+     * knowing the subscriptions, or if the sender has not declared its publications, all federates are connected.
+     */
+    private static boolean isConnected(InteractionManagement interactionManagement, String senderId, String receiverId) {
+        if (interactionManagement == null) {
+            return true;
+        }
+        final Collection<String> subscriptions = interactionManagement.getSubscribedInteractions(receiverId);
+        final Collection<String> publications = interactionManagement.getPublishedInteractions(senderId);
+        return publications == null
+                ? !subscriptions.isEmpty()
+                : !Collections.disjoint(publications, subscriptions);
+    }
+
+    @Override
+    public void finishSimulationRun(int statusCode) throws InternalFederateException {
+        this.executorService.shutdown();
+        synchronized (this.events) {
+            this.events.clear();
+            this.eventsByFederate.clear();
+        }
+        super.finishSimulationRun(statusCode);
+    }
+
+    private static class FederateInfo {
+        private final String id;
+        private final byte priority;
+        private final boolean regulating;
+        /**
+         * The federates which have subscribed to at least one interaction this federate may publish.
+         */
+        private final Set<String> receivers;
+
+        private FederateInfo(String id, byte priority, boolean regulating, Set<String> receivers) {
+            this.id = id;
+            this.priority = priority;
+            this.regulating = regulating;
+            this.receivers = receivers;
+        }
+    }
+
+    /**
+     * The earliest time a federate may be advanced.
+     */
+    private static class Activation {
+        private final long time;
+        private final byte priority;
+        private final long lookahead;
+
+        private Activation(long time, byte priority, long lookahead) {
+            this.time = time;
+            this.priority = priority;
+            this.lookahead = lookahead;
+        }
+
+        private long getOutputTime() {
+            return lookahead > Long.MAX_VALUE - time ? Long.MAX_VALUE : time + lookahead;
+        }
+
+        /**
+         * Checks if this activation is processed before the given event in a sequential execution.
+         */
+        private boolean precedes(FederateEvent event) {
+            return time < event.getRequestedTime()
+                    || (time == event.getRequestedTime() && FederatePriority.compareTo(priority, event.getPriority()) > 0);
+        }
+    }
+}
@@ -79,6 +79,9 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
             // remove first event of queue
             synchronized (this.events) {
                 event = this.events.poll();
+                if (event != null) {
+                    releaseRequest(event);
+                }
             }
 
             if (event != null) {
@@ -115,6 +118,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                 ) {
                     synchronized (events) {
                         event = this.events.poll();
+                        releaseRequest(event);
                     }
                     this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
                     federation.getMonitor().onScheduling(id, event);
@@ -79,6 +79,7 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
                     this.time = getEndTime();
                     break;
                 } else {
+                    releaseRequest(event);
                     this.time = event.getRequestedTime();
                 }
             }
@@ -127,4 +127,38 @@ public class InteractionManagementTest {
         verify(ambassadorMock1, times(1)).receiveInteraction(same(interactionType1));
         verify(ambassadorMock1, never()).receiveInteraction(same(interactionType2));
     }
+
+    /**
+     * ambassador1 subscribes to one interaction type, ambassador2 subscribes to another type later on.
+     * Interactions are published before and after the second subscription.
+     * It is verified that the second subscription takes effect only for interactions published afterwards.
+     */
+    @Test
+    public void subscribe_subscribeAfterPublish_ambassadorReceivesLaterInteractions() throws Exception {
+        //SETUP
+        interactionManagement.subscribeInteractions("ambassador1", Lists.newArrayList(new InteractionDescriptor("type1")));
+
+        final Interaction interactionType2Before = new TestDummyInteraction(0, "type2");
+        final Interaction interactionType1 = new TestDummyInteraction(1, "type1");
+        final Interaction interactionType2After = new TestDummyInteraction(2, "type2");
+
+        //RUN
+        interactionManagement.publishInteraction(interactionType2Before);
+        interactionManagement.subscribeInteractions("ambassador2", Lists.newArrayList(new InteractionDescriptor("type2")));
+        interactionManagement.publishInteraction(interactionType1);
+        interactionManagement.publishInteraction(interactionType2After);
+
+        //ASSERT
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+
+        verify(ambassadorMock1, times(1)).receiveInteraction(same(interactionType1));
+        verify(ambassadorMock2, never()).receiveInteraction(same(interactionType1));
+
+        verify(ambassadorMock1, never()).receiveInteraction(same(interactionType2Before));
+        verify(ambassadorMock2, never()).receiveInteraction(same(interactionType2Before));
+
+        verify(ambassadorMock1, never()).receiveInteraction(same(interactionType2After));
+        verify(ambassadorMock2, times(1)).receiveInteraction(same(interactionType2After));
+    }
 }
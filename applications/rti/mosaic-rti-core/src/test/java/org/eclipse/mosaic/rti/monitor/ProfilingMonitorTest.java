@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+import org.eclipse.mosaic.rti.junit.FederationManagementRule;
+import org.eclipse.mosaic.rti.junit.TestDummyInteraction;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ProfilingMonitorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public FederationManagementRule fedManagement = new FederationManagementRule("sumo", "application");
+
+    @Test
+    public void histogram() {
+        final Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.add(i);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getSum());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 0.001);
+        // rank 50 lies in the bucket [32, 64)
+        assertEquals(63, histogram.getPercentile(0.5));
+        assertEquals(100, histogram.getPercentile(1.0));
+        assertEquals(Long.valueOf(37), histogram.getBuckets().get(64L));
+    }
+
+    @Test
+    public void writeResults() throws Exception {
+        //SETUP
+        final Path outputDirectory = temporaryFolder.getRoot().toPath().resolve("profiling");
+        final ProfilingMonitor monitor = new ProfilingMonitor(outputDirectory, 0);
+        final FederationManagement federationManagement = fedManagement.getFederationManagementMock();
+        for (String id : new String[]{"sumo", "application"}) {
+            final FederateAmbassador ambassador = fedManagement.getAmbassador(id);
+            Mockito.when(ambassador.getId()).thenReturn(id);
+        }
+
+        //RUN
+        monitor.onBeginSimulation(federationManagement, mock(TimeManagement.class), 1);
+
+        final FederateEvent event = new FederateEvent("sumo", TIME.SECOND, 0, (byte) 1);
+        monitor.onBeginActivity(event);
+        monitor.onEndActivity(event, 0);
+
+        final TestDummyInteraction interaction = new TestDummyInteraction(TIME.SECOND, "VehicleUpdates");
+        monitor.onInteraction(interaction);
+        monitor.onReceiveInteraction("application", interaction);
+        monitor.onReceiveInteraction("application", interaction);
+        monitor.onEndProcessInteraction("application", interaction, 2_000_000);
+
+        monitor.onEndSimulation(federationManagement, mock(TimeManagement.class), 100, 0);
+
+        //ASSERT
+        final List<String> federates = Files.readAllLines(outputDirectory.resolve("profiling-federates.csv"), StandardCharsets.UTF_8);
+        assertEquals(3, federates.size());
+        assertTrue(federates.get(0).startsWith("federate;activities;"));
+        assertTrue(federates.get(1).startsWith("application;0;"));
+        assertTrue(federates.get(2).startsWith("sumo;1;"));
+
+        final List<String> interactions = Files.readAllLines(outputDirectory.resolve("profiling-interactions.csv"), StandardCharsets.UTF_8);
+        assertEquals(2, interactions.size());
+        assertEquals("VehicleUpdates;1;2;1;2.000;2000.000;2000.000;2000.000", interactions.get(1));
+
+        final JsonObject json = JsonParser.parseString(
+                new String(Files.readAllBytes(outputDirectory.resolve("profiling.json")), StandardCharsets.UTF_8)
+        ).getAsJsonObject();
+        final JsonObject application = json.getAsJsonObject("federates").getAsJsonObject("application");
+        assertEquals(2, application.get("interactionsReceived").getAsLong());
+        assertEquals(1, application.get("interactionsProcessed").getAsLong());
+        assertEquals(2, application.getAsJsonObject("queueDepth").get("max").getAsLong());
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ConservativeTimeManagementTest extends SequentialTimeManagementTest {
+
+    private final ComponentProvider componentProviderMock = mock(ComponentProvider.class);
+
+    @Override
+    protected TimeManagement createTimeManagement(ComponentProvider componentProvider) {
+        return new ConservativeTimeManagement(componentProvider, new MosaicComponentParameters().setNumberOfThreads(2).setEndTime(20 * TIME.SECOND));
+    }
+
+    @Before
+    public void setupAmbassadors() {
+        for (String id : Lists.newArrayList("ambassador1", "ambassador2")) {
+            when(fedManagement.getAmbassador(id).getId()).thenReturn(id);
+            when(fedManagement.getAmbassador(id).isTimeRegulating()).thenReturn(true);
+            when(fedManagement.getAmbassador(id).getPriority()).thenReturn((byte) 1);
+        }
+        when(componentProviderMock.getFederationManagement()).thenReturn(fedManagement.getFederationManagementMock());
+    }
+
+    /**
+     * The lookahead of ambassador1 guarantees that it cannot send an interaction
+     * to ambassador2 before ambassador2 has been advanced.
+     */
+    @Test
+    public void selectSafeEvents_sufficientLookahead() throws Exception {
+        //SETUP
+        final ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("ambassador1", 0, 5 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 6 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN + ASSERT
+        assertEquals(Lists.newArrayList("ambassador1@0", "ambassador2@1000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Lists.newArrayList("ambassador2@6000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Collections.emptyList(), toString(timeManagement.selectSafeEvents()));
+    }
+
+    /**
+     * Without lookahead, ambassador1 could send an interaction to ambassador2 with
+     * a time stamp prior to the next event of ambassador2.
+     */
+    @Test
+    public void selectSafeEvents_insufficientLookahead() throws Exception {
+        //SETUP
+        final ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("ambassador1", 0, TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN + ASSERT
+        assertEquals(Lists.newArrayList("ambassador1@0"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Lists.newArrayList("ambassador2@2000000000"), toString(timeManagement.selectSafeEvents()));
+    }
+
+    /**
+     * ambassador2 has not subscribed to any interaction and can therefore always be advanced.
+     */
+    @Test
+    public void selectSafeEvents_noSubscriptions() throws Exception {
+        //SETUP
+        final InteractionManagement interactionManagement = mock(InteractionManagement.class);
+        when(interactionManagement.getSubscribedInteractions("ambassador1")).thenReturn(ImmutableList.of("Interaction"));
+        when(interactionManagement.getSubscribedInteractions("ambassador2")).thenReturn(ImmutableList.of());
+        when(componentProviderMock.getInteractionManagement()).thenReturn(interactionManagement);
+
+        final ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN + ASSERT
+        assertEquals(Lists.newArrayList("ambassador1@0", "ambassador2@2000000000"), toString(timeManagement.selectSafeEvents()));
+    }
+
+    /**
+     * ambassador1 (e.g. the output federate) does not publish any interaction ambassador2 has subscribed to.
+     * Therefore, ambassador2 can be advanced in parallel, even if ambassador1 has no lookahead.
+     */
+    @Test
+    public void selectSafeEvents_unrelatedPublications() throws Exception {
+        //SETUP
+        final InteractionManagement interactionManagement = mock(InteractionManagement.class);
+        when(interactionManagement.getSubscribedInteractions("ambassador1")).thenReturn(ImmutableList.of("VehicleUpdates"));
+        when(interactionManagement.getSubscribedInteractions("ambassador2")).thenReturn(ImmutableList.of("V2xMessageTransmission"));
+        when(interactionManagement.getPublishedInteractions("ambassador1")).thenReturn(ImmutableList.of("VehicleRegistration"));
+        when(interactionManagement.getPublishedInteractions("ambassador2")).thenReturn(ImmutableList.of("VehicleUpdates"));
+        when(componentProviderMock.getInteractionManagement()).thenReturn(interactionManagement);
+
+        final ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador1", 3 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN + ASSERT
+        assertEquals(Lists.newArrayList("ambassador1@0", "ambassador2@2000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Lists.newArrayList("ambassador1@3000000000"), toString(timeManagement.selectSafeEvents()));
+    }
+
+    /**
+     * ambassador1 publishes an interaction ambassador2 has subscribed to. Therefore, without lookahead,
+     * ambassador2 must wait until ambassador1 has been advanced.
+     */
+    @Test
+    public void selectSafeEvents_matchingPublications() throws Exception {
+        //SETUP
+        final InteractionManagement interactionManagement = mock(InteractionManagement.class);
+        when(interactionManagement.getSubscribedInteractions("ambassador1")).thenReturn(ImmutableList.of("VehicleUpdates"));
+        when(interactionManagement.getSubscribedInteractions("ambassador2")).thenReturn(ImmutableList.of("V2xMessageTransmission"));
+        when(interactionManagement.getPublishedInteractions("ambassador1")).thenReturn(ImmutableList.of("V2xMessageTransmission"));
+        when(interactionManagement.getPublishedInteractions("ambassador2")).thenReturn(ImmutableList.of("VehicleUpdates"));
+        when(componentProviderMock.getInteractionManagement()).thenReturn(interactionManagement);
+
+        final ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN + ASSERT
+        assertEquals(Lists.newArrayList("ambassador1@0"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Lists.newArrayList("ambassador2@2000000000"), toString(timeManagement.selectSafeEvents()));
+    }
+
+    /**
+     * ambassador1 (e.g. the application simulator) is not time regulating, but may still send interactions at the
+     * time of its next event. Therefore, the later event of ambassador2 (e.g. SUMO) must not be part of the same window.
+     */
+    @Test
+    public void selectSafeEvents_nonRegulatingSender() throws Exception {
+        //SETUP
+        when(fedManagement.getAmbassador("ambassador1").isTimeRegulating()).thenReturn(false);
+
+        final ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("ambassador1", TIME.SECOND, Long.MAX_VALUE, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 3 * TIME.SECOND, TIME.SECOND, (byte) 1);
+
+        //RUN + ASSERT
+        assertEquals(Lists.newArrayList("ambassador1@1000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Lists.newArrayList("ambassador2@2000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Lists.newArrayList("ambassador2@3000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Collections.emptyList(), toString(timeManagement.selectSafeEvents()));
+    }
+
+    /**
+     * Events requested after the window has been determined replace the next event of a federate, if they are earlier.
+     */
+    @Test
+    public void selectSafeEvents_earlierEventRequestedLater() throws Exception {
+        //SETUP
+        final ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 5 * TIME.SECOND, 0, (byte) 1);
+
+        assertEquals(Lists.newArrayList("ambassador1@0"), toString(timeManagement.selectSafeEvents()));
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN + ASSERT
+        assertEquals(2 * TIME.SECOND, timeManagement.getNextEventTimestamp());
+        assertEquals(Lists.newArrayList("ambassador2@2000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Lists.newArrayList("ambassador2@5000000000"), toString(timeManagement.selectSafeEvents()));
+        assertEquals(Collections.emptyList(), toString(timeManagement.selectSafeEvents()));
+    }
+
+    private ConservativeTimeManagement createConservativeTimeManagement() {
+        return new ConservativeTimeManagement(componentProviderMock,
+                new MosaicComponentParameters().setNumberOfThreads(2).setEndTime(20 * TIME.SECOND));
+    }
+
+    private static List<String> toString(List<FederateEvent> events) {
+        final List<String> result = new ArrayList<>();
+        for (FederateEvent event : events) {
+            result.add(event.getFederateId() + "@" + event.getRequestedTime());
+        }
+        return result;
+    }
+}
@@ -16,8 +16,10 @@
 package org.eclipse.mosaic.rti.time;
 
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +37,8 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 
 /**
  * Test which checks {@link SequentialTimeManagement}
@@ -97,4 +101,33 @@ public class SequentialTimeManagementTest {
         verify(ambassadorMock2).finishSimulation();
     }
 
+    /**
+     * ambassador1 requests the same time twice with different lookaheads, and once again when this time is granted.
+     * It is verified that the pending time is granted only once, and that it can be requested again after the grant.
+     */
+    @Test
+    public void repeatedAdvanceTimeRequests() throws Exception {
+        //SETUP
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final AtomicBoolean requestedAgain = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (!requestedAgain.getAndSet(true)) {
+                timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, 0, (byte) 1);
+            }
+            return null;
+        }).when(ambassadorMock1).advanceTime(2 * TIME.SECOND);
+
+        timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 5 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        verify(ambassadorMock1, times(2)).advanceTime(eq(2 * TIME.SECOND));
+        verify(fedManagement.getAmbassador("ambassador2")).advanceTime(eq(5 * TIME.SECOND));
+    }
+
 }
@@ -101,6 +101,7 @@ public class MosaicSimulation {
 
     private String federationId;
     private String simulationId;
+    private Path logDirectory;
 
     public MosaicSimulation setRuntimeConfiguration(CRuntime runtimeConfiguration) {
         this.runtimeConfiguration = runtimeConfiguration;
@@ -179,7 +180,12 @@ public class MosaicSimulation {
             printMosaicVersion();
 
             final MosaicComponentParameters simParams = readSimulationParameters(scenarioConfiguration)
-                    .setNumberOfThreads(runtimeConfiguration.threads);
+                    .setNumberOfThreads(runtimeConfiguration.threads)
+                    .setConservativeTimeManagement(runtimeConfiguration.conservativeTimeManagement);
+            if (runtimeConfiguration.profiling) {
+                simParams.setProfilingDirectory(logDirectory)
+                        .setProfilingSnapshotInterval(runtimeConfiguration.profilingSnapshotInterval * 1000);
+            }
 
             initializeSingletons(scenarioConfiguration);
 
@@ -353,6 +359,7 @@ public class MosaicSimulation {
 
         descriptor.setJavaFederateParameters(readJavaFederateParameters(federate));
         descriptor.setInteractions(getInteractionDescriptors(federate));
+        descriptor.setPublications(federate.publications);
 
         descriptor.setDeployAndUndeploy(federate.deploy);
         if (descriptor.isToDeployAndUndeploy()) {
@@ -455,6 +462,9 @@ public class MosaicSimulation {
         for (FederateDescriptor descriptor : federates) {
             federation.addFederate(descriptor);
             inter.subscribeInteractions(descriptor.getId(), descriptor.getInteractions());
+            if (descriptor.getPublications() != null) {
+                inter.declarePublications(descriptor.getId(), descriptor.getPublications());
+            }
             time.updateWatchDog();
         }
         return componentProvider;
@@ -483,7 +493,6 @@ public class MosaicSimulation {
 
         //if the read value is the standard value, then it should be one scenario we are about to simulate,
         //so we just go the standard way
-        Path logDirectory;
         if ("${logDirectory}".equals(logDirectoryValue) || logDirectoryValue == null) {
             logDirectory = LOG_DIRECTORY.resolve("log-" + simulationId);
         } else {
@@ -33,6 +33,24 @@ public class CRuntime {
      */
     public int threads = 1;
 
+    /**
+     * If set to {@code true} and more than one thread is used, federates are advanced in parallel
+     * if it is guaranteed by their lookahead that they cannot influence each other, instead of
+     * only parallelizing events with equal time stamps and priority.
+     */
+    public boolean conservativeTimeManagement = false;
+
+    /**
+     * If set to {@code true}, the wall-clock time spent by each federate and for each interaction type
+     * is measured and written to the log directory of the simulation at the end of the simulation.
+     */
+    public boolean profiling = false;
+
+    /**
+     * Interval in which snapshots of the profiling results are written during the simulation. Unit: [s].
+     * Snapshots are disabled if set to 0.
+     */
+    public long profilingSnapshotInterval = 0;
 
     public List<CFederate> federates = new ArrayList<>();
 
@@ -58,6 +76,13 @@ public class CRuntime {
 
         public List<String> subscriptions = new ArrayList<>();
 
+        /**
+         * The interactions this federate may publish. If not set, the federate may publish
+         * any interaction. Only used to determine the dependencies between federates, e.g.
+         * by the {@link org.eclipse.mosaic.rti.time.ConservativeTimeManagement}.
+         */
+        public List<String> publications = null;
+
         public String javaCustomArgument;
         public Integer javaMemorySizeXmx;
 